@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.spring.githubchangeloggenerator;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,6 @@ import java.util.regex.Pattern;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
-import org.springframework.util.Assert;
 
 import io.spring.githubchangeloggenerator.github.service.Repository;
 
@@ -75,17 +75,40 @@ public class ApplicationProperties {
 	 */
 	private final boolean addSections;
 
+	/**
+	 * True to skip regenerating a changelog when its milestones and configuration are
+	 * unchanged since it was last generated.
+	 */
+	private final boolean skipUnchanged;
+
+	/**
+	 * True to store a manifest of the lines rendered for each issue next to a changelog
+	 * so that only issues that have been updated are summarized again when it is
+	 * regenerated.
+	 */
+	private final boolean incremental;
+
+	/**
+	 * Additional formats in which to write the changelog, alongside the Markdown
+	 * changelog. Each is written to a file with the changelog's name and the format's
+	 * extension.
+	 */
+	private final List<OutputFormat> formats;
+
 	public ApplicationProperties(Repository repository, @DefaultValue("title") MilestoneReference milestoneReference,
 			List<Section> sections, Issues issues, Contributors contributors, List<ExternalLink> externalLinks,
-			@DefaultValue("false") boolean addSections) {
-		Assert.notNull(repository, "Repository must not be null");
+			@DefaultValue("false") boolean addSections, @DefaultValue("false") boolean skipUnchanged,
+			@DefaultValue("false") boolean incremental, List<OutputFormat> formats) {
 		this.repository = repository;
 		this.milestoneReference = milestoneReference;
 		this.sections = (sections != null) ? sections : Collections.emptyList();
-		this.issues = (issues != null) ? issues : new Issues(null, null, null, true);
+		this.issues = (issues != null) ? issues : new Issues(null, null, null, true, null, null);
 		this.contributors = (contributors != null) ? contributors : new Contributors(null, null);
 		this.externalLinks = (externalLinks != null) ? externalLinks : Collections.emptyList();
 		this.addSections = addSections;
+		this.skipUnchanged = skipUnchanged;
+		this.incremental = incremental;
+		this.formats = (formats != null) ? formats : Collections.emptyList();
 	}
 
 	public Repository getRepository() {
@@ -116,6 +139,18 @@ public class ApplicationProperties {
 		return this.addSections;
 	}
 
+	public boolean isSkipUnchanged() {
+		return this.skipUnchanged;
+	}
+
+	public boolean isIncremental() {
+		return this.incremental;
+	}
+
+	public List<OutputFormat> getFormats() {
+		return this.formats;
+	}
+
 	/**
 	 * Properties for a single changelog section.
 	 */
@@ -210,12 +245,26 @@ public class ApplicationProperties {
 		 */
 		private final boolean generateLinks;
 
+		/**
+		 * How the issues in a milestone are fetched.
+		 */
+		private final IssueFetch fetch;
+
+		/**
+		 * Limits on the evaluation of the regular expressions that are matched against
+		 * issue bodies.
+		 */
+		private final Expressions expressions;
+
 		public Issues(IssueSort sort, IssuesExclude exclude, Set<PortedIssue> ports,
-				@DefaultValue("true") boolean generateLinks) {
+				@DefaultValue("true") boolean generateLinks, @DefaultValue("list") IssueFetch fetch,
+				Expressions expressions) {
 			this.sort = sort;
 			this.exclude = (exclude != null) ? exclude : new IssuesExclude(null);
 			this.ports = (ports != null) ? ports : Collections.emptySet();
 			this.generateLinks = generateLinks;
+			this.fetch = (fetch != null) ? fetch : IssueFetch.LIST;
+			this.expressions = (expressions != null) ? expressions : new Expressions(null, null, null);
 		}
 
 		public IssueSort getSort() {
@@ -234,6 +283,14 @@ public class ApplicationProperties {
 			return this.generateLinks;
 		}
 
+		public IssueFetch getFetch() {
+			return this.fetch;
+		}
+
+		public Expressions getExpressions() {
+			return this.expressions;
+		}
+
 	}
 
 	/**
@@ -287,6 +344,50 @@ public class ApplicationProperties {
 
 	}
 
+	/**
+	 * Limits on the evaluation of the regular expressions that are matched against issue
+	 * bodies.
+	 */
+	public static class Expressions {
+
+		/**
+		 * Maximum number of characters of an issue's body that an expression is matched
+		 * against. Longer bodies are truncated. Unbounded when not set.
+		 */
+		private final Integer maxLength;
+
+		/**
+		 * Maximum time that matching an expression against an issue's body may take
+		 * before the body is treated as not matching. Unbounded when not set.
+		 */
+		private final Duration timeBudget;
+
+		/**
+		 * The engine used to match expressions.
+		 */
+		private final ExpressionEngine engine;
+
+		public Expressions(Integer maxLength, Duration timeBudget,
+				@DefaultValue("backtracking") ExpressionEngine engine) {
+			this.maxLength = maxLength;
+			this.timeBudget = timeBudget;
+			this.engine = (engine != null) ? engine : ExpressionEngine.BACKTRACKING;
+		}
+
+		public Integer getMaxLength() {
+			return this.maxLength;
+		}
+
+		public Duration getTimeBudget() {
+			return this.timeBudget;
+		}
+
+		public ExpressionEngine getEngine() {
+			return this.engine;
+		}
+
+	}
+
 	/**
 	 * Properties relating to constructors.
 	 */
@@ -381,6 +482,90 @@ public class ApplicationProperties {
 
 	}
 
+	/**
+	 * The way that the issues in a milestone are fetched.
+	 */
+	public enum IssueFetch {
+
+		/**
+		 * List every closed issue in the milestone and exclude issues once they have been
+		 * fetched.
+		 */
+		LIST,
+
+		/**
+		 * Search for the closed issues in the milestone, excluding issues in the search
+		 * query so that they are not fetched.
+		 */
+		SEARCH,
+
+		/**
+		 * List the closed issues in the milestone without their bodies and then fetch the
+		 * bodies of the issues that need them in batches. Requires a token.
+		 */
+		BODIES_ON_DEMAND,
+
+		/**
+		 * List every closed issue in the milestone, classifying each page of issues as
+		 * soon as it arrives and fetching the ported issues and comments that it needs
+		 * while later pages are being listed.
+		 */
+		PIPELINED
+
+	}
+
+	/**
+	 * The engine used to match the regular expressions that are matched against issue
+	 * bodies.
+	 */
+	public enum ExpressionEngine {
+
+		/**
+		 * Match every expression using {@link Pattern}, abandoning a match once its time
+		 * budget has been used.
+		 */
+		BACKTRACKING,
+
+		/**
+		 * Match expressions in time proportional to the length of the body when their
+		 * syntax allows it, falling back to {@link #BACKTRACKING} otherwise.
+		 */
+		LINEAR
+
+	}
+
+	/**
+	 * A format in which a changelog can be written in addition to Markdown.
+	 */
+	public enum OutputFormat {
+
+		/**
+		 * AsciiDoc, written to a file with an {@code .adoc} extension.
+		 */
+		ASCIIDOC("adoc"),
+
+		/**
+		 * HTML, written to a file with an {@code .html} extension.
+		 */
+		HTML("html"),
+
+		/**
+		 * JSON, written to a file with a {@code .json} extension.
+		 */
+		JSON("json");
+
+		private final String extension;
+
+		OutputFormat(String extension) {
+			this.extension = extension;
+		}
+
+		public String getExtension() {
+			return this.extension;
+		}
+
+	}
+
 	/**
 	 * The type of changelog entry.
 	 */
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import io.spring.githubchangeloggenerator.ApplicationProperties.ExternalLink;
+import io.spring.githubchangeloggenerator.Changelog.Entry;
+import io.spring.githubchangeloggenerator.Changelog.Section;
+
+/**
+ * {@link ChangelogRenderer} for AsciiDoc.
+ *
+ * @author agent
+ */
+class AsciidocRenderer implements ChangelogRenderer {
+
+	private static final String FORMATTING_CHARACTERS = "*_#^~[";
+
+	@Override
+	public String render(Changelog changelog) {
+		StringBuilder content = new StringBuilder();
+		for (Section section : changelog.getSections()) {
+			addHeading(content, section.getTitle());
+			section.getEntries().stream().map(this::formatEntry).forEach(content::append);
+		}
+		if (!changelog.getContributors().isEmpty()) {
+			addHeading(content,
+					(changelog.getContributorsTitle() != null) ? changelog.getContributorsTitle() : "Contributors");
+			content.append(String.format("Thank you to all the contributors who worked on this release:%n%n"));
+			changelog.getContributors()
+				.forEach((name) -> content.append(String.format("* https://github.com/%s[@%s]%n", name, name)));
+		}
+		if (!changelog.getExternalLinks().isEmpty()) {
+			addHeading(content, "External Links");
+			changelog.getExternalLinks().stream().map(this::formatExternalLink).forEach(content::append);
+		}
+		return content.toString();
+	}
+
+	private void addHeading(StringBuilder content, String title) {
+		content.append((content.length() != 0) ? String.format("%n") : "");
+		content.append("== ").append(title).append(String.format("%n%n"));
+	}
+
+	private String formatEntry(Entry entry) {
+		String summary = escape(entry.getSummary());
+		return (entry.getUrl() != null) ? String.format("* %s %s[#%s]%n", summary, entry.getUrl(), entry.getNumber())
+				: String.format("* %s%n", summary);
+	}
+
+	private String formatExternalLink(ExternalLink externalLink) {
+		return String.format("* %s[%s]%n", externalLink.getLocation(), escape(externalLink.getName()));
+	}
+
+	/**
+	 * Escape each word that contains characters that AsciiDoc could treat as formatting
+	 * by enclosing it in an inline passthrough, leaving code spans that are enclosed in
+	 * backticks unchanged. Unlike a backslash, a passthrough never appears in the output
+	 * when the characters would not have formed formatting.
+	 * @param input the input to escape
+	 * @return the escaped input
+	 */
+	private String escape(String input) {
+		StringBuilder result = new StringBuilder(input.length());
+		StringBuilder word = new StringBuilder();
+		boolean withinBackticks = false;
+		for (char c : input.toCharArray()) {
+			if (withinBackticks) {
+				result.append(c);
+				withinBackticks = c != '`';
+			}
+			else if (c == '`' || Character.isWhitespace(c)) {
+				appendWord(result, word);
+				result.append(c);
+				withinBackticks = c == '`';
+			}
+			else {
+				word.append(c);
+			}
+		}
+		appendWord(result, word);
+		return result.toString();
+	}
+
+	private void appendWord(StringBuilder result, StringBuilder word) {
+		if (!containsFormatting(word)) {
+			result.append(word);
+		}
+		else {
+			int end = word.length();
+			while (word.charAt(end - 1) == '\\') {
+				end--;
+			}
+			result.append("pass:c[").append(word.substring(0, end).replace("]", "\\]")).append(']');
+			result.append(word, end, word.length());
+		}
+		word.setLength(0);
+	}
+
+	private boolean containsFormatting(CharSequence word) {
+		for (int i = 0; i < word.length(); i++) {
+			if (FORMATTING_CHARACTERS.indexOf(word.charAt(i)) != -1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import io.spring.githubchangeloggenerator.github.service.GitHubService;
+
+/**
+ * Generates changelogs for each of the targets listed in a YAML manifest. Each target
+ * identifies a milestone, the file to write and any {@code changelog} properties that
+ * should override those of the application, typically including the
+ * {@code repository}. Targets are processed concurrently by a fixed number of threads,
+ * each of which blocks while its requests to GitHub are made, and share a single
+ * {@link GitHubService} and, therefore, its HTTP client, caches and rate limit budget.
+ * Completed targets are recorded in a checkpoint file, identified by their repository,
+ * milestone and file, so that a failed batch can be resumed.
+ *
+ * @author agent
+ */
+@Component
+public class BatchGenerator {
+
+	private static final int DEFAULT_PARALLELISM = 4;
+
+	private final GitHubService service;
+
+	private final Environment environment;
+
+	public BatchGenerator(GitHubService service, Environment environment) {
+		this.service = service;
+		this.environment = environment;
+	}
+
+	/**
+	 * Generate the changelogs for each target in the given manifest that is not already
+	 * recorded as complete in the given checkpoint file. The checkpoint file is deleted
+	 * once every target has been generated.
+	 * @param manifest the manifest file
+	 * @param checkpoint the checkpoint file
+	 * @param report the report to update or {@code null}
+	 * @throws IOException if the manifest or checkpoint could not be read
+	 */
+	public void generate(File manifest, File checkpoint, GenerationReport report) throws IOException {
+		List<PropertySource<?>> manifestSources = new YamlPropertySourceLoader().load("manifest",
+				new FileSystemResource(manifest));
+		Binder manifestBinder = new Binder(ConfigurationPropertySources.from(manifestSources));
+		int parallelism = manifestBinder.bind("parallelism", Integer.class).orElse(DEFAULT_PARALLELISM);
+		List<Target> targets = manifestBinder.bind("targets", Bindable.listOf(Target.class))
+			.orElse(Collections.emptyList());
+		Set<String> completed = readCheckpoint(checkpoint);
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		try {
+			Map<String, Future<?>> futures = new LinkedHashMap<>();
+			for (int i = 0; i < targets.size(); i++) {
+				Target target = targets.get(i);
+				ApplicationProperties properties = getProperties(manifestSources, "targets[" + i + "]");
+				String key = properties.getRepository() + " " + target.getMilestone() + " " + target.getFile();
+				if (!completed.contains(key)) {
+					futures.put(key, executor.submit(() -> {
+						generate(target, properties, report);
+						recordCompleted(checkpoint, key);
+						return null;
+					}));
+				}
+			}
+			List<String> failures = new ArrayList<>();
+			for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+				String failure = await(entry.getValue());
+				if (failure != null) {
+					failures.add(entry.getKey() + " (" + failure + ")");
+				}
+			}
+			Assert.state(failures.isEmpty(), () -> "Unable to generate changelogs for " + failures);
+			Files.deleteIfExists(checkpoint.toPath());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private ApplicationProperties getProperties(List<PropertySource<?>> manifestSources, String prefix) {
+		List<ConfigurationPropertySource> sources = new ArrayList<>();
+		ConfigurationPropertySources.from(manifestSources).forEach((source) -> sources.add(source.withPrefix(prefix)));
+		ConfigurationPropertySources.get(this.environment).forEach(sources::add);
+		return new Binder(sources).bind("changelog", ApplicationProperties.class).get();
+	}
+
+	private void generate(Target target, ApplicationProperties properties, GenerationReport report)
+			throws IOException {
+		Assert.hasLength(target.getMilestone(), "Milestone must be specified");
+		Assert.hasLength(target.getFile(), "File must be specified");
+		new ChangelogGenerator(this.service, properties).generate(target.getMilestone(), target.getFile(), report);
+	}
+
+	private String await(Future<?> future) {
+		try {
+			future.get();
+			return null;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while generating changelogs", ex);
+		}
+		catch (ExecutionException ex) {
+			return ex.getCause().toString();
+		}
+	}
+
+	private Set<String> readCheckpoint(File checkpoint) throws IOException {
+		if (!checkpoint.exists()) {
+			return Collections.emptySet();
+		}
+		return new HashSet<>(Files.readAllLines(checkpoint.toPath(), StandardCharsets.UTF_8));
+	}
+
+	private synchronized void recordCompleted(File checkpoint, String key) throws IOException {
+		Files.writeString(checkpoint.toPath(), key + System.lineSeparator(), StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * A single target in a batch manifest.
+	 */
+	public static class Target {
+
+		/**
+		 * Milestone for which the changelog should be generated.
+		 */
+		private final String milestone;
+
+		/**
+		 * Path of the file to which the changelog should be written.
+		 */
+		private final String file;
+
+		public Target(String milestone, String file) {
+			this.milestone = milestone;
+			this.file = file;
+		}
+
+		public String getMilestone() {
+			return this.milestone;
+		}
+
+		public String getFile() {
+			return this.file;
+		}
+
+	}
+
+}
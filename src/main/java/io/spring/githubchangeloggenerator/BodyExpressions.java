@@ -0,0 +1,267 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import io.spring.githubchangeloggenerator.ApplicationProperties.ExpressionEngine;
+import io.spring.githubchangeloggenerator.ApplicationProperties.Expressions;
+import io.spring.githubchangeloggenerator.GenerationReport.ExpressionCost;
+
+/**
+ * Evaluates the user-configured regular expressions that are matched against issue
+ * bodies within optional limits. Bodies may be truncated to a maximum length and a match
+ * that exceeds its time budget, or whose thread is interrupted, is abandoned and treated
+ * as not matching. Expressions are matched in linear time when the
+ * {@link ExpressionEngine#LINEAR linear engine} is configured, their syntax allows it,
+ * and the body contains no supplementary characters. A linear match that exceeds its
+ * time budget is logged and the body is matched again using {@link Pattern} with a new
+ * budget. The cost of evaluating each expression is recorded so that the slowest can be
+ * reported.
+ *
+ * @author agent
+ */
+class BodyExpressions {
+
+	private static final Log logger = LogFactory.getLog(BodyExpressions.class);
+
+	private final int maxLength;
+
+	private final Duration timeBudget;
+
+	private final ExpressionEngine engine;
+
+	private final LongSupplier ticker;
+
+	private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+	BodyExpressions(Expressions properties) {
+		this(properties, System::nanoTime);
+	}
+
+	BodyExpressions(Expressions properties, LongSupplier ticker) {
+		this.maxLength = (properties.getMaxLength() != null) ? properties.getMaxLength() : Integer.MAX_VALUE;
+		this.timeBudget = properties.getTimeBudget();
+		this.engine = properties.getEngine();
+		this.ticker = ticker;
+	}
+
+	/**
+	 * Return an evaluator for the given pattern.
+	 * @param pattern the pattern
+	 * @return the evaluator
+	 */
+	Expression compile(Pattern pattern) {
+		LinearPattern linearPattern = (this.engine == ExpressionEngine.LINEAR) ? LinearPattern.compile(pattern) : null;
+		Statistics statistics = this.statistics.computeIfAbsent(pattern.pattern(), (key) -> new Statistics());
+		return new Expression(pattern, linearPattern, statistics);
+	}
+
+	/**
+	 * Return the costs of the expressions that have been evaluated.
+	 * @return the costs of the expressions
+	 */
+	List<ExpressionCost> getCosts() {
+		return this.statistics.entrySet()
+			.stream()
+			.filter((entry) -> entry.getValue().evaluations.sum() > 0)
+			.map((entry) -> entry.getValue().toCost(entry.getKey()))
+			.toList();
+	}
+
+	/**
+	 * Evaluates a single regular expression.
+	 */
+	final class Expression {
+
+		private final Pattern pattern;
+
+		private final LinearPattern linearPattern;
+
+		private final Statistics statistics;
+
+		private Expression(Pattern pattern, LinearPattern linearPattern, Statistics statistics) {
+			this.pattern = pattern;
+			this.linearPattern = linearPattern;
+			this.statistics = statistics;
+		}
+
+		/**
+		 * Match the whole of the given body, truncated to the maximum length, and return
+		 * the input captured by the expression's first group.
+		 * @param body the body
+		 * @return the captured input or {@code null} if the body does not match or its
+		 * time budget was exceeded
+		 */
+		String extract(String body) {
+			if (body == null) {
+				return null;
+			}
+			CharSequence input = (body.length() > BodyExpressions.this.maxLength)
+					? body.substring(0, BodyExpressions.this.maxLength) : body;
+			long start = BodyExpressions.this.ticker.getAsLong();
+			Budget budget = new Budget(start, BodyExpressions.this.timeBudget);
+			try {
+				if (this.linearPattern != null && !hasSurrogates(input)) {
+					try {
+						return this.linearPattern.match(input, budget::check);
+					}
+					catch (BudgetExceededException ex) {
+						logger.warn("Linear match of expression '" + this.pattern.pattern()
+								+ "' exceeded its time budget. Matching using java.util.regex instead.");
+						budget = new Budget(BodyExpressions.this.ticker.getAsLong(), BodyExpressions.this.timeBudget);
+					}
+				}
+				Matcher matcher = this.pattern.matcher(new BudgetedCharSequence(input, budget));
+				return (matcher.matches()) ? matcher.group(1) : null;
+			}
+			catch (BudgetExceededException ex) {
+				this.statistics.timeouts.increment();
+				return null;
+			}
+			finally {
+				this.statistics.record(BodyExpressions.this.ticker.getAsLong() - start);
+			}
+		}
+
+		private boolean hasSurrogates(CharSequence input) {
+			for (int i = 0; i < input.length(); i++) {
+				if (Character.isSurrogate(input.charAt(i))) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * The time budget of a single match, which may be unbounded.
+	 */
+	private final class Budget {
+
+		private final long expiry;
+
+		private final boolean bounded;
+
+		Budget(long start, Duration timeBudget) {
+			this.expiry = (timeBudget != null) ? start + timeBudget.toNanos() : 0;
+			this.bounded = timeBudget != null;
+		}
+
+		void check() {
+			if (Thread.currentThread().isInterrupted()
+					|| (this.bounded && BodyExpressions.this.ticker.getAsLong() - this.expiry >= 0)) {
+				throw new BudgetExceededException();
+			}
+		}
+
+	}
+
+	/**
+	 * A {@link CharSequence} that checks the budget of the match that is reading it
+	 * periodically, allowing a backtracking match to be abandoned.
+	 */
+	private static final class BudgetedCharSequence implements CharSequence {
+
+		private static final int CHECK_INTERVAL = 1024;
+
+		private final CharSequence input;
+
+		private final Budget budget;
+
+		private int reads;
+
+		BudgetedCharSequence(CharSequence input, Budget budget) {
+			this.input = input;
+			this.budget = budget;
+		}
+
+		@Override
+		public int length() {
+			return this.input.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (++this.reads % CHECK_INTERVAL == 0) {
+				this.budget.check();
+			}
+			return this.input.charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return this.input.subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return this.input.toString();
+		}
+
+	}
+
+	/**
+	 * The statistics of an expression's evaluations.
+	 */
+	private static final class Statistics {
+
+		private final LongAdder evaluations = new LongAdder();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		private final LongAdder timeouts = new LongAdder();
+
+		void record(long nanos) {
+			this.evaluations.increment();
+			this.totalNanos.add(nanos);
+			this.maxNanos.accumulate(nanos);
+		}
+
+		ExpressionCost toCost(String expression) {
+			return new ExpressionCost(expression, this.evaluations.sum(), this.totalNanos.sum() / 1000,
+					this.maxNanos.get() / 1000, this.timeouts.sum());
+		}
+
+	}
+
+	/**
+	 * Thrown when a match exceeds its time budget.
+	 */
+	private static final class BudgetExceededException extends RuntimeException {
+
+		BudgetExceededException() {
+			super(null, null, false, false);
+		}
+
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.List;
+
+import io.spring.githubchangeloggenerator.ApplicationProperties.ExternalLink;
+
+/**
+ * A collated and summarized changelog that can be rendered in any format by a
+ * {@link ChangelogRenderer}.
+ *
+ * @author agent
+ */
+public final class Changelog {
+
+	private final List<Section> sections;
+
+	private final String contributorsTitle;
+
+	private final List<String> contributors;
+
+	private final List<ExternalLink> externalLinks;
+
+	Changelog(List<Section> sections, String contributorsTitle, List<String> contributors,
+			List<ExternalLink> externalLinks) {
+		this.sections = sections;
+		this.contributorsTitle = contributorsTitle;
+		this.contributors = contributors;
+		this.externalLinks = externalLinks;
+	}
+
+	/**
+	 * Return the sections of the changelog in the order that they should appear.
+	 * @return the sections
+	 */
+	public List<Section> getSections() {
+		return this.sections;
+	}
+
+	/**
+	 * Return the configured title of the contributors section.
+	 * @return the title or {@code null} to use the renderer's default title
+	 */
+	public String getContributorsTitle() {
+		return this.contributorsTitle;
+	}
+
+	/**
+	 * Return the names of the contributors, sorted alphabetically.
+	 * @return the contributors
+	 */
+	public List<String> getContributors() {
+		return this.contributors;
+	}
+
+	/**
+	 * Return the external links.
+	 * @return the external links
+	 */
+	public List<ExternalLink> getExternalLinks() {
+		return this.externalLinks;
+	}
+
+	/**
+	 * A section of a changelog.
+	 */
+	public static final class Section {
+
+		private final String title;
+
+		private final List<Entry> entries;
+
+		Section(String title, List<Entry> entries) {
+			this.title = title;
+			this.entries = entries;
+		}
+
+		public String getTitle() {
+			return this.title;
+		}
+
+		public List<Entry> getEntries() {
+			return this.entries;
+		}
+
+	}
+
+	/**
+	 * A summarized issue in a section of a changelog.
+	 */
+	public static final class Entry {
+
+		private final String number;
+
+		private final String summary;
+
+		private final String url;
+
+		Entry(String number, String summary, String url) {
+			this.number = number;
+			this.summary = summary;
+			this.url = url;
+		}
+
+		public String getNumber() {
+			return this.number;
+		}
+
+		/**
+		 * Return the summary of the issue, without any escaping.
+		 * @return the summary
+		 */
+		public String getSummary() {
+			return this.summary;
+		}
+
+		/**
+		 * Return the URL of the issue.
+		 * @return the URL or {@code null} if issues should not be linked
+		 */
+		public String getUrl() {
+			return this.url;
+		}
+
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.util.DigestUtils;
+
+import io.spring.githubchangeloggenerator.ApplicationProperties.ExternalLink;
+import io.spring.githubchangeloggenerator.ApplicationProperties.PortedIssue;
+import io.spring.githubchangeloggenerator.ApplicationProperties.Section;
+import io.spring.githubchangeloggenerator.ApplicationProperties.Summary;
+import io.spring.githubchangeloggenerator.github.payload.Milestone;
+
+/**
+ * A fingerprint of the inputs to a changelog that is used to skip regeneration when
+ * nothing has changed. The fingerprint combines the last update time and issue counts of
+ * each milestone with a digest of the configuration. It is stored in a state file next to
+ * the generated changelog.
+ *
+ * @author agent
+ */
+final class ChangelogFingerprint {
+
+	private static final String STATE_FILE_SUFFIX = ".fingerprint";
+
+	private static final String MILESTONES_KEY = "milestones";
+
+	private static final String CONFIG_KEY = "config";
+
+	private final String milestones;
+
+	private final String config;
+
+	ChangelogFingerprint(List<Milestone> milestones, String config) {
+		this.milestones = milestones.stream().map(this::fingerprint).collect(Collectors.joining(","));
+		this.config = config;
+	}
+
+	private String fingerprint(Milestone milestone) {
+		return milestone.getNumber() + ":" + milestone.getUpdatedAt() + ":" + milestone.getOpenIssues() + ":"
+				+ milestone.getClosedIssues();
+	}
+
+	/**
+	 * Return whether the changelog at the given path exists and was generated from inputs
+	 * with this fingerprint.
+	 * @param path the path of the changelog
+	 * @return {@code true} if the changelog is current
+	 * @throws IOException if the state file could not be read
+	 */
+	boolean isCurrent(String path) throws IOException {
+		File stateFile = getStateFile(path);
+		if (!new File(path).exists() || !stateFile.exists()) {
+			return false;
+		}
+		Properties state = new Properties();
+		try (InputStream inputStream = Files.newInputStream(stateFile.toPath())) {
+			state.load(inputStream);
+		}
+		return this.milestones.equals(state.getProperty(MILESTONES_KEY))
+				&& this.config.equals(state.getProperty(CONFIG_KEY));
+	}
+
+	/**
+	 * Save this fingerprint as the state of the changelog at the given path.
+	 * @param path the path of the changelog
+	 * @throws IOException if the state file could not be written
+	 */
+	void save(String path) throws IOException {
+		Properties state = new Properties();
+		state.setProperty(MILESTONES_KEY, this.milestones);
+		state.setProperty(CONFIG_KEY, this.config);
+		try (OutputStream outputStream = Files.newOutputStream(getStateFile(path).toPath())) {
+			state.store(outputStream, null);
+		}
+	}
+
+	private File getStateFile(String path) {
+		return new File(path + STATE_FILE_SUFFIX).getAbsoluteFile();
+	}
+
+	/**
+	 * Return a digest of the given properties that changes whenever a property that
+	 * affects the content of a changelog changes.
+	 * @param properties the properties
+	 * @return the digest
+	 */
+	static String digest(ApplicationProperties properties) {
+		Map<String, Object> config = new TreeMap<>();
+		config.put("repository", properties.getRepository());
+		config.put("milestone-reference", properties.getMilestoneReference());
+		config.put("sections", properties.getSections().stream().map(ChangelogFingerprint::describe).toList());
+		config.put("add-sections", properties.isAddSections());
+		config.put("issues.sort", properties.getIssues().getSort());
+		config.put("issues.exclude.labels", sorted(properties.getIssues().getExcludes().getLabels()));
+		config.put("issues.ports", sorted(properties.getIssues()
+			.getPorts()
+			.stream()
+			.map(ChangelogFingerprint::describe)
+			.toList()));
+		config.put("issues.generate-links", properties.getIssues().isGenerateLinks());
+		config.put("issues.fetch", properties.getIssues().getFetch());
+		config.put("issues.expressions.max-length", properties.getIssues().getExpressions().getMaxLength());
+		config.put("issues.expressions.time-budget", properties.getIssues().getExpressions().getTimeBudget());
+		config.put("issues.expressions.engine", properties.getIssues().getExpressions().getEngine());
+		config.put("contributors.title", properties.getContributors().getTitle());
+		config.put("contributors.exclude.names", sorted(properties.getContributors().getExclude().getNames()));
+		config.put("external-links",
+				properties.getExternalLinks().stream().map(ChangelogFingerprint::describe).toList());
+		config.put("formats", properties.getFormats());
+		return DigestUtils.md5DigestAsHex(config.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String describe(Section section) {
+		return section.getTitle() + "|" + section.getGroup() + "|" + section.getSort() + "|"
+				+ sorted(section.getLabels()) + "|" + section.getType() + "|" + describe(section.getSummary());
+	}
+
+	private static String describe(Summary summary) {
+		if (summary == null) {
+			return "";
+		}
+		Map<String, String> config = (summary.getConfig() != null) ? new TreeMap<>(summary.getConfig()) : Map.of();
+		return summary.getMode() + "|" + config;
+	}
+
+	private static String describe(PortedIssue port) {
+		return port.getLabel() + "|" + port.getBodyExpression();
+	}
+
+	private static String describe(ExternalLink link) {
+		return link.getName() + "|" + link.getLocation();
+	}
+
+	private static String sorted(Collection<?> values) {
+		return (values != null) ? values.stream().map(Objects::toString).sorted().toList().toString() : "[]";
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,23 +19,44 @@ package io.spring.githubchangeloggenerator;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StopWatch;
+import org.springframework.web.client.RestClientException;
 
 import io.spring.githubchangeloggenerator.ApplicationProperties.ExternalLink;
+import io.spring.githubchangeloggenerator.ApplicationProperties.IssueFetch;
 import io.spring.githubchangeloggenerator.ApplicationProperties.IssueSort;
+import io.spring.githubchangeloggenerator.ApplicationProperties.IssueType;
+import io.spring.githubchangeloggenerator.ApplicationProperties.OutputFormat;
+import io.spring.githubchangeloggenerator.ApplicationProperties.Section;
 import io.spring.githubchangeloggenerator.github.payload.Issue;
 import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.payload.Milestone;
 import io.spring.githubchangeloggenerator.github.payload.User;
 import io.spring.githubchangeloggenerator.github.service.GitHubService;
 import io.spring.githubchangeloggenerator.github.service.Repository;
@@ -49,18 +70,22 @@ import io.spring.githubchangeloggenerator.github.service.Repository;
  * @author Mahendra Bishnoi
  */
 @Component
+@Lazy
 public class ChangelogGenerator {
 
-	private static final Comparator<Issue> TITLE_COMPARATOR = Comparator.comparing(Issue::getTitle,
-			String.CASE_INSENSITIVE_ORDER);
+	private static final Log logger = LogFactory.getLog(ChangelogGenerator.class);
 
-	private static final List<Escape> escapes = Arrays.asList(gitHubUserMentions(), htmlTags(), markdownStyling());
+	private static final int MAX_CONCURRENT_TASKS = 4;
+
+	private static final int PARALLEL_RENDERING_THRESHOLD = 500;
+
+	private static final ChangelogRenderer markdownRenderer = new MarkdownRenderer();
 
 	private final GitHubService service;
 
 	private final Repository repository;
 
-	private final MilestoneReference milestoneReference;
+	private final MilestoneResolver milestoneResolver;
 
 	private final IssueSort sort;
 
@@ -76,20 +101,82 @@ public class ChangelogGenerator {
 
 	private final boolean generateLinks;
 
-	private final IssueChain issueChain;
+	private final BodyExpressions bodyExpressions;
+
+	private final IndexedIssueChain issueChain;
+
+	private final boolean skipUnchanged;
+
+	private final boolean incremental;
+
+	private final String configDigest;
+
+	private final IssueFetch fetch;
+
+	private final String searchType;
+
+	private final Map<OutputFormat, ChangelogRenderer> renderers;
+
+	private final IssuePipeline pipeline;
 
 	public ChangelogGenerator(GitHubService service, ApplicationProperties properties) {
+		Assert.notNull(properties.getRepository(), "Repository must not be null");
 		this.service = service;
 		this.repository = properties.getRepository();
-		this.milestoneReference = properties.getMilestoneReference();
+		this.milestoneResolver = new MilestoneResolver(service, this.repository, properties.getMilestoneReference());
 		this.sort = properties.getIssues().getSort();
 		this.excludeLabels = properties.getIssues().getExcludes().getLabels();
 		this.excludeContributors = properties.getContributors().getExclude().getNames();
 		this.contributorsTitle = properties.getContributors().getTitle();
 		this.externalLinks = properties.getExternalLinks();
 		this.generateLinks = properties.getIssues().isGenerateLinks();
-		this.issueChain = new PortedIssueChain(properties.getIssues().getPorts(), this.service, this.repository);
-		this.sections = new ChangelogSections(properties, service, this.issueChain);
+		this.bodyExpressions = new BodyExpressions(properties.getIssues().getExpressions());
+		this.issueChain = new IndexedIssueChain(properties.getIssues().getPorts(), this.bodyExpressions, this.service,
+				this.repository);
+		this.sections = new ChangelogSections(properties, service, this.issueChain, this.bodyExpressions);
+		this.skipUnchanged = properties.isSkipUnchanged();
+		this.incremental = properties.isIncremental();
+		this.configDigest = (this.skipUnchanged || this.incremental) ? ChangelogFingerprint.digest(properties) : null;
+		this.fetch = properties.getIssues().getFetch();
+		this.searchType = (this.fetch == IssueFetch.SEARCH) ? getSearchType(properties) : null;
+		this.renderers = getRenderers(properties.getFormats());
+		this.pipeline = new IssuePipeline(service, this.repository, this.issueChain, this::isExcluded);
+	}
+
+	private static Map<OutputFormat, ChangelogRenderer> getRenderers(List<OutputFormat> formats) {
+		Map<OutputFormat, ChangelogRenderer> renderers = new EnumMap<>(OutputFormat.class);
+		for (OutputFormat format : formats) {
+			renderers.put(format, switch (format) {
+				case ASCIIDOC -> new AsciidocRenderer();
+				case HTML -> new HtmlRenderer();
+				case JSON -> new JsonRenderer();
+			});
+		}
+		return renderers;
+	}
+
+	/**
+	 * Return the type of issue that a search can be limited to without changing the
+	 * changelog. A search is only limited when every section includes the same type of
+	 * issue and the issues of the other type cannot contribute to the changelog as
+	 * contributors or through ported issues.
+	 * @param properties the application properties
+	 * @return the search type or {@code null}
+	 */
+	private static String getSearchType(ApplicationProperties properties) {
+		List<Section> sections = properties.getSections();
+		if (sections.isEmpty() || properties.isAddSections() || !properties.getIssues().getPorts().isEmpty()) {
+			return null;
+		}
+		Set<IssueType> types = sections.stream().map(Section::getType).collect(Collectors.toSet());
+		IssueType type = (types.size() == 1) ? types.iterator().next() : null;
+		if (type == IssueType.PULL_REQUEST) {
+			return "pr";
+		}
+		if (type == IssueType.ISSUE && properties.getContributors().getExclude().getNames().contains("*")) {
+			return "issue";
+		}
+		return null;
 	}
 
 	/**
@@ -100,19 +187,294 @@ public class ChangelogGenerator {
 	 * @throws IOException if writing to file failed
 	 */
 	public void generate(String milestone, String path) throws IOException {
-		int milestoneNumber = resolveMilestoneReference(milestone);
-		List<Issue> issues = getIssues(milestoneNumber);
-		String content = generateContent(issues);
-		writeContentToFile(content, path);
+		generate(milestone, path, null);
+	}
+
+	/**
+	 * Generates a file at the given path which includes bug fixes, enhancements and
+	 * contributors for the given milestone, recording the work that was performed in the
+	 * given report.
+	 * @param milestone the milestone to generate the changelog for
+	 * @param path the path to the file
+	 * @param report the report to update or {@code null}
+	 * @throws IOException if writing to file failed
+	 */
+	public void generate(String milestone, String path, GenerationReport report) throws IOException {
+		generate(milestone, path, report, Deadline.NONE);
+	}
+
+	/**
+	 * Generates a file at the given path which includes bug fixes, enhancements and
+	 * contributors for the given milestone, recording the work that was performed in the
+	 * given report. Issues that have not been summarized when the given deadline passes
+	 * are summarized using their titles.
+	 * @param milestone the milestone to generate the changelog for
+	 * @param path the path to the file
+	 * @param report the report to update or {@code null}
+	 * @param deadline the deadline
+	 * @throws IOException if writing to file failed
+	 */
+	public void generate(String milestone, String path, GenerationReport report, Deadline deadline)
+			throws IOException {
+		StopWatch stopWatch = new StopWatch();
+		stopWatch.start("resolve-milestone");
+		if (!this.skipUnchanged) {
+			List<Integer> milestoneNumbers = this.milestoneResolver.resolve(milestone);
+			stopWatch.stop();
+			generate(milestoneNumbers, null, path, stopWatch, report, deadline);
+			return;
+		}
+		List<Milestone> milestones = this.milestoneResolver.resolveMilestones(List.of(milestone)).get(milestone);
+		stopWatch.stop();
+		generate(milestones, path, stopWatch, report, deadline);
+	}
+
+	/**
+	 * Generates a file for each of the given milestones which includes bug fixes,
+	 * enhancements and contributors. Milestones are resolved together and their changelogs
+	 * are generated concurrently, sharing the {@link GitHubService}'s caches.
+	 * @param milestonePaths the milestones to generate changelogs for mapped to the path of
+	 * the file to generate
+	 * @param report the report to update or {@code null}
+	 * @throws IOException if writing to a file failed
+	 */
+	public void generate(Map<String, String> milestonePaths, GenerationReport report) throws IOException {
+		generate(milestonePaths, report, Deadline.NONE);
+	}
+
+	/**
+	 * Generates a file for each of the given milestones which includes bug fixes,
+	 * enhancements and contributors. Milestones are resolved together and their changelogs
+	 * are generated concurrently, sharing the {@link GitHubService}'s caches. Issues that
+	 * have not been summarized when the given deadline passes are summarized using their
+	 * titles.
+	 * @param milestonePaths the milestones to generate changelogs for mapped to the path of
+	 * the file to generate
+	 * @param report the report to update or {@code null}
+	 * @param deadline the deadline
+	 * @throws IOException if writing to a file failed
+	 */
+	public void generate(Map<String, String> milestonePaths, GenerationReport report, Deadline deadline)
+			throws IOException {
+		StopWatch stopWatch = new StopWatch();
+		stopWatch.start("resolve-milestone");
+		Map<String, List<Integer>> milestoneNumbers = (!this.skipUnchanged)
+				? this.milestoneResolver.resolve(milestonePaths.keySet()) : null;
+		Map<String, List<Milestone>> milestones = (this.skipUnchanged)
+				? this.milestoneResolver.resolveMilestones(milestonePaths.keySet()) : null;
+		stopWatch.stop();
+		if (report != null) {
+			report.recordPhases(stopWatch);
+		}
+		List<Callable<Void>> tasks = new ArrayList<>();
+		milestonePaths.forEach((milestone, path) -> tasks.add(() -> {
+			if (milestones != null) {
+				generate(milestones.get(milestone), path, new StopWatch(), report, deadline);
+			}
+			else {
+				generate(milestoneNumbers.get(milestone), null, path, new StopWatch(), report, deadline);
+			}
+			return null;
+		}));
+		runConcurrently(tasks);
+	}
+
+	/**
+	 * Generates a file at the given path for the given milestone and then watches the
+	 * milestone, regenerating the file whenever the milestone or its issues are modified.
+	 * Polling uses conditional requests and backs off while the milestone is not being
+	 * modified. A poll or generation that fails is logged and retried once the polling
+	 * has backed off. Watching continues until the current thread is interrupted.
+	 * @param milestone the milestone to generate the changelog for
+	 * @param path the path to the file
+	 * @param interval the interval between polls when the milestone is being modified
+	 */
+	public void watch(String milestone, String path, Duration interval) {
+		List<Integer> milestoneNumbers = this.milestoneResolver.resolve(milestone);
+		PollingBackoff backoff = new PollingBackoff(interval);
+		boolean pending = false;
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				boolean modified;
+				try {
+					modified = isModified(milestoneNumbers) || pending;
+					if (modified) {
+						generate(milestoneNumbers, null, path, new StopWatch(), null, Deadline.NONE);
+					}
+					pending = false;
+				}
+				catch (RestClientException | IOException ex) {
+					logger.warn("Failed to update the changelog for milestone '" + milestone + "'", ex);
+					modified = false;
+					pending = true;
+				}
+				Thread.sleep(backoff.next(modified).toMillis());
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	Repository getRepository() {
+		return this.repository;
+	}
+
+	List<Integer> resolveMilestone(String milestone) {
+		return this.milestoneResolver.resolve(milestone);
+	}
+
+	private boolean isModified(List<Integer> milestoneNumbers) {
+		boolean modified = false;
+		for (int milestoneNumber : milestoneNumbers) {
+			modified |= this.service.isModified(milestoneNumber, this.repository);
+		}
+		return modified;
+	}
+
+	private void generate(List<Milestone> milestones, String path, StopWatch stopWatch, GenerationReport report,
+			Deadline deadline) throws IOException {
+		ChangelogFingerprint fingerprint = new ChangelogFingerprint(milestones, this.configDigest);
+		if (fingerprint.isCurrent(path)) {
+			if (report != null) {
+				report.recordPhases(stopWatch);
+			}
+			return;
+		}
+		generate(MilestoneResolver.getNumbers(milestones), fingerprint, path, stopWatch, report, deadline);
+	}
+
+	private void generate(List<Integer> milestoneNumbers, ChangelogFingerprint fingerprint, String path,
+			StopWatch stopWatch, GenerationReport report, Deadline deadline) throws IOException {
+		RenderManifest manifest = loadManifest(path);
+		stopWatch.start("fetch-issues");
+		List<Issue> issues = getIssues(milestoneNumbers, manifest, deadline);
+		stopWatch.stop();
+		render(issues, manifest, fingerprint, path, stopWatch, report, deadline);
+	}
+
+	/**
+	 * Renders the changelog for the given issues, which have not been filtered, to the
+	 * file at the given path.
+	 * @param issues the issues
+	 * @param path the path to the file
+	 * @throws IOException if writing to file failed
+	 */
+	void render(Collection<Issue> issues, String path) throws IOException {
+		List<Issue> included = new ArrayList<>(issues);
+		included.removeIf(this::isExcluded);
+		this.issueChain.index(included);
+		RenderManifest manifest = loadManifest(path);
+		render(included, manifest, null, path, new StopWatch(), null, Deadline.NONE);
+	}
+
+	private RenderManifest loadManifest(String path) {
+		if (!this.incremental) {
+			return null;
+		}
+		return RenderManifest.load(path, this.configDigest,
+				(number) -> this.service.getIssue(number, this.repository));
+	}
+
+	private void render(List<Issue> issues, RenderManifest manifest, ChangelogFingerprint fingerprint, String path,
+			StopWatch stopWatch, GenerationReport report, Deadline deadline) throws IOException {
+		Map<OutputFormat, String> formatPaths = getFormatPaths(path);
+		Changelog changelog = createChangelog(issues, manifest, stopWatch, report, deadline);
+		stopWatch.start("write");
+		String content = markdownRenderer.render(changelog);
+		boolean changed = manifest == null || !manifest.isUnchanged(content);
+		if (changed || !new File(path).exists()) {
+			writeContentToFile(content, path);
+		}
+		for (Map.Entry<OutputFormat, ChangelogRenderer> renderer : this.renderers.entrySet()) {
+			String formatPath = formatPaths.get(renderer.getKey());
+			if (changed || !new File(formatPath).exists()) {
+				writeContentToFile(renderer.getValue().render(changelog), formatPath);
+			}
+		}
+		if (manifest != null) {
+			manifest.save(path, content);
+		}
+		if (fingerprint != null && !deadline.hasPassed()) {
+			fingerprint.save(path);
+		}
+		stopWatch.stop();
+		if (report != null) {
+			report.recordPhases(stopWatch);
+			report.recordExpressionCosts(this.bodyExpressions.getCosts());
+		}
+	}
+
+	private List<Issue> getIssues(List<Integer> milestoneNumbers, RenderManifest manifest, Deadline deadline)
+			throws IOException {
+		if (milestoneNumbers.size() == 1) {
+			List<Issue> issues = fetchBodies(getIssues(milestoneNumbers.get(0), manifest, deadline));
+			index(issues, deadline);
+			return issues;
+		}
+		List<Callable<List<Issue>>> tasks = new ArrayList<>();
+		milestoneNumbers.forEach((milestoneNumber) -> tasks.add(() -> getIssues(milestoneNumber, manifest, deadline)));
+		Map<Integer, Issue> issues = new LinkedHashMap<>();
+		runConcurrently(tasks).forEach((milestoneIssues) -> milestoneIssues
+			.forEach((issue) -> issues.putIfAbsent(issue.getNumberValue(), issue)));
+		List<Issue> merged = fetchBodies(new ArrayList<>(issues.values()));
+		index(merged, deadline);
+		return removePortsOfIncludedIssues(merged);
 	}
 
-	private List<Issue> getIssues(int milestoneNumber) {
-		List<Issue> issues = new ArrayList<>(this.service.getIssuesForMilestone(milestoneNumber, this.repository));
+	private List<Issue> getIssues(int milestoneNumber, RenderManifest manifest, Deadline deadline) {
+		if (this.fetch == IssueFetch.PIPELINED) {
+			return this.pipeline.fetch(milestoneNumber, (issue) -> requiresComments(issue, manifest), deadline);
+		}
+		List<Issue> issues = new ArrayList<>(fetchIssues(milestoneNumber));
 		issues.removeIf(this::isExcluded);
 		return issues;
 	}
 
-	private boolean isExcluded(Issue issue) {
+	private boolean requiresComments(Issue issue, RenderManifest manifest) {
+		return this.sections.getSections(issue)
+			.stream()
+			.anyMatch((section) -> section.requiresComments(issue)
+					&& (manifest == null || !manifest.hasSummary(issue, this.sections.indexOf(section))));
+	}
+
+	private void index(List<Issue> issues, Deadline deadline) {
+		if (this.fetch != IssueFetch.PIPELINED) {
+			this.issueChain.index(issues, deadline);
+		}
+	}
+
+	private List<Issue> fetchIssues(int milestoneNumber) {
+		return switch (this.fetch) {
+			case LIST, PIPELINED -> this.service.getIssuesForMilestone(milestoneNumber, this.repository);
+			case SEARCH -> this.service.searchIssuesForMilestone(milestoneNumber, this.repository,
+					this.excludeLabels, this.searchType);
+			case BODIES_ON_DEMAND -> this.service.getIssuesForMilestoneWithoutBodies(milestoneNumber,
+					this.repository);
+		};
+	}
+
+	/**
+	 * Replace the issues that were fetched without their bodies, and that are ported
+	 * issues or are summarized using their bodies, with issues that have their bodies.
+	 * @param issues the issues
+	 * @return the issues with the bodies that they need
+	 */
+	private List<Issue> fetchBodies(List<Issue> issues) {
+		if (this.fetch != IssueFetch.BODIES_ON_DEMAND) {
+			return issues;
+		}
+		List<Issue> listed = issues.stream()
+			.filter((issue) -> this.issueChain.isPort(issue) || this.sections.requiresBody(issue))
+			.toList();
+		if (!listed.isEmpty()) {
+			Map<Integer, Issue> fetched = this.service.getIssuesWithBodies(listed, this.repository);
+			issues.replaceAll((issue) -> fetched.getOrDefault(issue.getNumberValue(), issue));
+		}
+		return issues;
+	}
+
+	boolean isExcluded(Issue issue) {
 		return issue.getLabels().stream().anyMatch(this::isExcluded);
 	}
 
@@ -120,70 +482,221 @@ public class ChangelogGenerator {
 		return this.excludeLabels.contains(label.getName());
 	}
 
-	private int resolveMilestoneReference(String milestone) {
-		return switch (this.milestoneReference) {
-			case TITLE -> this.service.getMilestoneNumber(milestone, this.repository);
-			case ID -> Integer.parseInt(milestone);
-		};
+	private List<Issue> removePortsOfIncludedIssues(List<Issue> issues) {
+		Set<Integer> included = new HashSet<>();
+		issues.forEach((issue) -> included.add(issue.getNumberValue()));
+		issues.removeIf((issue) -> {
+			if (isPortOfIncludedIssue(issue, included)) {
+				included.remove(issue.getNumberValue());
+				return true;
+			}
+			return false;
+		});
+		return issues;
 	}
 
-	private String generateContent(List<Issue> issues) {
-		StringBuilder content = new StringBuilder();
-		addSectionContent(content, this.sections.collate(issues));
-		Set<User> contributors = getContributors(issues);
-		if (!contributors.isEmpty()) {
-			addContributorsContent(content, contributors);
+	private boolean isPortOfIncludedIssue(Issue issue, Set<Integer> included) {
+		Set<Integer> visited = new HashSet<>();
+		visited.add(issue.getNumberValue());
+		Issue next = issue;
+		while ((next = this.issueChain.nextIssue(next)) != null && visited.add(next.getNumberValue())) {
+			if (included.contains(next.getNumberValue())) {
+				return true;
+			}
 		}
-		if (!this.externalLinks.isEmpty()) {
-			addExternalLinksContent(content, this.externalLinks);
+		return false;
+	}
+
+	private <T> List<T> runConcurrently(List<Callable<T>> tasks) throws IOException {
+		ExecutorService executor = Executors
+			.newFixedThreadPool(Math.max(1, Math.min(tasks.size(), MAX_CONCURRENT_TASKS)));
+		try {
+			List<Future<T>> futures = new ArrayList<>();
+			tasks.forEach((task) -> futures.add(executor.submit(task)));
+			List<T> results = new ArrayList<>();
+			for (Future<T> future : futures) {
+				results.add(await(future));
+			}
+			return results;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private <T> T await(Future<T> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while generating changelogs", ex);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(cause);
 		}
-		return content.toString();
 	}
 
-	private void addSectionContent(StringBuilder content, Map<ChangelogSection, List<Issue>> sectionIssues) {
+	private Changelog createChangelog(List<Issue> issues, RenderManifest manifest, StopWatch stopWatch,
+			GenerationReport report, Deadline deadline) throws IOException {
+		stopWatch.start("collate");
+		Map<ChangelogSection, List<Issue>> sectionIssues = (manifest != null)
+				? this.sections.collate(issues, (issue) -> manifest.getSections(issue, this.sections))
+				: this.sections.collate(issues);
+		stopWatch.stop();
+		stopWatch.start("fetch-comments");
+		fetchComments(sectionIssues, manifest, report, deadline);
+		stopWatch.stop();
+		stopWatch.start("render-sections");
+		List<Changelog.Section> sections = createSections(sectionIssues, manifest, report, deadline);
+		stopWatch.stop();
+		stopWatch.start("contributors");
+		List<String> contributors = getContributors(issues, deadline).stream()
+			.map(User::getName)
+			.sorted()
+			.toList();
+		stopWatch.stop();
+		return new Changelog(sections, this.contributorsTitle, contributors, this.externalLinks);
+	}
+
+	private void fetchComments(Map<ChangelogSection, List<Issue>> sectionIssues, RenderManifest manifest,
+			GenerationReport report, Deadline deadline) throws IOException {
+		if (deadline.hasPassed()) {
+			return;
+		}
+		Set<Issue> issues = new LinkedHashSet<>();
+		sectionIssues.forEach((section, candidates) -> candidates.stream()
+			.filter(section::requiresComments)
+			.filter((issue) -> manifest == null || !manifest.hasSummary(issue, this.sections.indexOf(section)))
+			.forEach(issues::add));
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (Issue issue : CommentFetchPlanner.plan(issues)) {
+			tasks.add(() -> {
+				if (deadline.hasPassed()) {
+					return null;
+				}
+				if (report != null) {
+					report.prefetch(issue, () -> this.service.getCommentsForIssue(issue, this.repository));
+				}
+				else {
+					this.service.getCommentsForIssue(issue, this.repository);
+				}
+				return null;
+			});
+		}
+		if (!tasks.isEmpty()) {
+			runConcurrently(tasks);
+		}
+	}
+
+	private List<Changelog.Section> createSections(Map<ChangelogSection, List<Issue>> sectionIssues,
+			RenderManifest manifest, GenerationReport report, Deadline deadline) throws IOException {
+		sectionIssues.forEach((section, issues) -> sort(section.getSort(), issues));
+		Iterator<String> summaries = getSummaries(sectionIssues, manifest, report, deadline).iterator();
+		List<Changelog.Section> sections = new ArrayList<>();
 		sectionIssues.forEach((section, issues) -> {
-			sort(section.getSort(), issues);
-			content.append((content.length() != 0) ? String.format("%n") : "");
-			content.append("## ").append(section).append(String.format("%n%n"));
-			issues.stream().map((issue) -> getFormattedIssue(issue, section)).forEach(content::append);
+			List<Changelog.Entry> entries = new ArrayList<>(issues.size());
+			for (Issue issue : issues) {
+				String url = (this.generateLinks) ? issue.getUrl() : null;
+				entries.add(new Changelog.Entry(issue.getNumber(), summaries.next(), url));
+			}
+			sections.add(new Changelog.Section(section.toString(), entries));
 		});
+		return sections;
+	}
+
+	/**
+	 * Summarize the issues of every section, in section order. Summarizing an issue may
+	 * make requests to GitHub so the issues of large changelogs are summarized in
+	 * contiguous chunks that are run concurrently on a bounded pool of threads.
+	 * @param sectionIssues the sorted issues of each section
+	 * @param manifest the render manifest or {@code null}
+	 * @param report the report or {@code null}
+	 * @param deadline the deadline
+	 * @return the summaries
+	 * @throws IOException if summarizing failed
+	 */
+	private List<String> getSummaries(Map<ChangelogSection, List<Issue>> sectionIssues, RenderManifest manifest,
+			GenerationReport report, Deadline deadline) throws IOException {
+		List<Map.Entry<ChangelogSection, Issue>> lines = new ArrayList<>();
+		sectionIssues.forEach((section, issues) -> issues.forEach((issue) -> lines.add(Map.entry(section, issue))));
+		if (lines.size() < PARALLEL_RENDERING_THRESHOLD) {
+			return getSummaries(lines, manifest, report, deadline);
+		}
+		int chunkSize = (lines.size() + MAX_CONCURRENT_TASKS - 1) / MAX_CONCURRENT_TASKS;
+		List<Callable<List<String>>> tasks = new ArrayList<>();
+		for (int start = 0; start < lines.size(); start += chunkSize) {
+			List<Map.Entry<ChangelogSection, Issue>> chunk = lines.subList(start,
+					Math.min(start + chunkSize, lines.size()));
+			tasks.add(() -> getSummaries(chunk, manifest, report, deadline));
+		}
+		List<String> summaries = new ArrayList<>(lines.size());
+		runConcurrently(tasks).forEach(summaries::addAll);
+		return summaries;
+	}
+
+	private List<String> getSummaries(List<Map.Entry<ChangelogSection, Issue>> lines, RenderManifest manifest,
+			GenerationReport report, Deadline deadline) {
+		List<String> summaries = new ArrayList<>(lines.size());
+		lines.forEach((line) -> summaries.add(getSummary(line.getValue(), line.getKey(), manifest, report, deadline)));
+		return summaries;
+	}
+
+	private String getSummary(Issue issue, ChangelogSection section, RenderManifest manifest,
+			GenerationReport report, Deadline deadline) {
+		if (manifest == null) {
+			return summarize(issue, section, null, report, deadline);
+		}
+		return manifest.getSummary(issue, this.sections.indexOf(section),
+				() -> summarize(issue, section, manifest, report, deadline));
 	}
 
 	private void sort(IssueSort sort, List<Issue> issues) {
 		sort = (sort != null) ? sort : this.sort;
 		if (sort == IssueSort.TITLE) {
-			issues.sort(TITLE_COMPARATOR);
+			TitleSort.sort(issues);
 		}
 	}
 
-	private String getFormattedIssue(Issue issue, ChangelogSection section) {
-		String title = section.summarize(issue);
-		for (Escape escape : escapes) {
-			title = escape.apply(title);
+	private String summarize(Issue issue, ChangelogSection section, RenderManifest manifest, GenerationReport report,
+			Deadline deadline) {
+		try {
+			return (report != null) ? report.summarize(issue, section, deadline) : section.summarize(issue, deadline);
+		}
+		catch (Deadline.ExceededException ex) {
+			if (manifest != null) {
+				manifest.invalidate(issue);
+			}
+			if (report != null) {
+				report.recordDegraded(issue, section);
+			}
+			return issue.getTitle();
 		}
-		return (this.generateLinks) ? String.format("- %s %s%n", title, getLinkToIssue(issue))
-				: String.format("- %s%n", title);
-	}
-
-	private String getLinkToIssue(Issue issue) {
-		return "[#" + issue.getNumber() + "]" + "(" + issue.getUrl() + ")";
 	}
 
-	private Set<User> getContributors(List<Issue> issues) {
+	private Set<User> getContributors(List<Issue> issues, Deadline deadline) {
 		if (this.excludeContributors.contains("*")) {
 			return Collections.emptySet();
 		}
 		return issues.stream()
-			.map(this::getPortedReferenceIssue)
+			.map((issue) -> getPortedReferenceIssue(issue, deadline))
 			.filter((issue) -> issue.getPullRequest() != null)
 			.map(Issue::getUser)
+			.filter(Objects::nonNull)
 			.filter(this::isIncludedContributor)
 			.collect(Collectors.toSet());
 	}
 
-	private Issue getPortedReferenceIssue(Issue issue) {
+	private Issue getPortedReferenceIssue(Issue issue, Deadline deadline) {
 		Issue next;
-		while ((next = this.issueChain.nextIssue(issue)) != null) {
+		while (!deadline.hasPassed() && (next = this.issueChain.nextIssue(issue)) != null) {
 			issue = next;
 		}
 		return issue;
@@ -194,37 +707,24 @@ public class ChangelogGenerator {
 		return !this.excludeContributors.contains(name) && !name.endsWith("[bot]");
 	}
 
-	private void addContributorsContent(StringBuilder content, Set<User> contributors) {
-		content.append(String.format("%n## "));
-		content.append((this.contributorsTitle != null) ? this.contributorsTitle : ":heart: Contributors");
-		content.append(String.format("%n%nThank you to all the contributors who worked on this release:%n%n"));
-		content.append(formatContributors(contributors));
-	}
-
-	private String formatContributors(Set<User> contributors) {
-		List<String> names = contributors.stream().map(User::getName).map((name) -> "@" + name).sorted().toList();
-		StringBuilder formatted = new StringBuilder();
-		String separator = (names.size() > 2) ? ", " : " ";
-		for (int i = 0; i < names.size(); i++) {
-			if (i > 0) {
-				formatted.append(separator);
-				if (i == names.size() - 1) {
-					formatted.append("and ");
-				}
-			}
-			formatted.append(names.get(i));
+	private Map<OutputFormat, String> getFormatPaths(String path) {
+		Map<OutputFormat, String> formatPaths = new EnumMap<>(OutputFormat.class);
+		for (OutputFormat format : this.renderers.keySet()) {
+			String formatPath = getPath(path, format);
+			Assert.isTrue(!new File(formatPath).getAbsoluteFile().equals(new File(path).getAbsoluteFile()),
+					() -> "Path '" + path + "' must not have the '." + format.getExtension()
+							+ "' extension of a configured format");
+			formatPaths.put(format, formatPath);
 		}
-		return formatted.toString();
+		return formatPaths;
 	}
 
-	private void addExternalLinksContent(StringBuilder content, List<ExternalLink> externalLinks) {
-		content.append(String.format("%n## "));
-		content.append(String.format("External Links%n%n"));
-		externalLinks.stream().map(this::formatExternalLinks).forEach(content::append);
-	}
-
-	private String formatExternalLinks(ExternalLink externalLink) {
-		return String.format("- [%s](%s)%n", externalLink.getName(), externalLink.getLocation());
+	private String getPath(String path, OutputFormat format) {
+		File file = new File(path);
+		String name = file.getName();
+		int extension = name.lastIndexOf('.');
+		name = ((extension > 0) ? name.substring(0, extension) : name) + "." + format.getExtension();
+		return new File(file.getParentFile(), name).getPath();
 	}
 
 	private void writeContentToFile(String content, String path) throws IOException {
@@ -236,55 +736,4 @@ public class ChangelogGenerator {
 		FileCopyUtils.copy(content, new FileWriter(file));
 	}
 
-	private static Escape gitHubUserMentions() {
-		return new PatternEscape(Pattern.compile("(^|[^\\w`])(@[\\w-]+)"), "$1`$2`");
-	}
-
-	private static Escape htmlTags() {
-		return new PatternEscape(Pattern.compile("(^|[^\\w`])(<[\\w\\-/<>]+>)"), "$1`$2`");
-	}
-
-	private static Escape markdownStyling() {
-		return (input) -> {
-			boolean withinBackticks = false;
-			char previous = ' ';
-			StringBuilder result = new StringBuilder(input.length());
-			for (char c : input.toCharArray()) {
-				if (!withinBackticks && previous != '\\' && (c == '*' || c == '_' || c == '~')) {
-					result.append('\\');
-				}
-				result.append(c);
-				if (c == '`') {
-					withinBackticks = !withinBackticks;
-				}
-				previous = c;
-			}
-			return result.toString();
-		};
-	}
-
-	private interface Escape {
-
-		String apply(String input);
-
-	}
-
-	private static final class PatternEscape implements Escape {
-
-		private final Pattern pattern;
-
-		private final String replacement;
-
-		private PatternEscape(Pattern pattern, String replacement) {
-			this.pattern = pattern;
-			this.replacement = replacement;
-		}
-
-		@Override
-		public String apply(String input) {
-			return this.pattern.matcher(input).replaceAll(this.replacement);
-		}
-
-	}
-
 }
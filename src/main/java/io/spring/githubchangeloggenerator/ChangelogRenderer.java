@@ -0,0 +1,34 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+/**
+ * Strategy used to render a {@link Changelog} in a particular format.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface ChangelogRenderer {
+
+	/**
+	 * Render the given changelog.
+	 * @param changelog the changelog
+	 * @return the rendered content
+	 */
+	String render(Changelog changelog);
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -77,4 +77,16 @@ class ChangelogSection {
 		return this.summarizer.summarize(issue);
 	}
 
+	String summarize(Issue issue, Deadline deadline) {
+		return this.summarizer.summarize(issue, deadline);
+	}
+
+	boolean requiresComments(Issue issue) {
+		return this.summarizer.requiresComments(issue);
+	}
+
+	boolean requiresBody(Issue issue) {
+		return this.summarizer.requiresBody(issue);
+	}
+
 }
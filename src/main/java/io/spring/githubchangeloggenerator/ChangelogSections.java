@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,14 +25,15 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.springframework.util.CollectionUtils;
 
 import io.spring.githubchangeloggenerator.ApplicationProperties.Summary;
+import io.spring.githubchangeloggenerator.BodyExpressions.Expression;
 import io.spring.githubchangeloggenerator.github.payload.Comment;
 import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociation;
 import io.spring.githubchangeloggenerator.github.payload.Issue;
@@ -70,10 +71,18 @@ class ChangelogSections {
 
 	private final IssueChain issueChain;
 
+	private final BodyExpressions bodyExpressions;
+
 	ChangelogSections(ApplicationProperties properties, GitHubService gitHub, IssueChain issueChain) {
+		this(properties, gitHub, issueChain, new BodyExpressions(properties.getIssues().getExpressions()));
+	}
+
+	ChangelogSections(ApplicationProperties properties, GitHubService gitHub, IssueChain issueChain,
+			BodyExpressions bodyExpressions) {
 		this.gitHub = gitHub;
 		this.repository = properties.getRepository();
 		this.issueChain = issueChain;
+		this.bodyExpressions = bodyExpressions;
 		this.sections = adapt(properties);
 	}
 
@@ -104,14 +113,20 @@ class ChangelogSections {
 			case MEMBER_COMMENT -> new MemberCommentIssueSummarizer(summary.getConfig(), this.gitHub, this.repository,
 					this.issueChain, titleIssueSummarizer);
 			case TITLE -> titleIssueSummarizer;
-			case BODY_REGEX -> new BodyRegexIssueSummarizer(summary.getConfig(), titleIssueSummarizer);
+			case BODY_REGEX -> new BodyRegexIssueSummarizer(summary.getConfig(), this.bodyExpressions,
+					titleIssueSummarizer);
 		};
 	}
 
 	Map<ChangelogSection, List<Issue>> collate(List<Issue> issues) {
+		return collate(issues, this::getSections);
+	}
+
+	Map<ChangelogSection, List<Issue>> collate(List<Issue> issues,
+			Function<Issue, List<ChangelogSection>> sectionsResolver) {
 		SortedMap<ChangelogSection, List<Issue>> collated = new TreeMap<>(Comparator.comparing(this.sections::indexOf));
 		for (Issue issue : issues) {
-			List<ChangelogSection> sections = getSections(issue);
+			List<ChangelogSection> sections = sectionsResolver.apply(issue);
 			for (ChangelogSection section : sections) {
 				collated.computeIfAbsent(section, (key) -> new ArrayList<>());
 				collated.get(section).add(issue);
@@ -120,7 +135,25 @@ class ChangelogSections {
 		return collated;
 	}
 
-	private List<ChangelogSection> getSections(Issue issue) {
+	int indexOf(ChangelogSection section) {
+		return this.sections.indexOf(section);
+	}
+
+	ChangelogSection get(int index) {
+		return this.sections.get(index);
+	}
+
+	/**
+	 * Return whether summarizing the given issue in any of its sections requires its
+	 * body.
+	 * @param issue the issue
+	 * @return {@code true} if the issue's body is required
+	 */
+	boolean requiresBody(Issue issue) {
+		return getSections(issue).stream().anyMatch((section) -> section.requiresBody(issue));
+	}
+
+	List<ChangelogSection> getSections(Issue issue) {
 		List<ChangelogSection> result = new ArrayList<>();
 		Set<String> groupClaims = new HashSet<>();
 		for (ChangelogSection section : this.sections) {
@@ -154,21 +187,42 @@ class ChangelogSections {
 
 		@Override
 		public String summarize(Issue issue) {
+			return summarize(issue, Deadline.NONE);
+		}
+
+		@Override
+		public String summarize(Issue issue, Deadline deadline) {
 			Issue current = issue;
 			while (current != null) {
+				if (current != issue) {
+					RenderManifest.recordDependency(current);
+				}
 				String summary = summarize(current.getBody(), current.getAuthorAssociation());
 				if (summary != null) {
 					return summary;
 				}
-				summary = summaryFromComments(current);
+				Issue commented = current;
+				summary = deadline.call(() -> summaryFromComments(commented));
 				if (summary != null) {
+					RenderManifest.recordCommentDependency();
 					return summary;
 				}
-				current = this.issueChain.nextIssue(current);
+				current = deadline.call(() -> this.issueChain.nextIssue(commented));
 			}
 			return this.fallback.summarize(issue);
 		}
 
+		@Override
+		public boolean requiresComments(Issue issue) {
+			return summarize(issue.getBody(), issue.getAuthorAssociation()) == null
+					&& CommentFetchPlanner.mayHaveComments(issue);
+		}
+
+		@Override
+		public boolean requiresBody(Issue issue) {
+			return true;
+		}
+
 		private String summarize(String body, AuthorAssociation authorAssociation) {
 			if (AuthorAssociation.MEMBER == authorAssociation) {
 				if (body != null && body.startsWith(this.prefix)) {
@@ -179,8 +233,10 @@ class ChangelogSections {
 		}
 
 		private String summaryFromComments(Issue issue) {
-			List<Comment> comments = this.gitHub.getCommentsForIssue(Integer.parseInt(issue.getNumber()),
-					this.repository);
+			if (!CommentFetchPlanner.mayHaveComments(issue)) {
+				return null;
+			}
+			List<Comment> comments = this.gitHub.getCommentsForIssue(issue, this.repository);
 			for (Comment comment : comments) {
 				String summary = summarize(comment.getBody(), comment.getAuthorAssociation());
 				if (summary != null) {
@@ -194,22 +250,33 @@ class ChangelogSections {
 
 	static class BodyRegexIssueSummarizer implements IssueSummarizer {
 
-		private final Pattern pattern;
+		private final Expression expression;
 
 		private final IssueSummarizer fallback;
 
-		BodyRegexIssueSummarizer(Map<String, String> config, IssueSummarizer fallback) {
-			this.pattern = Pattern.compile(config.get("expression"));
+		BodyRegexIssueSummarizer(Map<String, String> config, BodyExpressions bodyExpressions,
+				IssueSummarizer fallback) {
+			this.expression = bodyExpressions.compile(Pattern.compile(config.get("expression")));
 			this.fallback = fallback;
 		}
 
 		@Override
 		public String summarize(Issue issue) {
-			Matcher matcher = this.pattern.matcher(issue.getBody());
-			if (matcher.matches()) {
-				return matcher.group(1);
+			return summarize(issue, Deadline.NONE);
+		}
+
+		@Override
+		public String summarize(Issue issue, Deadline deadline) {
+			if (deadline.hasPassed()) {
+				throw new Deadline.ExceededException();
 			}
-			return this.fallback.summarize(issue);
+			String summary = this.expression.extract(issue.getBody());
+			return (summary != null) ? summary : this.fallback.summarize(issue, deadline);
+		}
+
+		@Override
+		public boolean requiresBody(Issue issue) {
+			return true;
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2020 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,21 @@
 
 package io.spring.githubchangeloggenerator;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+import io.spring.githubchangeloggenerator.github.service.GitHubService;
 
 /**
  * {@link ApplicationRunner} that triggers the generation of the changelog based on
@@ -33,27 +41,103 @@ import org.springframework.util.Assert;
 @Component
 public class CommandProcessor implements ApplicationRunner {
 
-	private final ChangelogGenerator generator;
+	private final ObjectProvider<ChangelogGenerator> generator;
+
+	private final BatchGenerator batchGenerator;
 
-	public CommandProcessor(ChangelogGenerator generator) {
+	private final GitHubService service;
+
+	public CommandProcessor(ObjectProvider<ChangelogGenerator> generator, BatchGenerator batchGenerator,
+			GitHubService service) {
 		this.generator = generator;
+		this.batchGenerator = batchGenerator;
+		this.service = service;
 	}
 
 	@Override
 	public void run(ApplicationArguments args) throws IOException {
-		run(args.getNonOptionArgs());
+		String reportPath = getOptionValue(args, "report");
+		String manifestPath = getOptionValue(args, "manifest");
+		if (manifestPath != null) {
+			String checkpointPath = getOptionValue(args, "checkpoint");
+			runBatch(manifestPath, (checkpointPath != null) ? checkpointPath : manifestPath + ".checkpoint",
+					reportPath);
+			return;
+		}
+		String webhookPort = getOptionValue(args, "webhook");
+		if (webhookPort != null) {
+			Map.Entry<String, String> milestonePath = getSingleMilestonePath(args.getNonOptionArgs(),
+					"Only a single milestone can be updated by webhook events");
+			new WebhookReceiver(this.generator.getObject(), this.service, milestonePath.getKey(),
+					milestonePath.getValue(), getOptionValue(args, "webhook-secret"))
+				.run(Integer.parseInt(webhookPort));
+			return;
+		}
+		String watchInterval = getOptionValue(args, "watch");
+		if (watchInterval != null) {
+			Map.Entry<String, String> milestonePath = getSingleMilestonePath(args.getNonOptionArgs(),
+					"Only a single milestone can be watched");
+			this.generator.getObject()
+				.watch(milestonePath.getKey(), milestonePath.getValue(), DurationStyle.detectAndParse(watchInterval));
+			return;
+		}
+		String deadline = getOptionValue(args, "deadline");
+		run(getMilestonePaths(args.getNonOptionArgs()), reportPath,
+				(deadline != null) ? Deadline.after(DurationStyle.detectAndParse(deadline)) : Deadline.NONE);
+	}
+
+	private void runBatch(String manifestPath, String checkpointPath, String reportPath) throws IOException {
+		GenerationReport report = createReport(reportPath);
+		this.batchGenerator.generate(new File(manifestPath), new File(checkpointPath), report);
+		writeReport(report, reportPath);
+	}
+
+	private String getOptionValue(ApplicationArguments args, String name) {
+		List<String> values = args.getOptionValues(name);
+		return (!CollectionUtils.isEmpty(values)) ? values.get(0) : null;
+	}
+
+	private Map<String, String> getMilestonePaths(List<String> args) {
+		Assert.isTrue(!args.isEmpty(), "Milestone must be specified");
+		Map<String, String> milestonePaths = new LinkedHashMap<>();
+		for (int i = 0; i < args.size(); i += 2) {
+			String milestone = args.get(i);
+			String path = (i + 1 < args.size()) ? args.get(i + 1) : null;
+			Assert.hasLength(milestone, "Milestone must be specified");
+			Assert.hasLength(path, () -> "Path must be specified for milestone '" + milestone + "'");
+			Assert.isTrue(milestonePaths.put(milestone, path) == null,
+					() -> "Milestone '" + milestone + "' must only be specified once");
+		}
+		return milestonePaths;
+	}
+
+	private Map.Entry<String, String> getSingleMilestonePath(List<String> args, String message) {
+		Map<String, String> milestonePaths = getMilestonePaths(args);
+		Assert.isTrue(milestonePaths.size() == 1, message);
+		return milestonePaths.entrySet().iterator().next();
+	}
+
+	private void run(Map<String, String> milestonePaths, String reportPath, Deadline deadline) throws IOException {
+		GenerationReport report = createReport(reportPath);
+		ChangelogGenerator generator = this.generator.getObject();
+		if (milestonePaths.size() == 1) {
+			Map.Entry<String, String> entry = milestonePaths.entrySet().iterator().next();
+			generator.generate(entry.getKey(), entry.getValue(), report, deadline);
+		}
+		else {
+			generator.generate(milestonePaths, report, deadline);
+		}
+		writeReport(report, reportPath);
 	}
 
-	private void run(List<String> args) throws IOException {
-		String milestone = args.get(0);
-		String path = args.get(1);
-		run(milestone, path);
+	private GenerationReport createReport(String reportPath) {
+		return (reportPath != null) ? new GenerationReport(this.service.getStatistics()) : null;
 	}
 
-	private void run(String milestone, String path) throws IOException {
-		Assert.hasLength(milestone, "Milestone must be specified");
-		Assert.hasLength(path, "Path must be specified");
-		this.generator.generate(milestone, path);
+	private void writeReport(GenerationReport report, String reportPath) {
+		if (report != null) {
+			report.writeTo(new File(reportPath));
+		}
 	}
 
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+
+/**
+ * Utility to plan the comment fetches that are needed to summarize issues. Issues that
+ * have no comments are skipped and the remaining fetches are ordered so that those that
+ * are expected to be the most expensive are started first.
+ *
+ * @author agent
+ */
+final class CommentFetchPlanner {
+
+	/**
+	 * The number of comments that GitHub returns in each page.
+	 */
+	static final int COMMENTS_PER_PAGE = 30;
+
+	private static final Comparator<Issue> EXPECTED_COST_COMPARATOR = Comparator
+		.comparingInt(CommentFetchPlanner::getExpectedCost)
+		.thenComparingInt(CommentFetchPlanner::getCommentCount)
+		.reversed();
+
+	private CommentFetchPlanner() {
+	}
+
+	/**
+	 * Return the issues whose comments should be fetched, most expensive first.
+	 * @param issues the issues whose comments are required
+	 * @return the planned issues
+	 */
+	static List<Issue> plan(Collection<Issue> issues) {
+		return issues.stream().filter(CommentFetchPlanner::mayHaveComments).sorted(EXPECTED_COST_COMPARATOR).toList();
+	}
+
+	/**
+	 * Return whether the given issue may have comments. Issues whose comment count is not
+	 * known are assumed to have comments.
+	 * @param issue the issue
+	 * @return {@code true} if the issue may have comments
+	 */
+	static boolean mayHaveComments(Issue issue) {
+		Integer commentCount = issue.getCommentCount();
+		return commentCount == null || commentCount > 0;
+	}
+
+	/**
+	 * Return the expected cost, in requests, of fetching the comments of the given issue.
+	 * An issue whose comment count is not known is expected to need a single request.
+	 * @param issue the issue
+	 * @return the expected cost
+	 */
+	static int getExpectedCost(Issue issue) {
+		Integer commentCount = issue.getCommentCount();
+		if (commentCount == null) {
+			return 1;
+		}
+		return (commentCount + COMMENTS_PER_PAGE - 1) / COMMENTS_PER_PAGE;
+	}
+
+	private static int getCommentCount(Issue issue) {
+		Integer commentCount = issue.getCommentCount();
+		return (commentCount != null) ? commentCount : 0;
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+import io.spring.githubchangeloggenerator.github.service.RequestExecutor;
+
+/**
+ * A point in time by which a changelog must have been generated. Work that is performed
+ * through a deadline is abandoned once the deadline has passed, allowing the work's
+ * caller to fall back to a cheaper alternative rather than waiting for a slow request to
+ * GitHub to complete.
+ *
+ * @author agent
+ */
+public final class Deadline {
+
+	/**
+	 * A deadline that never passes.
+	 */
+	public static final Deadline NONE = new Deadline(Long.MAX_VALUE);
+
+	private final long expiry;
+
+	private Deadline(long expiry) {
+		this.expiry = expiry;
+	}
+
+	/**
+	 * Return whether the deadline has passed.
+	 * @return {@code true} if the deadline has passed
+	 */
+	boolean hasPassed() {
+		return this != NONE && System.nanoTime() - this.expiry >= 0;
+	}
+
+	/**
+	 * Perform the given work, abandoning it if it has not completed when the deadline
+	 * passes. The work is performed using the {@link RequestExecutor} and, if all of its
+	 * threads are busy, is performed on the calling thread without being abandoned.
+	 * @param <T> the type of the work's result
+	 * @param work the work to perform
+	 * @return the result of the work
+	 * @throws ExceededException if the deadline passes before the work has completed
+	 */
+	<T> T call(Supplier<T> work) {
+		if (this == NONE) {
+			return work.get();
+		}
+		if (hasPassed()) {
+			throw new ExceededException();
+		}
+		Future<T> future = RequestExecutor.submit(work::get);
+		try {
+			return future.get(this.expiry - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException ex) {
+			future.cancel(true);
+			throw new ExceededException();
+		}
+		catch (InterruptedException ex) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new ExceededException();
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+	/**
+	 * Return the remaining time before the deadline passes.
+	 * @return the remaining time, which is negative once the deadline has passed
+	 */
+	Duration getRemaining() {
+		return (this != NONE) ? Duration.ofNanos(this.expiry - System.nanoTime()) : null;
+	}
+
+	/**
+	 * Create a new deadline that passes after the given duration.
+	 * @param duration the duration
+	 * @return the deadline
+	 */
+	public static Deadline after(Duration duration) {
+		Assert.isTrue(duration != null && !duration.isNegative(), "Duration must not be negative");
+		return new Deadline(System.nanoTime() + duration.toNanos());
+	}
+
+	/**
+	 * Thrown when a deadline passes before work that was performed through it has
+	 * completed.
+	 */
+	static class ExceededException extends RuntimeException {
+
+		ExceededException() {
+			super("Deadline exceeded");
+		}
+
+	}
+
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.util.StopWatch;
+import org.springframework.util.StopWatch.TaskInfo;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.service.RequestStatistics;
+
+/**
+ * A machine-readable report of the work performed while generating a changelog. Records
+ * the time taken by each phase of generation, the requests that were made to GitHub, the
+ * issues that were the most expensive to summarize, the regular expressions that were
+ * the most expensive to match against issue bodies and the lines that were degraded
+ * because a deadline passed.
+ *
+ * @author agent
+ */
+public class GenerationReport {
+
+	private static final int SLOWEST_ISSUES_LIMIT = 10;
+
+	private static final int SLOWEST_EXPRESSIONS_LIMIT = 10;
+
+	private final RequestStatistics statistics;
+
+	private final Map<String, Long> phases = new LinkedHashMap<>();
+
+	private final List<IssueCost> issueCosts = new ArrayList<>();
+
+	private final List<DegradedLine> degradedLines = new ArrayList<>();
+
+	private final Map<String, ExpressionCost> expressionCosts = new LinkedHashMap<>();
+
+	private final Map<Integer, Map<String, Long>> prefetchRequests = new LinkedHashMap<>();
+
+	public GenerationReport(RequestStatistics statistics) {
+		this.statistics = statistics;
+	}
+
+	synchronized void recordPhases(StopWatch stopWatch) {
+		for (TaskInfo task : stopWatch.getTaskInfo()) {
+			this.phases.merge(task.getTaskName(), task.getTimeMillis(), Long::sum);
+		}
+	}
+
+	void prefetch(Issue issue, Runnable prefetch) {
+		Map<String, Long> before = this.statistics.getThreadRequestsByEndpoint();
+		prefetch.run();
+		Map<String, Long> requests = getRequestsSince(before);
+		if (!requests.isEmpty()) {
+			synchronized (this) {
+				Map<String, Long> issueRequests = this.prefetchRequests.computeIfAbsent(issue.getNumberValue(),
+						(number) -> new TreeMap<>());
+				requests.forEach((endpoint, count) -> issueRequests.merge(endpoint, count, Long::sum));
+			}
+		}
+	}
+
+	String summarize(Issue issue, ChangelogSection section, Deadline deadline) {
+		Map<String, Long> before = this.statistics.getThreadRequestsByEndpoint();
+		long start = System.nanoTime();
+		String summary = section.summarize(issue, deadline);
+		Duration duration = Duration.ofNanos(System.nanoTime() - start);
+		Map<String, Long> requests = getRequestsSince(before);
+		synchronized (this) {
+			Map<String, Long> prefetched = this.prefetchRequests.remove(issue.getNumberValue());
+			if (prefetched != null) {
+				prefetched.forEach((endpoint, count) -> requests.merge(endpoint, count, Long::sum));
+			}
+			this.issueCosts.add(new IssueCost(issue.getNumber(), section.toString(), duration, requests));
+		}
+		return summary;
+	}
+
+	private Map<String, Long> getRequestsSince(Map<String, Long> before) {
+		Map<String, Long> requests = new TreeMap<>();
+		this.statistics.getThreadRequestsByEndpoint().forEach((endpoint, count) -> {
+			long made = count - before.getOrDefault(endpoint, 0L);
+			if (made > 0) {
+				requests.put(endpoint, made);
+			}
+		});
+		return requests;
+	}
+
+	synchronized void recordExpressionCosts(List<ExpressionCost> costs) {
+		costs.forEach((cost) -> this.expressionCosts.put(cost.getExpression(), cost));
+	}
+
+	synchronized void recordDegraded(Issue issue, ChangelogSection section) {
+		this.degradedLines.add(new DegradedLine(issue.getNumber(), section.toString()));
+	}
+
+	/**
+	 * Return the time, in milliseconds, taken by each phase of generation.
+	 * @return the phase timings
+	 */
+	public synchronized Map<String, Long> getPhases() {
+		return new LinkedHashMap<>(this.phases);
+	}
+
+	/**
+	 * Return the number of requests made to GitHub, keyed by endpoint URI template.
+	 * @return the requests by endpoint
+	 */
+	public Map<String, Long> getRequestsByEndpoint() {
+		return this.statistics.getRequestsByEndpoint();
+	}
+
+	/**
+	 * Return the URIs that were requested more than once.
+	 * @return the duplicate requests
+	 */
+	public Map<String, Long> getDuplicateRequests() {
+		return this.statistics.getDuplicateRequests();
+	}
+
+	/**
+	 * Return the cache hits, keyed by cache name.
+	 * @return the cache hits
+	 */
+	public Map<String, Long> getCacheHits() {
+		return this.statistics.getCacheHits();
+	}
+
+	/**
+	 * Return the cache misses, keyed by cache name.
+	 * @return the cache misses
+	 */
+	public Map<String, Long> getCacheMisses() {
+		return this.statistics.getCacheMisses();
+	}
+
+	/**
+	 * Return the cache evictions, keyed by cache name.
+	 * @return the cache evictions
+	 */
+	public Map<String, Long> getCacheEvictions() {
+		return this.statistics.getCacheEvictions();
+	}
+
+	/**
+	 * Return the number of requests that were retried, keyed by endpoint URI template.
+	 * @return the retries
+	 */
+	public Map<String, Long> getRetries() {
+		return this.statistics.getRetries();
+	}
+
+	/**
+	 * Return the number of hedged requests that were made, keyed by endpoint URI
+	 * template.
+	 * @return the hedged requests
+	 */
+	public Map<String, Long> getHedgedRequests() {
+		return this.statistics.getHedgedRequests();
+	}
+
+	/**
+	 * Return the number of bytes received in response bodies from GitHub.
+	 * @return the bytes received
+	 */
+	public long getBytesReceived() {
+		return this.statistics.getBytesReceived();
+	}
+
+	/**
+	 * Return the issues that took the longest to summarize, slowest first.
+	 * @return the slowest issues
+	 */
+	public synchronized List<IssueCost> getSlowestIssues() {
+		return this.issueCosts.stream()
+			.sorted(Comparator.comparing((IssueCost cost) -> cost.duration).reversed())
+			.limit(SLOWEST_ISSUES_LIMIT)
+			.toList();
+	}
+
+	/**
+	 * Return the regular expressions that took the longest in total to match against
+	 * issue bodies, slowest first.
+	 * @return the slowest expressions
+	 */
+	public synchronized List<ExpressionCost> getSlowestExpressions() {
+		return this.expressionCosts.values()
+			.stream()
+			.sorted(Comparator.comparingLong(ExpressionCost::getTotalMicros).reversed())
+			.limit(SLOWEST_EXPRESSIONS_LIMIT)
+			.toList();
+	}
+
+	/**
+	 * Return the lines that were summarized using the issue's title because the
+	 * deadline passed before they could be summarized as configured.
+	 * @return the degraded lines
+	 */
+	public synchronized List<DegradedLine> getDegradedLines() {
+		return new ArrayList<>(this.degradedLines);
+	}
+
+	/**
+	 * Write this report as JSON to the given file.
+	 * @param file the destination file
+	 */
+	public void writeTo(File file) {
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build().writeValue(file, this);
+	}
+
+	/**
+	 * The cost of summarizing a single issue.
+	 */
+	public static final class IssueCost {
+
+		private final String number;
+
+		private final String section;
+
+		private final Duration duration;
+
+		private final Map<String, Long> requests;
+
+		IssueCost(String number, String section, Duration duration, Map<String, Long> requests) {
+			this.number = number;
+			this.section = section;
+			this.duration = duration;
+			this.requests = requests;
+		}
+
+		public String getNumber() {
+			return this.number;
+		}
+
+		public String getSection() {
+			return this.section;
+		}
+
+		public long getMillis() {
+			return this.duration.toMillis();
+		}
+
+		/**
+		 * Return the requests that were made while summarizing the issue, keyed by
+		 * endpoint URI template. Issue requests indicate the depth of the ported issue
+		 * chain that was followed and comment requests indicate the number of pages of
+		 * comments that were read, including those that were fetched ahead of
+		 * summarizing. Requests made ahead of summarizing an issue that appears in more
+		 * than one section are attributed to the first section that summarized it.
+		 * @return the requests made while summarizing
+		 */
+		public Map<String, Long> getRequests() {
+			return this.requests;
+		}
+
+	}
+
+	/**
+	 * The cost of matching a regular expression against issue bodies.
+	 */
+	public static final class ExpressionCost {
+
+		private final String expression;
+
+		private final long evaluations;
+
+		private final long totalMicros;
+
+		private final long maxMicros;
+
+		private final long timeouts;
+
+		ExpressionCost(String expression, long evaluations, long totalMicros, long maxMicros, long timeouts) {
+			this.expression = expression;
+			this.evaluations = evaluations;
+			this.totalMicros = totalMicros;
+			this.maxMicros = maxMicros;
+			this.timeouts = timeouts;
+		}
+
+		public String getExpression() {
+			return this.expression;
+		}
+
+		public long getEvaluations() {
+			return this.evaluations;
+		}
+
+		public long getTotalMicros() {
+			return this.totalMicros;
+		}
+
+		public long getMaxMicros() {
+			return this.maxMicros;
+		}
+
+		/**
+		 * Return the number of matches that were abandoned because they exceeded their
+		 * time budget. The bodies that they were matched against were treated as not
+		 * matching.
+		 * @return the number of abandoned matches
+		 */
+		public long getTimeouts() {
+			return this.timeouts;
+		}
+
+	}
+
+	/**
+	 * A line that was degraded because a deadline passed.
+	 */
+	public static final class DegradedLine {
+
+		private final String number;
+
+		private final String section;
+
+		DegradedLine(String number, String section) {
+			this.number = number;
+			this.section = section;
+		}
+
+		public String getNumber() {
+			return this.number;
+		}
+
+		public String getSection() {
+			return this.section;
+		}
+
+	}
+
+}
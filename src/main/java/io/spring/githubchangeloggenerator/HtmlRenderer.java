@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import org.springframework.web.util.HtmlUtils;
+
+import io.spring.githubchangeloggenerator.ApplicationProperties.ExternalLink;
+import io.spring.githubchangeloggenerator.Changelog.Entry;
+import io.spring.githubchangeloggenerator.Changelog.Section;
+
+/**
+ * {@link ChangelogRenderer} for an HTML fragment that can be included in a page.
+ *
+ * @author agent
+ */
+class HtmlRenderer implements ChangelogRenderer {
+
+	@Override
+	public String render(Changelog changelog) {
+		StringBuilder content = new StringBuilder();
+		for (Section section : changelog.getSections()) {
+			content.append(String.format("<h2>%s</h2>%n<ul>%n", escape(section.getTitle())));
+			section.getEntries().stream().map(this::formatEntry).forEach(content::append);
+			content.append(String.format("</ul>%n"));
+		}
+		if (!changelog.getContributors().isEmpty()) {
+			String title = (changelog.getContributorsTitle() != null) ? changelog.getContributorsTitle()
+					: "Contributors";
+			content.append(String.format("<h2>%s</h2>%n", escape(title)));
+			content.append(String.format("<p>Thank you to all the contributors who worked on this release:</p>%n"));
+			content.append(String.format("<ul>%n"));
+			changelog.getContributors()
+				.forEach((name) -> content.append(String.format("<li><a href=\"https://github.com/%s\">@%s</a></li>%n",
+						escape(name), escape(name))));
+			content.append(String.format("</ul>%n"));
+		}
+		if (!changelog.getExternalLinks().isEmpty()) {
+			content.append(String.format("<h2>External Links</h2>%n<ul>%n"));
+			changelog.getExternalLinks().stream().map(this::formatExternalLink).forEach(content::append);
+			content.append(String.format("</ul>%n"));
+		}
+		return content.toString();
+	}
+
+	private String formatEntry(Entry entry) {
+		String summary = escape(entry.getSummary());
+		return (entry.getUrl() != null) ? String.format("<li>%s <a href=\"%s\">#%s</a></li>%n", summary,
+				escape(entry.getUrl()), escape(entry.getNumber())) : String.format("<li>%s</li>%n", summary);
+	}
+
+	private String formatExternalLink(ExternalLink externalLink) {
+		return String.format("<li><a href=\"%s\">%s</a></li>%n", escape(externalLink.getLocation()),
+				escape(externalLink.getName()));
+	}
+
+	private String escape(String input) {
+		return HtmlUtils.htmlEscape(input);
+	}
+
+}
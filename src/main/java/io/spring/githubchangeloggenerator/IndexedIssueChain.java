@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import io.spring.githubchangeloggenerator.ApplicationProperties.PortedIssue;
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.service.GitHubService;
+import io.spring.githubchangeloggenerator.github.service.Repository;
+
+/**
+ * A {@link PortedIssueChain} that indexes the issues that a changelog's issues are ports
+ * of before the chain is followed. The bodies of the changelog's issues are scanned for
+ * references and every referenced issue, and then every issue that they reference in
+ * turn, is fetched in batches. The chain is then followed using the
+ * {@link GitHubService}'s cached issues without making further requests.
+ *
+ * @author agent
+ */
+class IndexedIssueChain extends PortedIssueChain {
+
+	private final GitHubService github;
+
+	private final Repository repository;
+
+	IndexedIssueChain(Set<PortedIssue> portedIssues, BodyExpressions bodyExpressions, GitHubService github,
+			Repository repository) {
+		super(portedIssues, bodyExpressions, github, repository);
+		this.github = github;
+		this.repository = repository;
+	}
+
+	/**
+	 * Fetch the issues that the given issues are ports of, directly or indirectly.
+	 * @param issues the issues
+	 */
+	void index(Collection<Issue> issues) {
+		index(issues, Deadline.NONE);
+	}
+
+	/**
+	 * Fetch the issues that the given issues are ports of, directly or indirectly,
+	 * stopping once the given deadline has passed. Issues that have not been fetched when
+	 * the deadline passes are fetched as the chain is followed.
+	 * @param issues the issues
+	 * @param deadline the deadline
+	 */
+	void index(Collection<Issue> issues, Deadline deadline) {
+		Set<Integer> visited = new HashSet<>();
+		Collection<Issue> sources = issues;
+		while (!sources.isEmpty() && !deadline.hasPassed()) {
+			Set<Integer> issueNumbers = new LinkedHashSet<>();
+			for (Issue source : sources) {
+				for (int issueNumber : getReferencedIssueNumbers(source)) {
+					if (visited.add(issueNumber)) {
+						issueNumbers.add(issueNumber);
+					}
+				}
+			}
+			if (issueNumbers.isEmpty()) {
+				return;
+			}
+			sources = this.github.getIssues(issueNumbers, this.repository).values();
+		}
+	}
+
+}
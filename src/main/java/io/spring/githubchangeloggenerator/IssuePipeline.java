@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.service.GitHubService;
+import io.spring.githubchangeloggenerator.github.service.Repository;
+
+/**
+ * Fetches the issues of a milestone through a pipeline whose stages overlap. Pages of
+ * issues are listed on a separate thread and handed to the caller through a bounded
+ * queue. Each page is filtered and classified as soon as it arrives, and the issues that
+ * its issues are ports of and the comments that its issues are summarized from are then
+ * fetched concurrently while later pages are still being listed. Once the last page has
+ * arrived and every fetch has completed, the changelog can be rendered from the
+ * {@link GitHubService}'s caches.
+ *
+ * @author agent
+ */
+class IssuePipeline {
+
+	private static final int QUEUE_CAPACITY = 4;
+
+	private static final int MAX_CONCURRENT_FETCHES = 4;
+
+	private static final List<Issue> LAST_PAGE = new ArrayList<>();
+
+	private final GitHubService service;
+
+	private final Repository repository;
+
+	private final IndexedIssueChain issueChain;
+
+	private final Predicate<Issue> excluded;
+
+	IssuePipeline(GitHubService service, Repository repository, IndexedIssueChain issueChain,
+			Predicate<Issue> excluded) {
+		this.service = service;
+		this.repository = repository;
+		this.issueChain = issueChain;
+		this.excluded = excluded;
+	}
+
+	/**
+	 * Fetch the issues of the given milestone that are not excluded, along with the
+	 * issues that they are ports of and the comments of the issues that require them.
+	 * @param milestoneNumber the number of the milestone
+	 * @param requiresComments whether the comments of an issue are required
+	 * @param deadline the deadline after which ported issues and comments are no longer
+	 * fetched
+	 * @return the issues that are not excluded
+	 */
+	List<Issue> fetch(int milestoneNumber, Predicate<Issue> requiresComments, Deadline deadline) {
+		BlockingQueue<List<Issue>> pages = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+		ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_FETCHES + 1, (runnable) -> {
+			Thread thread = new Thread(runnable, "issue-pipeline");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			Future<?> producer = executor.submit(() -> {
+				try {
+					this.service.getIssuesForMilestone(milestoneNumber, this.repository, (page) -> put(pages, page));
+				}
+				finally {
+					put(pages, LAST_PAGE);
+				}
+			});
+			List<Issue> issues = new ArrayList<>();
+			List<Future<?>> fetches = new ArrayList<>();
+			List<Issue> page;
+			while ((page = take(pages)) != LAST_PAGE) {
+				List<Issue> included = page.stream().filter(this.excluded.negate()).toList();
+				issues.addAll(included);
+				fetches.add(executor.submit(() -> this.issueChain.index(included, deadline)));
+				List<Issue> commented = included.stream().filter(requiresComments).toList();
+				for (Issue issue : CommentFetchPlanner.plan(commented)) {
+					fetches.add(executor.submit(() -> {
+						if (!deadline.hasPassed()) {
+							this.service.getCommentsForIssue(issue, this.repository);
+						}
+					}));
+				}
+			}
+			await(producer);
+			for (Future<?> fetch : fetches) {
+				await(fetch);
+			}
+			return issues;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void put(BlockingQueue<List<Issue>> pages, List<Issue> page) {
+		try {
+			pages.put(page);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while fetching issues", ex);
+		}
+	}
+
+	private List<Issue> take(BlockingQueue<List<Issue>> pages) {
+		try {
+			return pages.take();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while fetching issues", ex);
+		}
+	}
+
+	private void await(Future<?> future) {
+		try {
+			future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while fetching issues", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,4 +33,35 @@ interface IssueSummarizer {
 	 */
 	String summarize(Issue issue);
 
+	/**
+	 * Summarize the given {@code issue}, abandoning any work that has not completed when
+	 * the given {@code deadline} passes.
+	 * @param issue the issue
+	 * @param deadline the deadline
+	 * @return the summary
+	 * @throws Deadline.ExceededException if the deadline passed before the issue was
+	 * summarized
+	 */
+	default String summarize(Issue issue, Deadline deadline) {
+		return summarize(issue);
+	}
+
+	/**
+	 * Return whether summarizing the given {@code issue} requires its comments.
+	 * @param issue the issue
+	 * @return {@code true} if the issue's comments are required
+	 */
+	default boolean requiresComments(Issue issue) {
+		return false;
+	}
+
+	/**
+	 * Return whether summarizing the given {@code issue} requires its body.
+	 * @param issue the issue
+	 * @return {@code true} if the issue's body is required
+	 */
+	default boolean requiresBody(Issue issue) {
+		return false;
+	}
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link ChangelogRenderer} for JSON that describes the changelog's sections, summarized
+ * issues, contributors and external links.
+ *
+ * @author agent
+ */
+class JsonRenderer implements ChangelogRenderer {
+
+	private static final JsonMapper jsonMapper = JsonMapper.builder()
+		.enable(SerializationFeature.INDENT_OUTPUT)
+		.build();
+
+	@Override
+	public String render(Changelog changelog) {
+		return jsonMapper.writeValueAsString(changelog);
+	}
+
+}
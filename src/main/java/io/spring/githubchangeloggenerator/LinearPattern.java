@@ -0,0 +1,610 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * A regular expression that is matched in time proportional to the length of its input.
+ * The expression is compiled to a program that is run by simulating every possible
+ * backtracking path at once, in priority order, so that the first capturing group is the
+ * same as the group that {@link java.util.regex.Matcher#matches()} would capture. Only a
+ * subset of {@link Pattern}'s syntax is supported: literals, {@code .}, the
+ * {@code \d}, {@code \w} and {@code \s} classes and their negations, simple character
+ * classes, groups, alternation, and greedy or reluctant quantifiers. Expressions that use
+ * any other syntax or flags, that repeat a sub-expression that can match the empty
+ * string, or that repeat the first capturing group are not compiled.
+ *
+ * @author agent
+ */
+final class LinearPattern {
+
+	private static final int MAX_INSTRUCTIONS = 2000;
+
+	private static final int MAX_REPETITIONS = 100;
+
+	private static final int CHARACTER = 0;
+
+	private static final int SPLIT = 1;
+
+	private static final int JUMP = 2;
+
+	private static final int SAVE = 3;
+
+	private static final int MATCH = 4;
+
+	private static final IntPredicate DIGIT = (c) -> c >= '0' && c <= '9';
+
+	private static final IntPredicate WORD = (c) -> (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+			|| (c >= '0' && c <= '9') || c == '_';
+
+	private static final IntPredicate SPACE = (c) -> c == ' ' || c == '\t' || c == '\n' || c == '\u000B'
+			|| c == '\f' || c == '\r';
+
+	private static final IntPredicate ANY = (c) -> c != '\n' && c != '\r' && c != '\u0085' && c != '\u2028'
+			&& c != '\u2029';
+
+	private final int[] opcodes;
+
+	private final int[] x;
+
+	private final int[] y;
+
+	private final IntPredicate[] predicates;
+
+	private LinearPattern(Program program) {
+		this.opcodes = program.opcodes.stream().mapToInt(Integer::intValue).toArray();
+		this.x = program.x.stream().mapToInt(Integer::intValue).toArray();
+		this.y = program.y.stream().mapToInt(Integer::intValue).toArray();
+		this.predicates = program.predicates.toArray(new IntPredicate[0]);
+	}
+
+	/**
+	 * Match the whole of the given input and return the input captured by the first
+	 * group.
+	 * @param input the input
+	 * @param checkpoint called periodically so that a long match can be abandoned by
+	 * throwing an exception
+	 * @return the captured input or {@code null} if the input does not match or the group
+	 * did not capture anything
+	 */
+	String match(CharSequence input, Runnable checkpoint) {
+		Threads current = new Threads(this.opcodes.length);
+		Threads next = new Threads(this.opcodes.length);
+		addThread(current, 0, new int[] { -1, -1 }, 0);
+		int length = input.length();
+		for (int position = 0; position < length && current.size > 0; position++) {
+			if ((position & 1023) == 0) {
+				checkpoint.run();
+			}
+			char c = input.charAt(position);
+			next.clear();
+			for (int i = 0; i < current.size; i++) {
+				int pc = current.pcs[i];
+				if (this.opcodes[pc] == CHARACTER && this.predicates[pc].test(c)) {
+					addThread(next, pc + 1, current.captures[i], position + 1);
+				}
+			}
+			Threads swap = current;
+			current = next;
+			next = swap;
+		}
+		for (int i = 0; i < current.size; i++) {
+			if (this.opcodes[current.pcs[i]] == MATCH) {
+				int[] captures = current.captures[i];
+				return (captures[0] >= 0 && captures[1] >= 0) ? input.subSequence(captures[0], captures[1]).toString()
+						: null;
+			}
+		}
+		return null;
+	}
+
+	private void addThread(Threads threads, int pc, int[] captures, int position) {
+		if (!threads.visit(pc)) {
+			return;
+		}
+		switch (this.opcodes[pc]) {
+			case JUMP -> addThread(threads, this.x[pc], captures, position);
+			case SPLIT -> {
+				addThread(threads, this.x[pc], captures, position);
+				addThread(threads, this.y[pc], captures, position);
+			}
+			case SAVE -> {
+				int[] saved = captures.clone();
+				saved[this.x[pc]] = position;
+				addThread(threads, pc + 1, saved, position);
+			}
+			default -> threads.add(pc, captures);
+		}
+	}
+
+	/**
+	 * Compile the given pattern, which must have a capturing group, if its syntax is
+	 * supported.
+	 * @param pattern the pattern to compile
+	 * @return the compiled pattern or {@code null} if it is not supported
+	 */
+	static LinearPattern compile(Pattern pattern) {
+		if (pattern.flags() != 0) {
+			return null;
+		}
+		try {
+			Parser parser = new Parser(pattern.pattern());
+			Node node = parser.parse();
+			if (parser.groups == 0) {
+				return null;
+			}
+			Program program = new Program();
+			node.compile(program);
+			program.emit(MATCH, 0, 0, null);
+			return new LinearPattern(program);
+		}
+		catch (UnsupportedSyntaxException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * The threads of a match at a single position of the input, in priority order.
+	 */
+	private static final class Threads {
+
+		private final int[] pcs;
+
+		private final int[][] captures;
+
+		private final int[] visits;
+
+		private int generation = 1;
+
+		private int size;
+
+		Threads(int capacity) {
+			this.pcs = new int[capacity];
+			this.captures = new int[capacity][];
+			this.visits = new int[capacity];
+		}
+
+		boolean visit(int pc) {
+			if (this.visits[pc] == this.generation) {
+				return false;
+			}
+			this.visits[pc] = this.generation;
+			return true;
+		}
+
+		void add(int pc, int[] captures) {
+			this.pcs[this.size] = pc;
+			this.captures[this.size] = captures;
+			this.size++;
+		}
+
+		void clear() {
+			this.generation++;
+			this.size = 0;
+		}
+
+	}
+
+	/**
+	 * A program that is being compiled.
+	 */
+	private static final class Program {
+
+		private final List<Integer> opcodes = new ArrayList<>();
+
+		private final List<Integer> x = new ArrayList<>();
+
+		private final List<Integer> y = new ArrayList<>();
+
+		private final List<IntPredicate> predicates = new ArrayList<>();
+
+		int emit(int opcode, int x, int y, IntPredicate predicate) {
+			if (this.opcodes.size() >= MAX_INSTRUCTIONS) {
+				throw new UnsupportedSyntaxException();
+			}
+			this.opcodes.add(opcode);
+			this.x.add(x);
+			this.y.add(y);
+			this.predicates.add(predicate);
+			return this.opcodes.size() - 1;
+		}
+
+		int next() {
+			return this.opcodes.size();
+		}
+
+		void patch(int pc, int x, int y) {
+			this.x.set(pc, x);
+			this.y.set(pc, y);
+		}
+
+	}
+
+	/**
+	 * A node of a parsed expression.
+	 */
+	private interface Node {
+
+		boolean isNullable();
+
+		void compile(Program program);
+
+	}
+
+	private record Characters(IntPredicate predicate) implements Node {
+
+		@Override
+		public boolean isNullable() {
+			return false;
+		}
+
+		@Override
+		public void compile(Program program) {
+			program.emit(CHARACTER, 0, 0, this.predicate);
+		}
+
+	}
+
+	private record Concatenation(List<Node> nodes) implements Node {
+
+		@Override
+		public boolean isNullable() {
+			return this.nodes.stream().allMatch(Node::isNullable);
+		}
+
+		@Override
+		public void compile(Program program) {
+			this.nodes.forEach((node) -> node.compile(program));
+		}
+
+	}
+
+	private record Alternation(List<Node> alternatives) implements Node {
+
+		@Override
+		public boolean isNullable() {
+			return this.alternatives.stream().anyMatch(Node::isNullable);
+		}
+
+		@Override
+		public void compile(Program program) {
+			List<Integer> jumps = new ArrayList<>();
+			for (int i = 0; i < this.alternatives.size() - 1; i++) {
+				int split = program.emit(SPLIT, 0, 0, null);
+				this.alternatives.get(i).compile(program);
+				jumps.add(program.emit(JUMP, 0, 0, null));
+				program.patch(split, split + 1, program.next());
+			}
+			this.alternatives.get(this.alternatives.size() - 1).compile(program);
+			jumps.forEach((jump) -> program.patch(jump, program.next(), 0));
+		}
+
+	}
+
+	private record Group(Node node, boolean capturing) implements Node {
+
+		@Override
+		public boolean isNullable() {
+			return this.node.isNullable();
+		}
+
+		@Override
+		public void compile(Program program) {
+			if (this.capturing) {
+				program.emit(SAVE, 0, 0, null);
+			}
+			this.node.compile(program);
+			if (this.capturing) {
+				program.emit(SAVE, 1, 0, null);
+			}
+		}
+
+	}
+
+	private record Repetition(Node node, int min, int max, boolean greedy) implements Node {
+
+		@Override
+		public boolean isNullable() {
+			return this.min == 0 || this.node.isNullable();
+		}
+
+		@Override
+		public void compile(Program program) {
+			for (int i = 0; i < this.min; i++) {
+				this.node.compile(program);
+			}
+			if (this.max == -1) {
+				int split = program.emit(SPLIT, 0, 0, null);
+				this.node.compile(program);
+				program.emit(JUMP, split, 0, null);
+				patch(program, split);
+				return;
+			}
+			List<Integer> splits = new ArrayList<>();
+			for (int i = this.min; i < this.max; i++) {
+				splits.add(program.emit(SPLIT, 0, 0, null));
+				this.node.compile(program);
+			}
+			splits.forEach((split) -> patch(program, split));
+		}
+
+		private void patch(Program program, int split) {
+			int body = split + 1;
+			int end = program.next();
+			program.patch(split, (this.greedy) ? body : end, (this.greedy) ? end : body);
+		}
+
+	}
+
+	/**
+	 * Parses the supported subset of {@link Pattern}'s syntax.
+	 */
+	private static final class Parser {
+
+		private final String regex;
+
+		private int position;
+
+		private int groups;
+
+		Parser(String regex) {
+			this.regex = regex;
+		}
+
+		Node parse() {
+			Node node = parseAlternation();
+			if (this.position != this.regex.length()) {
+				throw new UnsupportedSyntaxException();
+			}
+			return node;
+		}
+
+		private Node parseAlternation() {
+			List<Node> alternatives = new ArrayList<>();
+			alternatives.add(parseConcatenation());
+			while (peek('|')) {
+				this.position++;
+				alternatives.add(parseConcatenation());
+			}
+			return (alternatives.size() != 1) ? new Alternation(alternatives) : alternatives.get(0);
+		}
+
+		private Node parseConcatenation() {
+			List<Node> nodes = new ArrayList<>();
+			while (this.position < this.regex.length() && !peek('|') && !peek(')')) {
+				nodes.add(parseRepetition());
+			}
+			return new Concatenation(nodes);
+		}
+
+		private Node parseRepetition() {
+			boolean captured = this.groups > 0;
+			Node node = parseAtom();
+			boolean capturing = !captured && this.groups > 0;
+			int min;
+			int max;
+			if (peek('*')) {
+				min = 0;
+				max = -1;
+			}
+			else if (peek('+')) {
+				min = 1;
+				max = -1;
+			}
+			else if (peek('?')) {
+				min = 0;
+				max = 1;
+			}
+			else if (peek('{')) {
+				this.position++;
+				min = parseNumber();
+				max = min;
+				if (peek(',')) {
+					this.position++;
+					max = (peek('}')) ? -1 : parseNumber();
+				}
+				if (!peek('}') || (max != -1 && max < min)) {
+					throw new UnsupportedSyntaxException();
+				}
+			}
+			else {
+				return node;
+			}
+			this.position++;
+			boolean greedy = true;
+			if (peek('?')) {
+				this.position++;
+				greedy = false;
+			}
+			else if (peek('+')) {
+				throw new UnsupportedSyntaxException();
+			}
+			if (capturing || node.isNullable() || min > MAX_REPETITIONS || max > MAX_REPETITIONS) {
+				throw new UnsupportedSyntaxException();
+			}
+			return new Repetition(node, min, max, greedy);
+		}
+
+		private int parseNumber() {
+			int start = this.position;
+			while (this.position < this.regex.length() && Character.isDigit(this.regex.charAt(this.position))
+					&& this.position - start < 4) {
+				this.position++;
+			}
+			if (this.position == start) {
+				throw new UnsupportedSyntaxException();
+			}
+			return Integer.parseInt(this.regex.substring(start, this.position));
+		}
+
+		private Node parseAtom() {
+			char c = this.regex.charAt(this.position++);
+			switch (c) {
+				case '(':
+					return parseGroup();
+				case '[':
+					return new Characters(parseClass());
+				case '.':
+					return new Characters(ANY);
+				case '\\':
+					return new Characters(parseEscape());
+				case '^', '$', '*', '+', '?', '{', '}', ']', ')':
+					throw new UnsupportedSyntaxException();
+				default:
+					return new Characters(literal(c));
+			}
+		}
+
+		private Node parseGroup() {
+			boolean capturing = true;
+			if (peek('?')) {
+				if (!this.regex.startsWith("?:", this.position)) {
+					throw new UnsupportedSyntaxException();
+				}
+				this.position += 2;
+				capturing = false;
+			}
+			capturing = capturing && ++this.groups == 1;
+			Node node = parseAlternation();
+			if (!peek(')')) {
+				throw new UnsupportedSyntaxException();
+			}
+			this.position++;
+			return new Group(node, capturing);
+		}
+
+		private IntPredicate parseClass() {
+			boolean negated = peek('^');
+			if (negated) {
+				this.position++;
+			}
+			IntPredicate predicate = null;
+			boolean first = true;
+			while (true) {
+				if (this.position >= this.regex.length()) {
+					throw new UnsupportedSyntaxException();
+				}
+				char c = this.regex.charAt(this.position++);
+				if (c == ']' && !first) {
+					break;
+				}
+				if (c == ']' || c == '[' || (c == '&' && peek('&'))) {
+					throw new UnsupportedSyntaxException();
+				}
+				IntPredicate item;
+				if (c == '\\') {
+					char escaped = this.regex.charAt(this.position++);
+					int literal = literalEscape(escaped);
+					item = (literal != -1) ? parseRange((char) literal) : classEscape(escaped);
+				}
+				else {
+					item = parseRange(literal(c), c);
+				}
+				predicate = (predicate != null) ? predicate.or(item) : item;
+				first = false;
+			}
+			return (negated) ? predicate.negate() : predicate;
+		}
+
+		private IntPredicate parseRange(char start) {
+			return parseRange(literal(start), start);
+		}
+
+		private IntPredicate parseRange(IntPredicate literal, char start) {
+			if (!peek('-') || this.position + 1 >= this.regex.length()
+					|| this.regex.charAt(this.position + 1) == ']') {
+				return literal;
+			}
+			this.position++;
+			char end = this.regex.charAt(this.position++);
+			if (end == '\\') {
+				int literalEnd = literalEscape(this.regex.charAt(this.position++));
+				if (literalEnd == -1) {
+					throw new UnsupportedSyntaxException();
+				}
+				end = (char) literalEnd;
+			}
+			else if (end == '[' || Character.isSurrogate(end)) {
+				throw new UnsupportedSyntaxException();
+			}
+			if (end < start) {
+				throw new UnsupportedSyntaxException();
+			}
+			char last = end;
+			return (c) -> c >= start && c <= last;
+		}
+
+		private IntPredicate parseEscape() {
+			if (this.position >= this.regex.length()) {
+				throw new UnsupportedSyntaxException();
+			}
+			char escaped = this.regex.charAt(this.position++);
+			int literal = literalEscape(escaped);
+			return (literal != -1) ? literal((char) literal) : classEscape(escaped);
+		}
+
+		private IntPredicate classEscape(char escaped) {
+			return switch (escaped) {
+				case 'd' -> DIGIT;
+				case 'D' -> DIGIT.negate();
+				case 'w' -> WORD;
+				case 'W' -> WORD.negate();
+				case 's' -> SPACE;
+				case 'S' -> SPACE.negate();
+				default -> throw new UnsupportedSyntaxException();
+			};
+		}
+
+		private int literalEscape(char escaped) {
+			return switch (escaped) {
+				case 't' -> '\t';
+				case 'n' -> '\n';
+				case 'r' -> '\r';
+				case 'f' -> '\f';
+				default -> (!Character.isLetterOrDigit(escaped) && !Character.isSurrogate(escaped)) ? escaped : -1;
+			};
+		}
+
+		private IntPredicate literal(char c) {
+			if (Character.isSurrogate(c)) {
+				throw new UnsupportedSyntaxException();
+			}
+			return (candidate) -> candidate == c;
+		}
+
+		private boolean peek(char c) {
+			return this.position < this.regex.length() && this.regex.charAt(this.position) == c;
+		}
+
+	}
+
+	/**
+	 * Thrown when an expression uses syntax that is not supported.
+	 */
+	private static final class UnsupportedSyntaxException extends RuntimeException {
+
+		UnsupportedSyntaxException() {
+			super(null, null, false, false);
+		}
+
+	}
+
+}
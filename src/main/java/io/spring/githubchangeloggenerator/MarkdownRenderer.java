@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import io.spring.githubchangeloggenerator.ApplicationProperties.ExternalLink;
+import io.spring.githubchangeloggenerator.Changelog.Entry;
+import io.spring.githubchangeloggenerator.Changelog.Section;
+
+/**
+ * {@link ChangelogRenderer} for Markdown.
+ *
+ * @author agent
+ * @author Madhura Bhave
+ */
+class MarkdownRenderer implements ChangelogRenderer {
+
+	private static final List<Escape> escapes = Arrays.asList(gitHubUserMentions(), htmlTags(), markdownStyling());
+
+	@Override
+	public String render(Changelog changelog) {
+		StringBuilder content = new StringBuilder();
+		for (Section section : changelog.getSections()) {
+			content.append((content.length() != 0) ? String.format("%n") : "");
+			content.append("## ").append(section.getTitle()).append(String.format("%n%n"));
+			section.getEntries().stream().map(this::formatEntry).forEach(content::append);
+		}
+		if (!changelog.getContributors().isEmpty()) {
+			addContributorsContent(content, changelog);
+		}
+		if (!changelog.getExternalLinks().isEmpty()) {
+			addExternalLinksContent(content, changelog.getExternalLinks());
+		}
+		return content.toString();
+	}
+
+	String formatEntry(Entry entry) {
+		String summary = escape(entry.getSummary());
+		return (entry.getUrl() != null)
+				? String.format("- %s %s%n", summary, "[#" + entry.getNumber() + "](" + entry.getUrl() + ")")
+				: String.format("- %s%n", summary);
+	}
+
+	String escape(String summary) {
+		String escaped = summary;
+		for (Escape escape : escapes) {
+			escaped = escape.apply(escaped);
+		}
+		return escaped;
+	}
+
+	private void addContributorsContent(StringBuilder content, Changelog changelog) {
+		content.append(String.format("%n## "));
+		content.append((changelog.getContributorsTitle() != null) ? changelog.getContributorsTitle()
+				: ":heart: Contributors");
+		content.append(String.format("%n%nThank you to all the contributors who worked on this release:%n%n"));
+		content.append(formatContributors(changelog.getContributors()));
+	}
+
+	private String formatContributors(List<String> contributors) {
+		List<String> names = contributors.stream().map((name) -> "@" + name).toList();
+		StringBuilder formatted = new StringBuilder();
+		String separator = (names.size() > 2) ? ", " : " ";
+		for (int i = 0; i < names.size(); i++) {
+			if (i > 0) {
+				formatted.append(separator);
+				if (i == names.size() - 1) {
+					formatted.append("and ");
+				}
+			}
+			formatted.append(names.get(i));
+		}
+		return formatted.toString();
+	}
+
+	private void addExternalLinksContent(StringBuilder content, List<ExternalLink> externalLinks) {
+		content.append(String.format("%n## "));
+		content.append(String.format("External Links%n%n"));
+		externalLinks.stream().map(this::formatExternalLink).forEach(content::append);
+	}
+
+	private String formatExternalLink(ExternalLink externalLink) {
+		return String.format("- [%s](%s)%n", externalLink.getName(), externalLink.getLocation());
+	}
+
+	private static Escape gitHubUserMentions() {
+		return new PatternEscape(Pattern.compile("(^|[^\\w`])(@[\\w-]+)"), "$1`$2`");
+	}
+
+	private static Escape htmlTags() {
+		return new PatternEscape(Pattern.compile("(^|[^\\w`])(<[\\w\\-/<>]+>)"), "$1`$2`");
+	}
+
+	private static Escape markdownStyling() {
+		return (input) -> {
+			boolean withinBackticks = false;
+			char previous = ' ';
+			StringBuilder result = new StringBuilder(input.length());
+			for (char c : input.toCharArray()) {
+				if (!withinBackticks && previous != '\\' && (c == '*' || c == '_' || c == '~')) {
+					result.append('\\');
+				}
+				result.append(c);
+				if (c == '`') {
+					withinBackticks = !withinBackticks;
+				}
+				previous = c;
+			}
+			return result.toString();
+		};
+	}
+
+	private interface Escape {
+
+		String apply(String input);
+
+	}
+
+	private static final class PatternEscape implements Escape {
+
+		private final Pattern pattern;
+
+		private final String replacement;
+
+		private PatternEscape(Pattern pattern, String replacement) {
+			this.pattern = pattern;
+			this.replacement = replacement;
+		}
+
+		@Override
+		public String apply(String input) {
+			return this.pattern.matcher(input).replaceAll(this.replacement);
+		}
+
+	}
+
+}
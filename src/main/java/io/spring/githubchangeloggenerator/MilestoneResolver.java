@@ -0,0 +1,200 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.spring.githubchangeloggenerator.github.payload.Milestone;
+import io.spring.githubchangeloggenerator.github.service.GitHubService;
+import io.spring.githubchangeloggenerator.github.service.Repository;
+
+/**
+ * Resolves milestone references to milestone numbers. In addition to a single
+ * milestone, a reference may be a comma-separated list of milestones or a range of
+ * milestones in the form {@code first..last}. A range includes every milestone between
+ * its first and last milestones in the order that they are returned by GitHub (descending
+ * due date). When milestones are referenced by title, a reference that exactly matches
+ * the title of a milestone always refers to that milestone, even if the title contains
+ * a separator.
+ *
+ * @author agent
+ */
+class MilestoneResolver {
+
+	private static final String LIST_SEPARATOR = ",";
+
+	private static final String RANGE_SEPARATOR = "..";
+
+	private final GitHubService service;
+
+	private final Repository repository;
+
+	private final MilestoneReference milestoneReference;
+
+	MilestoneResolver(GitHubService service, Repository repository, MilestoneReference milestoneReference) {
+		this.service = service;
+		this.repository = repository;
+		this.milestoneReference = milestoneReference;
+	}
+
+	/**
+	 * Resolve the given milestone reference.
+	 * @param milestone the milestone reference
+	 * @return the numbers of the referenced milestones
+	 */
+	List<Integer> resolve(String milestone) {
+		if (!isComposite(milestone)) {
+			return List.of(resolveSingle(milestone));
+		}
+		return resolve(List.of(milestone)).get(milestone);
+	}
+
+	/**
+	 * Resolve the given milestone references, making at most one walk of the repository's
+	 * milestones.
+	 * @param milestones the milestone references
+	 * @return a map of milestone reference to the numbers of the referenced milestones
+	 */
+	Map<String, List<Integer>> resolve(Collection<String> milestones) {
+		Map<String, List<Integer>> resolved = new LinkedHashMap<>();
+		if (milestones.stream().anyMatch(this::requiresAllMilestones)) {
+			List<Milestone> all = this.service.getMilestones(this.repository);
+			milestones.forEach((milestone) -> resolved.put(milestone, getNumbers(resolve(milestone, all))));
+			return resolved;
+		}
+		List<String> references = milestones.stream().flatMap((milestone) -> split(milestone).stream()).toList();
+		Map<String, Integer> numbers = resolveAll(references);
+		for (String milestone : milestones) {
+			resolved.put(milestone, split(milestone).stream().map(numbers::get).toList());
+		}
+		return resolved;
+	}
+
+	/**
+	 * Resolve the given milestone references to the milestones that they reference.
+	 * Milestones referenced by title or by range are resolved using a single walk of the
+	 * repository's milestones. Milestones referenced by ID are fetched individually.
+	 * @param milestones the milestone references
+	 * @return a map of milestone reference to the referenced milestones
+	 */
+	Map<String, List<Milestone>> resolveMilestones(Collection<String> milestones) {
+		Map<String, List<Milestone>> resolved = new LinkedHashMap<>();
+		if (this.milestoneReference == MilestoneReference.ID
+				&& milestones.stream().noneMatch(this::requiresAllMilestones)) {
+			for (String milestone : milestones) {
+				resolved.put(milestone, split(milestone).stream()
+					.map((reference) -> this.service.getMilestone(Integer.parseInt(reference), this.repository))
+					.toList());
+			}
+			return resolved;
+		}
+		List<Milestone> all = this.service.getMilestones(this.repository);
+		milestones.forEach((milestone) -> resolved.put(milestone, resolve(milestone, all)));
+		return resolved;
+	}
+
+	private Map<String, Integer> resolveAll(List<String> references) {
+		if (this.milestoneReference == MilestoneReference.TITLE) {
+			return this.service.getMilestoneNumbers(references, this.repository);
+		}
+		Map<String, Integer> numbers = new LinkedHashMap<>();
+		references.forEach((reference) -> numbers.put(reference, Integer.parseInt(reference)));
+		return numbers;
+	}
+
+	private int resolveSingle(String milestone) {
+		return switch (this.milestoneReference) {
+			case TITLE -> this.service.getMilestoneNumber(milestone, this.repository);
+			case ID -> Integer.parseInt(milestone);
+		};
+	}
+
+	private List<Milestone> resolve(String milestone, List<Milestone> all) {
+		int exactMatch = findIndex(all, milestone);
+		if (exactMatch != -1) {
+			return List.of(all.get(exactMatch));
+		}
+		Map<Integer, Milestone> resolved = new LinkedHashMap<>();
+		split(milestone).stream().flatMap((reference) -> {
+			int separator = reference.indexOf(RANGE_SEPARATOR);
+			if (separator == -1) {
+				return Stream.of(all.get(indexOf(all, reference)));
+			}
+			int first = indexOf(all, reference.substring(0, separator).trim());
+			int last = indexOf(all, reference.substring(separator + RANGE_SEPARATOR.length()).trim());
+			return all.subList(Math.min(first, last), Math.max(first, last) + 1).stream();
+		}).forEach((resolvedMilestone) -> resolved.putIfAbsent(resolvedMilestone.getNumber(), resolvedMilestone));
+		return List.copyOf(resolved.values());
+	}
+
+	static List<Integer> getNumbers(List<Milestone> milestones) {
+		return milestones.stream().map(Milestone::getNumber).toList();
+	}
+
+	private int indexOf(List<Milestone> milestones, String reference) {
+		int index = findIndex(milestones, reference);
+		if (index == -1) {
+			throw new IllegalStateException("Unable to find milestone '" + reference + "'");
+		}
+		return index;
+	}
+
+	private int findIndex(List<Milestone> milestones, String reference) {
+		for (int i = 0; i < milestones.size(); i++) {
+			if (isMatch(milestones.get(i), reference)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean isMatch(Milestone milestone, String reference) {
+		return switch (this.milestoneReference) {
+			case TITLE -> reference.equalsIgnoreCase(milestone.getTitle());
+			case ID -> reference.equals(String.valueOf(milestone.getNumber()));
+		};
+	}
+
+	private boolean isComposite(String milestone) {
+		return milestone.contains(LIST_SEPARATOR) || milestone.contains(RANGE_SEPARATOR);
+	}
+
+	/**
+	 * Return whether the repository's milestones are needed to resolve the given
+	 * reference, either because it is a range or because it could be the title of a
+	 * milestone rather than a list.
+	 * @param milestone the milestone reference
+	 * @return whether the repository's milestones are needed
+	 */
+	private boolean requiresAllMilestones(String milestone) {
+		return milestone.contains(RANGE_SEPARATOR)
+				|| (this.milestoneReference == MilestoneReference.TITLE && milestone.contains(LIST_SEPARATOR));
+	}
+
+	private List<String> split(String milestone) {
+		return Arrays.stream(milestone.split(LIST_SEPARATOR))
+			.map(String::trim)
+			.filter((reference) -> !reference.isEmpty())
+			.toList();
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * The delay between polls of a watched milestone. The delay doubles each time a poll
+ * finds nothing modified, up to a maximum, and returns to the initial interval as soon as
+ * a modification is found.
+ *
+ * @author agent
+ */
+class PollingBackoff {
+
+	private static final int MAX_MULTIPLIER = 8;
+
+	private final Duration interval;
+
+	private final Duration maxInterval;
+
+	private Duration delay;
+
+	PollingBackoff(Duration interval) {
+		Assert.isTrue(interval != null && !interval.isNegative() && !interval.isZero(),
+				"Interval must be positive");
+		this.interval = interval;
+		this.maxInterval = interval.multipliedBy(MAX_MULTIPLIER);
+		this.delay = interval;
+	}
+
+	/**
+	 * Return the delay before the next poll.
+	 * @param modified whether the last poll found a modification
+	 * @return the delay before the next poll
+	 */
+	Duration next(boolean modified) {
+		if (modified) {
+			this.delay = this.interval;
+		}
+		else {
+			Duration doubled = this.delay.multipliedBy(2);
+			this.delay = (doubled.compareTo(this.maxInterval) < 0) ? doubled : this.maxInterval;
+		}
+		return this.delay;
+	}
+
+}
@@ -16,14 +16,17 @@
 
 package io.spring.githubchangeloggenerator;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.util.StringUtils;
 
 import io.spring.githubchangeloggenerator.ApplicationProperties.PortedIssue;
+import io.spring.githubchangeloggenerator.BodyExpressions.Expression;
 import io.spring.githubchangeloggenerator.github.payload.Issue;
 import io.spring.githubchangeloggenerator.github.payload.Label;
 import io.spring.githubchangeloggenerator.github.service.GitHubService;
@@ -38,36 +41,72 @@ class PortedIssueChain implements IssueChain {
 
 	private final Set<PortedIssue> portedIssues;
 
+	private final Map<PortedIssue, Expression> bodyExpressions = new LinkedHashMap<>();
+
 	private final GitHubService github;
 
 	private final Repository repository;
 
-	PortedIssueChain(Set<PortedIssue> portedIssues, GitHubService github, Repository repository) {
+	PortedIssueChain(Set<PortedIssue> portedIssues, BodyExpressions bodyExpressions, GitHubService github,
+			Repository repository) {
 		this.portedIssues = portedIssues;
+		portedIssues.forEach((portedIssue) -> this.bodyExpressions.put(portedIssue,
+				bodyExpressions.compile(portedIssue.getBodyExpression())));
 		this.github = github;
 		this.repository = repository;
 	}
 
 	@Override
 	public Issue nextIssue(Issue issue) {
+		for (int issueNumber : getReferencedIssueNumbers(issue)) {
+			Issue referencedIssue = getIssue(issueNumber);
+			if (referencedIssue != null) {
+				return referencedIssue;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the numbers of the issues that the given issue is a port of, in the order in
+	 * which the ported issues are configured. A body whose expression exceeds its time
+	 * budget, or that captures something other than a valid issue number, is treated as
+	 * not referring to an issue.
+	 * @param issue the issue
+	 * @return the numbers of the referenced issues
+	 */
+	List<Integer> getReferencedIssueNumbers(Issue issue) {
 		if (!StringUtils.hasText(issue.getBody())) {
-			return null;
+			return Collections.emptyList();
 		}
-		for (PortedIssue portedIssue : this.portedIssues) {
-			List<String> labelNames = issue.getLabels().stream().map(Label::getName).toList();
-			if (labelNames.contains(portedIssue.getLabel())) {
-				Pattern pattern = portedIssue.getBodyExpression();
-				Matcher matcher = pattern.matcher(issue.getBody());
-				if (matcher.matches()) {
-					String issueNumber = matcher.group(1);
-					Issue referencedIssue = this.github.getIssue(issueNumber, this.repository);
-					if (referencedIssue != null) {
-						return referencedIssue;
-					}
+		List<Integer> issueNumbers = new ArrayList<>();
+		this.bodyExpressions.forEach((portedIssue, bodyExpression) -> {
+			if (hasLabel(issue, portedIssue)) {
+				int issueNumber = Issue.parseNumber(bodyExpression.extract(issue.getBody()));
+				if (issueNumber != -1) {
+					issueNumbers.add(issueNumber);
 				}
 			}
-		}
-		return null;
+		});
+		return issueNumbers;
+	}
+
+	/**
+	 * Return whether the given issue has the label of a ported issue and may therefore
+	 * refer to another issue in its body.
+	 * @param issue the issue
+	 * @return {@code true} if the issue may be a port
+	 */
+	boolean isPort(Issue issue) {
+		return this.portedIssues.stream().anyMatch((portedIssue) -> hasLabel(issue, portedIssue));
+	}
+
+	private boolean hasLabel(Issue issue, PortedIssue portedIssue) {
+		return issue.getLabels().stream().map(Label::getName).anyMatch(portedIssue.getLabel()::equals);
+	}
+
+	Issue getIssue(int issueNumber) {
+		return this.github.getIssue(issueNumber, this.repository);
 	}
 
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.util.DigestUtils;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+
+/**
+ * A manifest, stored next to a changelog, of the summaries that were created for each
+ * issue. When a changelog is regenerated, issues whose {@code updated_at} is unchanged
+ * reuse the sections and summaries recorded in the manifest rather than being
+ * reclassified and summarized again. A summary that was taken from another issue in the
+ * issue's ported issue chain is only reused while that issue's {@code updated_at} is
+ * also unchanged, and a summary that was taken from a comment is never reused as the
+ * comment may have been edited without the issue being updated. A manifest is only used
+ * when it was written with the same configuration and by the same version of the manifest
+ * format.
+ *
+ * @author agent
+ */
+class RenderManifest {
+
+	private static final String FILE_SUFFIX = ".manifest";
+
+	private static final String VERSION = "3";
+
+	private static final ThreadLocal<Dependencies> dependencies = new ThreadLocal<>();
+
+	private static final JsonMapper jsonMapper = JsonMapper.builder()
+		.enable(SerializationFeature.INDENT_OUTPUT)
+		.build();
+
+	private final String config;
+
+	private final IntFunction<Issue> issues;
+
+	private final Map<Integer, Entry> previousEntries;
+
+	private final String previousContentHash;
+
+	private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Set<Integer> invalidated = ConcurrentHashMap.newKeySet();
+
+	private RenderManifest(String config, IntFunction<Issue> issues, Map<Integer, Entry> previousEntries,
+			String previousContentHash) {
+		this.config = config;
+		this.issues = issues;
+		this.previousEntries = previousEntries;
+		this.previousContentHash = previousContentHash;
+	}
+
+	/**
+	 * Return the sections of the given issue, reusing those recorded in the manifest if
+	 * the issue has not been updated.
+	 * @param issue the issue
+	 * @param sections the changelog's sections
+	 * @return the sections of the issue
+	 */
+	List<ChangelogSection> getSections(Issue issue, ChangelogSections sections) {
+		Entry previous = getPreviousEntry(issue);
+		this.entries.put(issue.getNumberValue(), new Entry(issue.getUpdatedAt(), new TreeMap<>(), new TreeMap<>()));
+		if (previous == null) {
+			return sections.getSections(issue);
+		}
+		List<ChangelogSection> resolved = new ArrayList<>();
+		previous.getSummaries().keySet().forEach((index) -> resolved.add(sections.get(index)));
+		return resolved;
+	}
+
+	/**
+	 * Return the summary of the given issue in the section with the given index, reusing
+	 * the summary recorded in the manifest if the issue has not been updated.
+	 * @param issue the issue
+	 * @param sectionIndex the index of the section
+	 * @param summarizer the summarizer used to create the summary when it cannot be
+	 * reused
+	 * @return the summary
+	 */
+	String getSummary(Issue issue, int sectionIndex, Supplier<String> summarizer) {
+		Entry previous = getPreviousEntry(issue);
+		String summary = (previous != null) ? previous.getSummaries().get(sectionIndex) : null;
+		Dependencies summaryDependencies = (summary != null) ? previous.getDependencies(sectionIndex)
+				: new Dependencies();
+		if (summary == null) {
+			dependencies.set(summaryDependencies);
+			try {
+				summary = summarizer.get();
+			}
+			finally {
+				dependencies.remove();
+			}
+		}
+		if (summaryDependencies.comment) {
+			invalidate(issue);
+		}
+		Entry entry = this.entries.get(issue.getNumberValue());
+		synchronized (entry) {
+			entry.getSummaries().put(sectionIndex, summary);
+			if (!summaryDependencies.issues.isEmpty()) {
+				entry.getDependencies().put(sectionIndex, summaryDependencies.issues);
+			}
+		}
+		return summary;
+	}
+
+	/**
+	 * Record that the summary that is being created on the current thread depends on the
+	 * given issue, which is not the issue being summarized.
+	 * @param issue the issue
+	 */
+	static void recordDependency(Issue issue) {
+		Dependencies current = dependencies.get();
+		if (current != null) {
+			current.issues.put(issue.getNumberValue(), String.valueOf(issue.getUpdatedAt()));
+		}
+	}
+
+	/**
+	 * Record that the summary that is being created on the current thread was taken from a
+	 * comment and should not be reused.
+	 */
+	static void recordCommentDependency() {
+		Dependencies current = dependencies.get();
+		if (current != null) {
+			current.comment = true;
+		}
+	}
+
+	/**
+	 * Return whether the summary of the given issue in the given section can be reused
+	 * from the previous run.
+	 * @param issue the issue
+	 * @param sectionIndex the index of the section
+	 * @return {@code true} if the summary can be reused
+	 */
+	boolean hasSummary(Issue issue, int sectionIndex) {
+		Entry previous = getPreviousEntry(issue);
+		return previous != null && previous.getSummaries().containsKey(sectionIndex);
+	}
+
+	/**
+	 * Invalidate the summaries of the given issue so that they are not saved and the issue
+	 * is rendered again when the changelog is next regenerated.
+	 * @param issue the issue
+	 */
+	void invalidate(Issue issue) {
+		this.invalidated.add(issue.getNumberValue());
+	}
+
+	private Entry getPreviousEntry(Issue issue) {
+		Entry previous = this.previousEntries.get(issue.getNumberValue());
+		if (previous == null || issue.getUpdatedAt() == null
+				|| !issue.getUpdatedAt().equals(previous.getUpdatedAt()) || !isUnchanged(previous)) {
+			return null;
+		}
+		return previous;
+	}
+
+	private boolean isUnchanged(Entry entry) {
+		for (Map<Integer, String> sectionDependencies : entry.getDependencies().values()) {
+			for (Map.Entry<Integer, String> dependency : sectionDependencies.entrySet()) {
+				Issue current = this.issues.apply(dependency.getKey());
+				if (current == null || !dependency.getValue().equals(String.valueOf(current.getUpdatedAt()))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return whether the given content is the same as the content that was generated
+	 * when the manifest was last saved.
+	 * @param content the content
+	 * @return {@code true} if the content is unchanged
+	 */
+	boolean isUnchanged(String content) {
+		return hash(content).equals(this.previousContentHash);
+	}
+
+	/**
+	 * Save this manifest for the changelog at the given path.
+	 * @param path the path of the changelog
+	 * @param content the content of the changelog
+	 */
+	void save(String path, String content) {
+		Map<Integer, Entry> entries = new TreeMap<>(this.entries);
+		entries.keySet().removeAll(this.invalidated);
+		jsonMapper.writeValue(getFile(path), new State(this.config, hash(content), entries));
+	}
+
+	private static String hash(String content) {
+		return DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Load the manifest for the changelog at the given path. If there is no manifest or
+	 * it was written with a different configuration or version, an empty manifest is
+	 * returned.
+	 * @param path the path of the changelog
+	 * @param config the digest of the current configuration
+	 * @param issues the function used to look up the current state of the other issues
+	 * that recorded summaries depend on
+	 * @return the manifest
+	 */
+	static RenderManifest load(String path, String config, IntFunction<Issue> issues) {
+		config = VERSION + ":" + config;
+		File file = getFile(path);
+		if (file.exists()) {
+			try {
+				State state = jsonMapper.readValue(file, State.class);
+				if (config.equals(state.getConfig()) && state.getIssues() != null) {
+					return new RenderManifest(config, issues, state.getIssues(), state.getContentHash());
+				}
+			}
+			catch (JacksonException ex) {
+				// Ignore unreadable manifest and render every issue
+			}
+		}
+		return new RenderManifest(config, issues, Collections.emptyMap(), null);
+	}
+
+	private static File getFile(String path) {
+		return new File(path + FILE_SUFFIX).getAbsoluteFile();
+	}
+
+	/**
+	 * The persisted state of a manifest.
+	 */
+	static final class State {
+
+		private final String config;
+
+		private final String contentHash;
+
+		private final Map<Integer, Entry> issues;
+
+		@JsonCreator
+		State(@JsonProperty("config") String config, @JsonProperty("contentHash") String contentHash,
+				@JsonProperty("issues") Map<Integer, Entry> issues) {
+			this.config = config;
+			this.contentHash = contentHash;
+			this.issues = issues;
+		}
+
+		public String getConfig() {
+			return this.config;
+		}
+
+		public String getContentHash() {
+			return this.contentHash;
+		}
+
+		public Map<Integer, Entry> getIssues() {
+			return this.issues;
+		}
+
+	}
+
+	/**
+	 * The summaries created for a single issue, keyed by the index of their section,
+	 * along with the {@code updated_at} of each of the other issues that they were taken
+	 * from.
+	 */
+	static final class Entry {
+
+		private final String updatedAt;
+
+		private final Map<Integer, String> summaries;
+
+		private final Map<Integer, Map<Integer, String>> dependencies;
+
+		@JsonCreator
+		Entry(@JsonProperty("updatedAt") String updatedAt, @JsonProperty("summaries") Map<Integer, String> summaries,
+				@JsonProperty("dependencies") Map<Integer, Map<Integer, String>> dependencies) {
+			this.updatedAt = updatedAt;
+			this.summaries = (summaries != null) ? summaries : new TreeMap<>();
+			this.dependencies = (dependencies != null) ? dependencies : new TreeMap<>();
+		}
+
+		public String getUpdatedAt() {
+			return this.updatedAt;
+		}
+
+		public Map<Integer, String> getSummaries() {
+			return this.summaries;
+		}
+
+		public Map<Integer, Map<Integer, String>> getDependencies() {
+			return this.dependencies;
+		}
+
+		private Dependencies getDependencies(int sectionIndex) {
+			Dependencies dependencies = new Dependencies();
+			dependencies.issues.putAll(this.dependencies.getOrDefault(sectionIndex, Collections.emptyMap()));
+			return dependencies;
+		}
+
+	}
+
+	/**
+	 * The other issues, and their {@code updated_at}, that a summary was taken from.
+	 */
+	private static final class Dependencies {
+
+		private final Map<Integer, String> issues = new TreeMap<>();
+
+		private boolean comment;
+
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+
+/**
+ * Utility to sort issues by title, ignoring case. Titles are case-folded once per issue
+ * rather than once per comparison, and issues are ordered exactly as
+ * {@link String#CASE_INSENSITIVE_ORDER} would order their titles.
+ *
+ * @author agent
+ */
+final class TitleSort {
+
+	private static final Comparator<Key> comparator = TitleSort::compare;
+
+	private TitleSort() {
+	}
+
+	/**
+	 * Sort the given issues by title, ignoring case.
+	 * @param issues the issues to sort
+	 */
+	static void sort(List<Issue> issues) {
+		List<Key> keys = new ArrayList<>(issues.size());
+		issues.forEach((issue) -> keys.add(new Key(issue)));
+		keys.sort(comparator);
+		for (int i = 0; i < keys.size(); i++) {
+			issues.set(i, keys.get(i).issue);
+		}
+	}
+
+	private static int compare(Key key1, Key key2) {
+		if (key1.folded != null && key2.folded != null) {
+			return key1.folded.compareTo(key2.folded);
+		}
+		return String.CASE_INSENSITIVE_ORDER.compare(key1.issue.getTitle(), key2.issue.getTitle());
+	}
+
+	/**
+	 * Fold the case of each character of the given title in the same way as
+	 * {@link String#CASE_INSENSITIVE_ORDER} so that comparing the folded titles gives the
+	 * same result. Titles that contain surrogate pairs are compared by code point and are
+	 * not folded.
+	 * @param title the title
+	 * @return the folded title or {@code null}
+	 */
+	static String fold(String title) {
+		char[] chars = new char[title.length()];
+		for (int i = 0; i < chars.length; i++) {
+			char c = title.charAt(i);
+			if (Character.isSurrogate(c)) {
+				return null;
+			}
+			chars[i] = Character.toLowerCase(Character.toUpperCase(c));
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * An issue and its folded title.
+	 */
+	private static final class Key {
+
+		private final Issue issue;
+
+		private final String folded;
+
+		Key(Issue issue) {
+			this.issue = issue;
+			this.folded = fold(issue.getTitle());
+		}
+
+	}
+
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import io.spring.githubchangeloggenerator.github.payload.Comment;
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.payload.WebhookEvent;
+import io.spring.githubchangeloggenerator.github.service.GitHubService;
+import io.spring.githubchangeloggenerator.github.service.Repository;
+
+/**
+ * Receives GitHub {@code issues}, {@code issue_comment} and {@code milestone} webhook
+ * events and keeps a changelog up to date with them. The milestone's issues are fetched
+ * once and then held in memory. Each event updates the in-memory issues and the
+ * {@link GitHubService}'s cached issues and comments, and the changelog is then rendered
+ * again without refetching the milestone's issues.
+ *
+ * @author agent
+ */
+public class WebhookReceiver {
+
+	static final String EVENT_HEADER = "X-GitHub-Event";
+
+	static final String SIGNATURE_HEADER = "X-Hub-Signature-256";
+
+	private static final String SIGNATURE_PREFIX = "sha256=";
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	private static final JsonMapper jsonMapper = JsonMapper.builder()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+		.build();
+
+	private final ChangelogGenerator generator;
+
+	private final GitHubService service;
+
+	private final Repository repository;
+
+	private final String milestone;
+
+	private final String path;
+
+	private final byte[] secret;
+
+	private final Map<Integer, Issue> issues = new TreeMap<>(Comparator.reverseOrder());
+
+	private List<Integer> milestoneNumbers;
+
+	/**
+	 * Create a new {@link WebhookReceiver}.
+	 * @param generator the generator used to render the changelog
+	 * @param service the service used to fetch the milestone's issues
+	 * @param milestone the milestone of the changelog
+	 * @param path the path of the changelog
+	 * @param secret the secret used to verify the signature of each event or
+	 * {@code null} if signatures should not be verified
+	 */
+	public WebhookReceiver(ChangelogGenerator generator, GitHubService service, String milestone, String path,
+			String secret) {
+		this.generator = generator;
+		this.service = service;
+		this.repository = generator.getRepository();
+		this.milestone = milestone;
+		this.path = path;
+		this.secret = (secret != null) ? secret.getBytes(StandardCharsets.UTF_8) : null;
+	}
+
+	/**
+	 * Generate the changelog and then receive events on the given port until the current
+	 * thread is interrupted. Events are received on every interface when a secret has
+	 * been configured and only on the loopback interface otherwise, so that unsigned
+	 * events can only be sent from the local machine, for example by a proxy.
+	 * @param port the port on which events should be received
+	 * @throws IOException if the changelog could not be written or the server could not
+	 * be started
+	 */
+	public void run(int port) throws IOException {
+		initialize();
+		HttpServer server = start(port);
+		try {
+			new CountDownLatch(1).await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			server.stop(0);
+		}
+	}
+
+	/**
+	 * Start a server that receives events on the given port.
+	 * @param port the port on which events should be received or {@code 0} for any free
+	 * port
+	 * @return the started server
+	 * @throws IOException if the server could not be started
+	 */
+	HttpServer start(int port) throws IOException {
+		InetAddress address = (this.secret != null) ? null : InetAddress.getLoopbackAddress();
+		HttpServer server = HttpServer.create(new InetSocketAddress(address, port), 0);
+		server.createContext("/", this::handle);
+		server.start();
+		return server;
+	}
+
+	/**
+	 * Fetch the milestone's issues and generate the changelog.
+	 * @throws IOException if the changelog could not be written
+	 */
+	synchronized void initialize() throws IOException {
+		this.milestoneNumbers = this.generator.resolveMilestone(this.milestone);
+		this.issues.clear();
+		for (int milestoneNumber : this.milestoneNumbers) {
+			this.service.getIssuesForMilestone(milestoneNumber, this.repository)
+				.forEach((issue) -> this.issues.put(issue.getNumberValue(), issue));
+		}
+		render();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			byte[] payload;
+			try (InputStream inputStream = exchange.getRequestBody()) {
+				payload = inputStream.readAllBytes();
+			}
+			Result result;
+			try {
+				result = handle(exchange.getRequestHeaders().getFirst(EVENT_HEADER),
+						exchange.getRequestHeaders().getFirst(SIGNATURE_HEADER), payload);
+			}
+			catch (IOException | RuntimeException ex) {
+				result = Result.FAILED;
+			}
+			byte[] body = result.name().getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(result.status, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Handle a webhook event.
+	 * @param event the type of the event from the {@code X-GitHub-Event} header
+	 * @param signature the signature from the {@code X-Hub-Signature-256} header
+	 * @param payload the payload of the event
+	 * @return the result of handling the event
+	 * @throws IOException if the changelog could not be written
+	 */
+	synchronized Result handle(String event, String signature, byte[] payload) throws IOException {
+		if (!isSignatureValid(signature, payload)) {
+			return Result.UNAUTHORIZED;
+		}
+		WebhookEvent webhookEvent;
+		try {
+			webhookEvent = jsonMapper.readValue(payload, WebhookEvent.class);
+		}
+		catch (JacksonException ex) {
+			return Result.INVALID;
+		}
+		if (webhookEvent.getRepository() != null
+				&& !this.repository.equals(Repository.of(webhookEvent.getRepository()))) {
+			return Result.IGNORED;
+		}
+		boolean changed = switch (String.valueOf(event)) {
+			case "issues" -> applyIssueEvent(webhookEvent);
+			case "issue_comment" -> applyCommentEvent(webhookEvent);
+			default -> false;
+		};
+		if (!changed) {
+			return Result.IGNORED;
+		}
+		render();
+		return Result.RENDERED;
+	}
+
+	private boolean applyIssueEvent(WebhookEvent event) {
+		Issue issue = event.getIssue();
+		if (issue == null) {
+			return false;
+		}
+		if ("deleted".equals(event.getAction())) {
+			return this.issues.remove(issue.getNumberValue()) != null;
+		}
+		this.service.updateIssue(issue, this.repository);
+		return updateIssue(issue);
+	}
+
+	private boolean applyCommentEvent(WebhookEvent event) {
+		Issue issue = event.getIssue();
+		Comment comment = event.getComment();
+		if (issue == null || comment == null) {
+			return false;
+		}
+		boolean commentsUpdated = this.service.updateComments(issue, this.repository,
+				(comments) -> applyCommentEvent(event.getAction(), comment, comments));
+		this.service.updateIssue(issue, this.repository);
+		return updateIssue(issue) || commentsUpdated;
+	}
+
+	private List<Comment> applyCommentEvent(String action, Comment comment, List<Comment> comments) {
+		List<Comment> updated = new ArrayList<>(comments);
+		int index = indexOf(comment, updated);
+		switch (String.valueOf(action)) {
+			case "created" -> {
+				if (index == -1) {
+					updated.add(comment);
+				}
+				else {
+					updated.set(index, comment);
+				}
+			}
+			case "edited" -> {
+				if (index != -1) {
+					updated.set(index, comment);
+				}
+			}
+			case "deleted" -> {
+				if (index != -1) {
+					updated.remove(index);
+				}
+			}
+		}
+		return updated;
+	}
+
+	private int indexOf(Comment comment, List<Comment> comments) {
+		for (int i = 0; i < comments.size(); i++) {
+			if (comments.get(i).getId() == comment.getId()) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean updateIssue(Issue issue) {
+		int number = issue.getNumberValue();
+		if (isIncluded(issue)) {
+			this.issues.put(number, issue);
+			return true;
+		}
+		return this.issues.remove(number) != null;
+	}
+
+	private boolean isIncluded(Issue issue) {
+		return "closed".equals(issue.getState()) && issue.getMilestone() != null
+				&& this.milestoneNumbers.contains(issue.getMilestone().getNumber());
+	}
+
+	private boolean isSignatureValid(String signature, byte[] payload) {
+		if (this.secret == null) {
+			return true;
+		}
+		if (signature == null || !signature.startsWith(SIGNATURE_PREFIX)) {
+			return false;
+		}
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(new SecretKeySpec(this.secret, HMAC_ALGORITHM));
+			byte[] expected = HexFormat.of().formatHex(mac.doFinal(payload)).getBytes(StandardCharsets.US_ASCII);
+			byte[] actual = signature.substring(SIGNATURE_PREFIX.length()).getBytes(StandardCharsets.US_ASCII);
+			return MessageDigest.isEqual(expected, actual);
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Unable to verify webhook signature", ex);
+		}
+	}
+
+	private void render() throws IOException {
+		this.generator.render(this.issues.values(), this.path);
+	}
+
+	/**
+	 * The result of handling a webhook event.
+	 */
+	enum Result {
+
+		/**
+		 * The event changed the changelog's issues and the changelog has been rendered.
+		 */
+		RENDERED(200),
+
+		/**
+		 * The event did not affect the changelog.
+		 */
+		IGNORED(202),
+
+		/**
+		 * The payload of the event could not be read.
+		 */
+		INVALID(400),
+
+		/**
+		 * The signature of the event was missing or invalid.
+		 */
+		UNAUTHORIZED(401),
+
+		/**
+		 * The event could not be applied or the changelog could not be rendered.
+		 */
+		FAILED(500);
+
+		private final int status;
+
+		Result(int status) {
+			this.status = status;
+		}
+
+	}
+
+}
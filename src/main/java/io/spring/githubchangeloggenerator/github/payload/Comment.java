@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.spring.githubchangeloggenerator.github.payload;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -25,16 +26,28 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class Comment {
 
+	private final long id;
+
 	private final String body;
 
 	private final AuthorAssociation authorAssociation;
 
-	public Comment(@JsonProperty("body") String body,
+	public Comment(String body, AuthorAssociation authorAssociation) {
+		this(0, body, authorAssociation);
+	}
+
+	@JsonCreator
+	public Comment(@JsonProperty("id") long id, @JsonProperty("body") String body,
 			@JsonProperty("author_association") AuthorAssociation authorAssociation) {
+		this.id = id;
 		this.body = body;
 		this.authorAssociation = authorAssociation;
 	}
 
+	public long getId() {
+		return this.id;
+	}
+
 	public String getBody() {
 		return this.body;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2020 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.spring.githubchangeloggenerator.github.payload;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociation;
@@ -29,7 +30,9 @@ import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociati
  */
 public class Issue {
 
-	private final String number;
+	private static final int MAX_NUMBER_DIGITS = 9;
+
+	private final int number;
 
 	private final String title;
 
@@ -45,13 +48,33 @@ public class Issue {
 
 	private final AuthorAssociation authorAssociation;
 
+	private final String updatedAt;
+
+	private final String state;
+
+	private final Milestone milestone;
+
+	private final Integer commentCount;
+
+	public Issue(String number, String title, User user, List<Label> labels, String url, PullRequest pullRequest,
+			String body, AuthorAssociation authorAssociation) {
+		this(number, title, user, labels, url, pullRequest, body, authorAssociation, null);
+	}
+
+	public Issue(String number, String title, User user, List<Label> labels, String url, PullRequest pullRequest,
+			String body, AuthorAssociation authorAssociation, String updatedAt) {
+		this(number, title, user, labels, url, pullRequest, body, authorAssociation, updatedAt, null, null, null);
+	}
+
+	@JsonCreator
 	public Issue(@JsonProperty("number") String number, @JsonProperty("title") String title,
 			@JsonProperty("user") User user, @JsonProperty("labels") List<Label> labels,
 			@JsonProperty("html_url") String url, @JsonProperty("pull_request") PullRequest pullRequest,
-			@JsonProperty("body") String body,
-			@JsonProperty("author_association") AuthorAssociation authorAssociation) {
+			@JsonProperty("body") String body, @JsonProperty("author_association") AuthorAssociation authorAssociation,
+			@JsonProperty("updated_at") String updatedAt, @JsonProperty("state") String state,
+			@JsonProperty("milestone") Milestone milestone, @JsonProperty("comments") Integer commentCount) {
 		super();
-		this.number = number;
+		this.number = parseNumber(number);
 		this.title = title;
 		this.user = user;
 		this.labels = labels;
@@ -59,6 +82,10 @@ public class Issue {
 		this.pullRequest = pullRequest;
 		this.body = body;
 		this.authorAssociation = authorAssociation;
+		this.updatedAt = updatedAt;
+		this.state = state;
+		this.milestone = milestone;
+		this.commentCount = commentCount;
 	}
 
 	public String getTitle() {
@@ -77,10 +104,47 @@ public class Issue {
 		return this.url;
 	}
 
+	/**
+	 * Return the number of the issue.
+	 * @return the number of the issue or {@code null} if the issue was created without a
+	 * valid number
+	 */
 	public String getNumber() {
+		return (this.number != -1) ? Integer.toString(this.number) : null;
+	}
+
+	/**
+	 * Return the number of the issue as an {@code int}, parsed once when the issue is
+	 * created so that issues can be looked up by number without parsing or boxing.
+	 * @return the number of the issue or {@code -1} if the issue was created without a
+	 * valid number
+	 */
+	public int getNumberValue() {
 		return this.number;
 	}
 
+	/**
+	 * Parse the given issue number, which may have been captured from the body of an
+	 * issue and is therefore not trusted.
+	 * @param number the number to parse
+	 * @return the issue number or {@code -1} if the given number is not a positive
+	 * decimal number of at most nine digits
+	 */
+	public static int parseNumber(String number) {
+		if (number == null || number.isEmpty() || number.length() > MAX_NUMBER_DIGITS) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = 0; i < number.length(); i++) {
+			char c = number.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return (value > 0) ? value : -1;
+	}
+
 	public PullRequest getPullRequest() {
 		return this.pullRequest;
 	}
@@ -98,4 +162,24 @@ public class Issue {
 		return this.authorAssociation;
 	}
 
+	public String getUpdatedAt() {
+		return this.updatedAt;
+	}
+
+	public String getState() {
+		return this.state;
+	}
+
+	public Milestone getMilestone() {
+		return this.milestone;
+	}
+
+	/**
+	 * Return the number of comments on the issue.
+	 * @return the number of comments or {@code null} if it is not known
+	 */
+	public Integer getCommentCount() {
+		return this.commentCount;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2020 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.spring.githubchangeloggenerator.github.payload;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -29,9 +30,25 @@ public class Milestone {
 
 	private final String title;
 
-	public Milestone(@JsonProperty("number") int number, @JsonProperty("title") String title) {
+	private final String updatedAt;
+
+	private final int openIssues;
+
+	private final int closedIssues;
+
+	public Milestone(int number, String title) {
+		this(number, title, null, 0, 0);
+	}
+
+	@JsonCreator
+	public Milestone(@JsonProperty("number") int number, @JsonProperty("title") String title,
+			@JsonProperty("updated_at") String updatedAt, @JsonProperty("open_issues") int openIssues,
+			@JsonProperty("closed_issues") int closedIssues) {
 		this.number = number;
 		this.title = title;
+		this.updatedAt = updatedAt;
+		this.openIssues = openIssues;
+		this.closedIssues = closedIssues;
 	}
 
 	public int getNumber() {
@@ -42,4 +59,16 @@ public class Milestone {
 		return this.title;
 	}
 
+	public String getUpdatedAt() {
+		return this.updatedAt;
+	}
+
+	public int getOpenIssues() {
+		return this.openIssues;
+	}
+
+	public int getClosedIssues() {
+		return this.closedIssues;
+	}
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.payload;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The payload of a GitHub {@code issues}, {@code issue_comment} or {@code milestone}
+ * webhook event.
+ *
+ * @author agent
+ */
+public class WebhookEvent {
+
+	private final String action;
+
+	private final Issue issue;
+
+	private final Comment comment;
+
+	private final Milestone milestone;
+
+	private final String repository;
+
+	public WebhookEvent(@JsonProperty("action") String action, @JsonProperty("issue") Issue issue,
+			@JsonProperty("comment") Comment comment, @JsonProperty("milestone") Milestone milestone,
+			@JsonProperty("repository") Map<String, Object> repository) {
+		this.action = action;
+		this.issue = issue;
+		this.comment = comment;
+		this.milestone = milestone;
+		this.repository = (repository != null) ? (String) repository.get("full_name") : null;
+	}
+
+	public String getAction() {
+		return this.action;
+	}
+
+	public Issue getIssue() {
+		return this.issue;
+	}
+
+	public Comment getComment() {
+		return this.comment;
+	}
+
+	public Milestone getMilestone() {
+		return this.milestone;
+	}
+
+	/**
+	 * Return the full name, in the form {@code owner/name}, of the repository in which
+	 * the event occurred.
+	 * @return the full name of the repository
+	 */
+	public String getRepository() {
+		return this.repository;
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe in-memory cache of entities, such as issues, their comments, and
+ * milestones, that are identified by their number within a repository. Implementations
+ * may discard entries at any time, in which case they are fetched from GitHub again when
+ * they are next needed.
+ *
+ * @param <V> the type of the cached entities
+ * @author agent
+ * @see TinyLfuEntityCache
+ */
+interface EntityCache<V> {
+
+	/**
+	 * Return the cached entity with the given number.
+	 * @param repository the repository
+	 * @param number the number of the entity
+	 * @return the entity or {@code null} if it is not cached
+	 */
+	V get(Repository repository, int number);
+
+	/**
+	 * Return whether an entity with the given number is cached. Unlike
+	 * {@link #get(Repository, int)}, the entity is not considered to have been used.
+	 * @param repository the repository
+	 * @param number the number of the entity
+	 * @return {@code true} if the entity is cached
+	 */
+	boolean containsKey(Repository repository, int number);
+
+	/**
+	 * Cache the given entity, replacing any entity with the same number.
+	 * @param repository the repository
+	 * @param number the number of the entity
+	 * @param value the entity
+	 * @return the replaced entity or {@code null}
+	 */
+	V put(Repository repository, int number, V value);
+
+	/**
+	 * Cache the given entity unless an entity with the same number is already cached.
+	 * @param repository the repository
+	 * @param number the number of the entity
+	 * @param value the entity
+	 * @return the entity that was already cached or {@code null}
+	 */
+	V putIfAbsent(Repository repository, int number, V value);
+
+	/**
+	 * Apply the given update to the cached entity with the given number. The entity is
+	 * removed if the update returns {@code null}.
+	 * @param repository the repository
+	 * @param number the number of the entity
+	 * @param update the update to apply
+	 * @return the updated entity or {@code null} if it was not cached
+	 */
+	V computeIfPresent(Repository repository, int number, UnaryOperator<V> update);
+
+	/**
+	 * Remove the cached entity with the given number.
+	 * @param repository the repository
+	 * @param number the number of the entity
+	 */
+	void remove(Repository repository, int number);
+
+	/**
+	 * Return a cache that holds every entity until it is removed.
+	 * @param <V> the type of the cached entities
+	 * @return the unbounded cache
+	 */
+	static <V> EntityCache<V> unbounded() {
+		return new Unbounded<>();
+	}
+
+	/**
+	 * An {@link EntityCache} that holds every entity until it is removed.
+	 *
+	 * @param <V> the type of the cached entities
+	 */
+	final class Unbounded<V> implements EntityCache<V> {
+
+		private final Map<Repository, IssueNumberMap<V>> entities = new ConcurrentHashMap<>();
+
+		private Unbounded() {
+		}
+
+		@Override
+		public V get(Repository repository, int number) {
+			return forRepository(repository).get(number);
+		}
+
+		@Override
+		public boolean containsKey(Repository repository, int number) {
+			IssueNumberMap<V> entities = this.entities.get(repository);
+			return entities != null && entities.containsKey(number);
+		}
+
+		@Override
+		public V put(Repository repository, int number, V value) {
+			return forRepository(repository).put(number, value);
+		}
+
+		@Override
+		public V putIfAbsent(Repository repository, int number, V value) {
+			return forRepository(repository).putIfAbsent(number, value);
+		}
+
+		@Override
+		public V computeIfPresent(Repository repository, int number, UnaryOperator<V> update) {
+			return forRepository(repository).computeIfPresent(number, update);
+		}
+
+		@Override
+		public void remove(Repository repository, int number) {
+			forRepository(repository).remove(number);
+		}
+
+		private IssueNumberMap<V> forRepository(Repository repository) {
+			return this.entities.computeIfAbsent(repository, (key) -> new IssueNumberMap<>());
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2024 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,15 @@
 
 package io.spring.githubchangeloggenerator.github.service;
 
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
 
 /**
  * GitHub related properties.
@@ -38,9 +45,75 @@ public class GitHubProperties {
 	 */
 	private final String token;
 
-	public GitHubProperties(@DefaultValue("https://api.github.com") String apiUrl, String token) {
+	/**
+	 * Tokens used for authentication, in addition to the token. Each request is made
+	 * using the token with the most requests remaining before its rate limit is reached.
+	 */
+	private final List<String> tokens;
+
+	/**
+	 * Directory in which issues that are fetched individually, such as the issues that
+	 * ported issues refer to, are cached between runs.
+	 */
+	private final File cacheDirectory;
+
+	/**
+	 * Time for which cached open issues and issues that could not be found are reused.
+	 */
+	private final Duration cacheTimeToLive;
+
+	/**
+	 * Time for which cached closed issues are reused. Cached entries that are older are
+	 * deleted from the cache directory.
+	 */
+	private final Duration cacheClosedTimeToLive;
+
+	/**
+	 * Maximum number of attempts made for a request that fails with a server or
+	 * connection error.
+	 */
+	private final int maxAttempts;
+
+	/**
+	 * Initial backoff between attempts, doubled for each further attempt and randomized.
+	 */
+	private final Duration retryBackoff;
+
+	/**
+	 * Whether to make a duplicate request when a response is slower than the endpoint's
+	 * 95th percentile response time.
+	 */
+	private final boolean hedgeRequests;
+
+	/**
+	 * Directory in which the bodies of a milestone's issues are held in a memory-mapped
+	 * file, rather than on the heap, as they are fetched.
+	 */
+	private final File spillDirectory;
+
+	/**
+	 * Maximum size of the issues, comments, and milestone titles that are held in memory
+	 * between changelogs, estimated from the length of their text. The least frequently
+	 * used are evicted when it is exceeded. Unbounded when not set.
+	 */
+	private final DataSize cacheMaximumSize;
+
+	public GitHubProperties(@DefaultValue("https://api.github.com") String apiUrl, String token, List<String> tokens,
+			File cacheDirectory, @DefaultValue("1h") Duration cacheTimeToLive,
+			@DefaultValue("7d") Duration cacheClosedTimeToLive, @DefaultValue("3") int maxAttempts,
+			@DefaultValue("500ms") Duration retryBackoff, boolean hedgeRequests, File spillDirectory,
+			DataSize cacheMaximumSize) {
 		this.apiUrl = apiUrl;
 		this.token = token;
+		this.tokens = (tokens != null) ? tokens : Collections.emptyList();
+		this.cacheDirectory = cacheDirectory;
+		this.cacheTimeToLive = cacheTimeToLive;
+		this.cacheClosedTimeToLive = cacheClosedTimeToLive;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoff = retryBackoff;
+		this.hedgeRequests = hedgeRequests;
+		this.spillDirectory = spillDirectory;
+		this.cacheMaximumSize = cacheMaximumSize;
 	}
 
 	public String getApiUrl() {
@@ -51,4 +124,53 @@ public class GitHubProperties {
 		return this.token;
 	}
 
+	public List<String> getTokens() {
+		return this.tokens;
+	}
+
+	/**
+	 * Return the token and the additional tokens.
+	 * @return all of the tokens
+	 */
+	public List<String> getAllTokens() {
+		List<String> tokens = new ArrayList<>();
+		if (this.token != null) {
+			tokens.add(this.token);
+		}
+		tokens.addAll(this.tokens);
+		return tokens;
+	}
+
+	public File getCacheDirectory() {
+		return this.cacheDirectory;
+	}
+
+	public Duration getCacheTimeToLive() {
+		return this.cacheTimeToLive;
+	}
+
+	public Duration getCacheClosedTimeToLive() {
+		return this.cacheClosedTimeToLive;
+	}
+
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	public Duration getRetryBackoff() {
+		return this.retryBackoff;
+	}
+
+	public boolean isHedgeRequests() {
+		return this.hedgeRequests;
+	}
+
+	public File getSpillDirectory() {
+		return this.spillDirectory;
+	}
+
+	public DataSize getCacheMaximumSize() {
+		return this.cacheMaximumSize;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,27 +18,55 @@ package io.spring.githubchangeloggenerator.github.service;
 
 import java.lang.reflect.Array;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.springframework.boot.restclient.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.JsonNode;
 
 import io.spring.githubchangeloggenerator.github.payload.Comment;
 import io.spring.githubchangeloggenerator.github.payload.Issue;
 import io.spring.githubchangeloggenerator.github.payload.Milestone;
+import io.spring.githubchangeloggenerator.github.service.IssueStore.StoredIssue;
 
 /**
- * Central class for interacting with GitHub's REST API.
+ * Central class for interacting with GitHub's REST API. Issues and comments that have
+ * been fetched are cached so that they can be shared by all of the changelogs that are
+ * generated using the service. The in-memory caches can be bounded, in which case the
+ * least frequently used entries are evicted. Issues that are fetched individually can
+ * also be stored on disk, along with those that could not be found, so that later runs
+ * need not fetch them again. All requests draw from a shared {@link TokenPool}, using the
+ * token with the most requests remaining, so that concurrent callers wait for GitHub's
+ * rate limit to reset rather than exceeding it, and idempotent requests are made
+ * according to a {@link RequestPolicy} that retries failures.
  *
  * @author Madhura Bhave
  * @author Phillip Webb
@@ -50,39 +78,301 @@ public class GitHubService {
 
 	private static final String MILESTONES_URI = "/repos/{owner}/{name}/milestones?state=all&sort=due_on&direction=desc&per_page=50";
 
+	private static final String MILESTONE_URI = "/repos/{owner}/{name}/milestones/{milestoneNumber}";
+
 	private static final String ISSUES_URI = "/repos/{owner}/{name}/issues?milestone={milestone}&state=closed";
 
+	private static final String RECENTLY_UPDATED_ISSUE_URI = "/repos/{owner}/{name}/issues?milestone={milestone}&state=closed&sort=updated&direction=desc&per_page=1";
+
 	private static final String ISSUE_URI = "/repos/{owner}/{name}/issues/{issueNumber}";
 
 	private static final String COMMENTS_URI = "/repos/{owner}/{name}/issues/{issueNumber}/comments";
 
+	private static final String SEARCH_ISSUES_URI = "/search/issues?q={query}&per_page=100";
+
+	private static final String GRAPHQL_URI = "/graphql";
+
+	/**
+	 * The percentage of the maximum cache size that is used for issues.
+	 */
+	private static final int ISSUES_SHARE = 50;
+
+	/**
+	 * The percentage of the maximum cache size that is used for comments.
+	 */
+	private static final int COMMENTS_SHARE = 45;
+
+	/**
+	 * The percentage of the maximum cache size that is used for milestone titles.
+	 */
+	private static final int MILESTONE_TITLES_SHARE = 5;
+
+	/**
+	 * The estimated size, in bytes, of a cached entity excluding its text.
+	 */
+	private static final long ENTRY_OVERHEAD = 256;
+
 	private final RestTemplate restTemplate;
 
+	private final RequestStatistics statistics = new RequestStatistics();
+
+	private final TokenPool tokens;
+
+	private final EntityCache<Issue> issues;
+
+	private final EntityCache<List<Comment>> comments;
+
+	private final Map<Repository, IssueNumberMap<String>> commentsUpdatedAt = new ConcurrentHashMap<>();
+
+	private final Map<Repository, IssueNumberMap<Boolean>> missingIssues = new ConcurrentHashMap<>();
+
+	private final EntityCache<String> milestoneTitles;
+
+	private final Map<String, String> entityTags = new ConcurrentHashMap<>();
+
+	private final Interner interner = new Interner();
+
+	private final IssueStore issueStore;
+
+	private final MappedBodyStore bodyStore;
+
+	private final RequestPolicy requestPolicy;
+
+	private final String graphQlUri;
+
 	public GitHubService(RestTemplateBuilder builder, GitHubProperties properties) {
-		String token = properties.getToken();
-		if (StringUtils.hasLength(token)) {
-			builder = builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
-		}
+		this.tokens = new TokenPool(properties.getAllTokens());
 		builder = builder.rootUri(properties.getApiUrl());
+		this.graphQlUri = (this.tokens.isAuthenticated()) ? getGraphQlUri(properties.getApiUrl()) : null;
+		builder = builder.additionalInterceptors(new RateLimitInterceptor(this.tokens),
+				new RequestStatisticsInterceptor(this.statistics));
 		this.restTemplate = builder.build();
+		this.issueStore = new IssueStore(properties.getCacheDirectory(), properties.getCacheTimeToLive(),
+				properties.getCacheClosedTimeToLive());
+		this.bodyStore = new MappedBodyStore(properties.getSpillDirectory());
+		this.requestPolicy = new RequestPolicy(properties.getMaxAttempts(), properties.getRetryBackoff(),
+				properties.isHedgeRequests(), this.tokens::getRemaining, this.statistics);
+		DataSize maximumSize = properties.getCacheMaximumSize();
+		Duration timeToLive = properties.getCacheTimeToLive();
+		this.issues = createCache(maximumSize, ISSUES_SHARE, "issues", GitHubService::weigh,
+				(issue) -> ("closed".equals(issue.getState())) ? null : timeToLive);
+		this.comments = createCache(maximumSize, COMMENTS_SHARE, "comments", GitHubService::weigh, (comments) -> null);
+		this.milestoneTitles = createCache(maximumSize, MILESTONE_TITLES_SHARE, "milestone-titles",
+				GitHubService::weigh, (title) -> timeToLive);
+	}
+
+	private <V> EntityCache<V> createCache(DataSize maximumSize, int share, String name, ToLongFunction<V> weigher,
+			Function<V, Duration> timeToLive) {
+		if (maximumSize == null) {
+			return EntityCache.unbounded();
+		}
+		return new TinyLfuEntityCache<>(maximumSize.toBytes() * share / 100, weigher, timeToLive,
+				() -> this.statistics.recordCacheEviction(name));
+	}
+
+	private static long weigh(Issue issue) {
+		String body = (!MappedBodyStore.isMapped(issue)) ? issue.getBody() : null;
+		return weigh(issue.getTitle()) + weigh(body);
+	}
+
+	private static long weigh(List<Comment> comments) {
+		long weight = ENTRY_OVERHEAD;
+		for (Comment comment : comments) {
+			weight += weigh(comment.getBody());
+		}
+		return weight;
+	}
+
+	private static long weigh(String text) {
+		return ENTRY_OVERHEAD + ((text != null) ? text.length() * 2L : 0);
+	}
+
+	private static String getGraphQlUri(String apiUrl) {
+		String enterpriseSuffix = "/api/v3";
+		if (apiUrl.endsWith(enterpriseSuffix)) {
+			return apiUrl.substring(0, apiUrl.length() - enterpriseSuffix.length()) + "/api" + GRAPHQL_URI;
+		}
+		return GRAPHQL_URI;
+	}
+
+	/**
+	 * Return statistics about the requests that have been made by this service.
+	 * @return the request statistics
+	 */
+	public RequestStatistics getStatistics() {
+		return this.statistics;
 	}
 
 	public int getMilestoneNumber(String milestoneTitle, Repository repository) {
 		Assert.hasText(milestoneTitle, "MilestoneName must not be empty");
-		List<Milestone> milestones = getAll(Milestone.class, MILESTONES_URI, repository.getOwner(),
-				repository.getName());
+		return getMilestoneNumbers(List.of(milestoneTitle), repository).get(milestoneTitle);
+	}
+
+	/**
+	 * Return the numbers of the milestones with the given titles, resolved using a single
+	 * walk of the repository's milestones.
+	 * @param milestoneTitles the titles of the milestones
+	 * @param repository the repository
+	 * @return a map of milestone title to milestone number
+	 */
+	public Map<String, Integer> getMilestoneNumbers(Collection<String> milestoneTitles, Repository repository) {
+		List<Milestone> milestones = getMilestones(repository);
+		Map<String, Integer> numbers = new LinkedHashMap<>();
+		for (String milestoneTitle : milestoneTitles) {
+			numbers.put(milestoneTitle, findMilestone(milestones, milestoneTitle).getNumber());
+		}
+		return numbers;
+	}
+
+	private Milestone findMilestone(List<Milestone> milestones, String milestoneTitle) {
 		for (Milestone milestone : milestones) {
 			if (milestoneTitle.equalsIgnoreCase(milestone.getTitle())) {
-				return milestone.getNumber();
+				return milestone;
 			}
 		}
 		throw new IllegalStateException("Unable to find milestone with title '" + milestoneTitle + "'");
 	}
 
-	public Issue getIssue(String issueNumber, Repository repository) {
+	public List<Milestone> getMilestones(Repository repository) {
+		return getAll(Milestone.class, MILESTONES_URI, repository.getOwner(), repository.getName());
+	}
+
+	public Milestone getMilestone(int milestoneNumber, Repository repository) {
+		return this.requestPolicy.get(MILESTONE_URI, () -> this.restTemplate.getForObject(MILESTONE_URI,
+				Milestone.class, repository.getOwner(), repository.getName(), milestoneNumber));
+	}
+
+	public Issue getIssue(int issueNumber, Repository repository) {
+		if (issueNumber <= 0) {
+			return null;
+		}
+		if (isMissing(issueNumber, repository)) {
+			this.statistics.recordCacheHit("missing-issues");
+			return null;
+		}
+		return getCached(this.issues, "issues", repository, issueNumber,
+				() -> this.interner.intern(fetchIssue(issueNumber, repository)));
+	}
+
+	/**
+	 * Return the issues with the given numbers. Issues that have not already been fetched
+	 * are fetched using GraphQL queries that each fetch several issues, or individually
+	 * when GraphQL cannot be used because no token has been configured.
+	 * Numbers that are not positive are ignored.
+	 * @param issueNumbers the numbers of the issues
+	 * @param repository the repository
+	 * @return a map of issue number to issue for each of the issues that exist
+	 */
+	public Map<Integer, Issue> getIssues(Collection<Integer> issueNumbers, Repository repository) {
+		return getIssues(issueNumbers, Collections.emptyMap(), repository);
+	}
+
+	/**
+	 * Return the given issues, which have been listed without their bodies, with their
+	 * bodies. A fetched or stored copy of an issue is only used if it was last updated
+	 * when the listed issue was, and the issue is fetched again otherwise.
+	 * @param listedIssues the issues without their bodies
+	 * @param repository the repository
+	 * @return a map of issue number to issue for each of the issues that exist
+	 */
+	public Map<Integer, Issue> getIssuesWithBodies(Collection<Issue> listedIssues, Repository repository) {
+		Map<Integer, String> updatedAt = new LinkedHashMap<>();
+		for (Issue listedIssue : listedIssues) {
+			evictIfUpdated(listedIssue, repository, false);
+			updatedAt.put(listedIssue.getNumberValue(), listedIssue.getUpdatedAt());
+		}
+		return getIssues(updatedAt.keySet(), updatedAt, repository);
+	}
+
+	private Map<Integer, Issue> getIssues(Collection<Integer> issueNumbers, Map<Integer, String> updatedAt,
+			Repository repository) {
+		List<Integer> unresolved = new ArrayList<>();
+		for (int issueNumber : issueNumbers) {
+			if (issueNumber > 0 && !this.issues.containsKey(repository, issueNumber)
+					&& !isMissing(issueNumber, repository)
+					&& !restore(issueNumber, updatedAt.get(issueNumber), repository)) {
+				unresolved.add(issueNumber);
+			}
+		}
+		if (this.graphQlUri != null) {
+			for (int i = 0; i < unresolved.size(); i += IssueQuery.MAX_ISSUES) {
+				query(unresolved.subList(i, Math.min(i + IssueQuery.MAX_ISSUES, unresolved.size())), repository);
+			}
+		}
+		Map<Integer, Issue> found = new LinkedHashMap<>();
+		for (int issueNumber : issueNumbers) {
+			Issue issue = getIssue(issueNumber, repository);
+			if (issue != null) {
+				found.put(issueNumber, issue);
+			}
+		}
+		return found;
+	}
+
+	private boolean restore(int issueNumber, String updatedAt, Repository repository) {
+		StoredIssue stored = this.issueStore.find(repository, issueNumber);
+		if (stored == null) {
+			return false;
+		}
+		if (updatedAt != null
+				&& (stored.getIssue() == null || !updatedAt.equals(stored.getIssue().getUpdatedAt()))) {
+			this.issueStore.remove(repository, issueNumber);
+			return false;
+		}
+		this.statistics.recordCacheHit("stored-issues");
+		if (stored.getIssue() != null) {
+			Issue issue = this.interner.intern(stored.getIssue());
+			this.issues.putIfAbsent(repository, issue.getNumberValue(), issue);
+		}
+		else {
+			markMissing(issueNumber, repository);
+		}
+		return true;
+	}
+
+	private void query(List<Integer> issueNumbers, Repository repository) {
+		IssueQuery.Response response;
 		try {
-			return this.restTemplate.getForObject(ISSUE_URI, Issue.class, repository.getOwner(), repository.getName(),
-					issueNumber);
+			response = this.requestPolicy.get(GRAPHQL_URI, () -> this.restTemplate.postForObject(this.graphQlUri,
+					IssueQuery.create(repository, issueNumbers), IssueQuery.Response.class));
+		}
+		catch (HttpClientErrorException ex) {
+			return;
+		}
+		if (response == null || !response.isAnswered()) {
+			return;
+		}
+		for (int issueNumber : issueNumbers) {
+			Issue issue = this.interner.intern(response.getIssue(issueNumber));
+			if (issue != null) {
+				this.issues.putIfAbsent(repository, issue.getNumberValue(), issue);
+				this.issueStore.store(repository, issue);
+			}
+			else {
+				markMissing(issueNumber, repository);
+				this.issueStore.storeNotFound(repository, issueNumber);
+			}
+		}
+	}
+
+	private Issue fetchIssue(int issueNumber, Repository repository) {
+		StoredIssue stored = this.issueStore.find(repository, issueNumber);
+		if (stored != null) {
+			this.statistics.recordCacheHit("stored-issues");
+			if (stored.getIssue() == null) {
+				markMissing(issueNumber, repository);
+			}
+			return stored.getIssue();
+		}
+		try {
+			JsonNode issue = this.requestPolicy.get(ISSUE_URI, () -> this.restTemplate.getForObject(ISSUE_URI,
+					JsonNode.class, repository.getOwner(), repository.getName(), issueNumber));
+			return this.issueStore.store(repository, issueNumber, issue);
+		}
+		catch (HttpClientErrorException.NotFound ex) {
+			markMissing(issueNumber, repository);
+			this.issueStore.storeNotFound(repository, issueNumber);
+			return null;
 		}
 		catch (RestClientException clientException) {
 			return null;
@@ -90,11 +380,247 @@ public class GitHubService {
 	}
 
 	public List<Issue> getIssuesForMilestone(int milestoneNumber, Repository repository) {
-		return getAll(Issue.class, ISSUES_URI, repository.getOwner(), repository.getName(), milestoneNumber);
+		List<Issue> issues = new ArrayList<>();
+		getIssuesForMilestone(milestoneNumber, repository, issues::addAll);
+		return issues;
+	}
+
+	/**
+	 * List the closed issues in the given milestone, passing each page of issues to the
+	 * given consumer as soon as it has been received so that it can be processed while
+	 * the next page is being fetched.
+	 * @param milestoneNumber the number of the milestone
+	 * @param repository the repository
+	 * @param pageConsumer the consumer of each page of issues
+	 */
+	public void getIssuesForMilestone(int milestoneNumber, Repository repository,
+			Consumer<List<Issue>> pageConsumer) {
+		Page<Issue> page = getPage(Issue.class, ISSUES_URI, repository.getOwner(), repository.getName(),
+				milestoneNumber);
+		while (page != null) {
+			List<Issue> issues = new ArrayList<>(page.getContent().size());
+			page.getContent().forEach((issue) -> issues.add(this.bodyStore.store(this.interner.intern(issue))));
+			issues.forEach((issue) -> evictIfUpdated(issue, repository, true));
+			pageConsumer.accept(issues);
+			page = page.getNextPage();
+		}
+	}
+
+	/**
+	 * Return the closed issues in the given milestone without their bodies, using GraphQL
+	 * queries. The bodies of the issues that need them can then be fetched in batches
+	 * using {@link #getIssues(Collection, Repository)}. When GraphQL cannot be used, the
+	 * issues are listed with their bodies using
+	 * {@link #getIssuesForMilestone(int, Repository)}.
+	 * @param milestoneNumber the number of the milestone
+	 * @param repository the repository
+	 * @return the issues, most recently created first
+	 */
+	public List<Issue> getIssuesForMilestoneWithoutBodies(int milestoneNumber, Repository repository) {
+		if (this.graphQlUri == null) {
+			return getIssuesForMilestone(milestoneNumber, repository);
+		}
+		List<Issue> issues = new ArrayList<>();
+		for (MilestoneIssuesQuery.Connection connection : MilestoneIssuesQuery.Connection.values()) {
+			String cursor = null;
+			do {
+				MilestoneIssuesQuery.Response response = query(repository, milestoneNumber, connection, cursor);
+				if (response == null || !response.isAnswered()) {
+					return getIssuesForMilestone(milestoneNumber, repository);
+				}
+				response.getIssues().forEach((issue) -> issues.add(this.interner.intern(issue)));
+				cursor = response.getNextCursor();
+			}
+			while (cursor != null);
+		}
+		issues.sort(Comparator.comparingInt(Issue::getNumberValue).reversed());
+		issues.forEach((issue) -> evictIfUpdated(issue, repository, false));
+		return issues;
+	}
+
+	/**
+	 * Return the closed issues in the given milestone using GitHub's search API so that
+	 * issues with the given labels, or of another type, are not transferred. Issues are
+	 * listed using {@link #getIssuesForMilestone(int, Repository)} instead if the search
+	 * results are incomplete.
+	 * @param milestoneNumber the number of the milestone
+	 * @param repository the repository
+	 * @param excludedLabels the labels of the issues to exclude
+	 * @param type the type of the issues to include, either {@code issue} or {@code pr},
+	 * or {@code null} to include both
+	 * @return the issues
+	 */
+	public List<Issue> searchIssuesForMilestone(int milestoneNumber, Repository repository,
+			Collection<String> excludedLabels, String type) {
+		String milestoneTitle = getCached(this.milestoneTitles, "milestone-titles", repository, milestoneNumber,
+				() -> getMilestone(milestoneNumber, repository).getTitle());
+		String query = IssueSearch.createQuery(repository, milestoneTitle, excludedLabels, type);
+		List<Issue> issues = new ArrayList<>();
+		ResponseEntity<IssueSearch.Response> response = this.requestPolicy.get(SEARCH_ISSUES_URI,
+				() -> this.restTemplate.getForEntity(SEARCH_ISSUES_URI, IssueSearch.Response.class, query));
+		while (response != null) {
+			if (response.getBody() == null || !response.getBody().isComplete()) {
+				return getIssuesForMilestone(milestoneNumber, repository);
+			}
+			response.getBody()
+				.getItems()
+				.forEach((issue) -> issues.add(this.bodyStore.store(this.interner.intern(issue))));
+			URI next = getNextUrl(response.getHeaders());
+			response = (next != null) ? this.requestPolicy.get(SEARCH_ISSUES_URI,
+					() -> this.restTemplate.getForEntity(next, IssueSearch.Response.class)) : null;
+		}
+		issues.forEach((issue) -> evictIfUpdated(issue, repository, true));
+		return issues;
+	}
+
+	private MilestoneIssuesQuery.Response query(Repository repository, int milestoneNumber,
+			MilestoneIssuesQuery.Connection connection, String cursor) {
+		try {
+			return this.requestPolicy.get(GRAPHQL_URI,
+					() -> this.restTemplate.postForObject(this.graphQlUri,
+							MilestoneIssuesQuery.create(repository, milestoneNumber, connection, cursor),
+							MilestoneIssuesQuery.Response.class));
+		}
+		catch (HttpClientErrorException ex) {
+			return null;
+		}
+	}
+
+	private void evictIfUpdated(Issue issue, Repository repository, boolean replace) {
+		Issue cached = this.issues.get(repository, issue.getNumberValue());
+		if (cached != null && !Objects.equals(cached.getUpdatedAt(), issue.getUpdatedAt())) {
+			if (replace) {
+				this.issues.put(repository, issue.getNumberValue(), issue);
+			}
+			else {
+				this.issues.remove(repository, issue.getNumberValue());
+			}
+			this.comments.remove(repository, issue.getNumberValue());
+			this.issueStore.remove(repository, issue.getNumberValue());
+		}
+	}
+
+	/**
+	 * Replace the cached copy of the given issue, for example following a webhook event
+	 * that describes its latest state.
+	 * @param issue the issue
+	 * @param repository the repository
+	 */
+	public void updateIssue(Issue issue, Repository repository) {
+		issue = this.interner.intern(issue);
+		this.issues.put(repository, issue.getNumberValue(), issue);
+		this.issueStore.remove(repository, issue.getNumberValue());
+	}
+
+	/**
+	 * Apply the given update to the cached comments of an issue, for example following a
+	 * webhook event that describes a change to one of them. Comments that have not been
+	 * cached are left to be fetched when they are needed.
+	 * @param issue the latest state of the issue
+	 * @param repository the repository
+	 * @param update the update to apply
+	 * @return {@code true} if the issue's comments were cached and have been updated
+	 */
+	public boolean updateComments(Issue issue, Repository repository, UnaryOperator<List<Comment>> update) {
+		boolean updated = this.comments.computeIfPresent(repository, issue.getNumberValue(), update) != null;
+		if (updated && issue.getUpdatedAt() != null) {
+			forRepository(this.commentsUpdatedAt, repository).put(issue.getNumberValue(), issue.getUpdatedAt());
+		}
+		return updated;
+	}
+
+	/**
+	 * Return whether the given milestone or any of its closed issues have been modified
+	 * since the previous call for the same milestone. Conditional requests are used so
+	 * that polling an unmodified milestone does not count against GitHub's rate limit.
+	 * The first call for a milestone always returns {@code true}.
+	 * @param milestoneNumber the number of the milestone
+	 * @param repository the repository
+	 * @return {@code true} if the milestone may have been modified
+	 */
+	public boolean isModified(int milestoneNumber, Repository repository) {
+		boolean milestoneModified = isModified(MILESTONE_URI, repository.getOwner(), repository.getName(),
+				milestoneNumber);
+		boolean issuesModified = isModified(RECENTLY_UPDATED_ISSUE_URI, repository.getOwner(), repository.getName(),
+				milestoneNumber);
+		return milestoneModified || issuesModified;
+	}
+
+	private boolean isModified(String url, Object... uriVariables) {
+		String key = url + " " + Arrays.toString(uriVariables);
+		HttpHeaders headers = new HttpHeaders();
+		String entityTag = this.entityTags.get(key);
+		if (entityTag != null) {
+			headers.setIfNoneMatch(entityTag);
+		}
+		ResponseEntity<String> response = this.requestPolicy.get(url,
+				() -> this.restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class,
+						uriVariables));
+		if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+			return false;
+		}
+		String updatedEntityTag = response.getHeaders().getETag();
+		if (updatedEntityTag != null) {
+			this.entityTags.put(key, updatedEntityTag);
+		}
+		return true;
+	}
+
+	/**
+	 * Return the comments on the given issue. No request is made for an issue whose
+	 * comment count is zero and cached comments are only reused while the issue's
+	 * {@code updated_at} time is the same as it was when they were cached.
+	 * @param issue the issue
+	 * @param repository the repository
+	 * @return the comments
+	 */
+	public List<Comment> getCommentsForIssue(Issue issue, Repository repository) {
+		if (Integer.valueOf(0).equals(issue.getCommentCount())) {
+			return Collections.emptyList();
+		}
+		String updatedAt = issue.getUpdatedAt();
+		if (updatedAt != null) {
+			String cachedUpdatedAt = forRepository(this.commentsUpdatedAt, repository).put(issue.getNumberValue(),
+					updatedAt);
+			if (cachedUpdatedAt != null && !cachedUpdatedAt.equals(updatedAt)) {
+				this.comments.remove(repository, issue.getNumberValue());
+			}
+		}
+		return getCommentsForIssue(issue.getNumberValue(), repository);
 	}
 
 	public List<Comment> getCommentsForIssue(int issueNumber, Repository repository) {
-		return getAll(Comment.class, COMMENTS_URI, repository.getOwner(), repository.getName(), issueNumber);
+		return getCached(this.comments, "comments", repository, issueNumber,
+				() -> getAll(Comment.class, COMMENTS_URI, repository.getOwner(), repository.getName(), issueNumber));
+	}
+
+	private <T> T getCached(EntityCache<T> cache, String cacheName, Repository repository, int number,
+			Supplier<T> fetcher) {
+		T cached = cache.get(repository, number);
+		if (cached != null) {
+			this.statistics.recordCacheHit(cacheName);
+			return cached;
+		}
+		this.statistics.recordCacheMiss(cacheName);
+		T fetched = fetcher.get();
+		if (fetched != null) {
+			cache.putIfAbsent(repository, number, fetched);
+		}
+		return fetched;
+	}
+
+	private boolean isMissing(int issueNumber, Repository repository) {
+		IssueNumberMap<Boolean> missingIssues = this.missingIssues.get(repository);
+		return missingIssues != null && missingIssues.containsKey(issueNumber);
+	}
+
+	private void markMissing(int issueNumber, Repository repository) {
+		forRepository(this.missingIssues, repository).put(issueNumber, Boolean.TRUE);
+	}
+
+	private static <T> IssueNumberMap<T> forRepository(Map<Repository, IssueNumberMap<T>> caches,
+			Repository repository) {
+		return caches.computeIfAbsent(repository, (key) -> new IssueNumberMap<>());
 	}
 
 	private <T> List<T> getAll(Class<T> type, String url, Object... uriVariables) {
@@ -111,18 +637,21 @@ public class GitHubService {
 		if (!StringUtils.hasText(url)) {
 			return null;
 		}
-		return pageFrom(this.restTemplate.getForEntity(url, arrayType(type), uriVariables), type);
+		return pageFrom(this.requestPolicy.get(url,
+				() -> this.restTemplate.getForEntity(url, arrayType(type), uriVariables)), type, url);
 	}
 
-	private <T> Page<T> getPage(Class<T> type, URI uri) {
+	private <T> Page<T> getPage(Class<T> type, URI uri, String endpoint) {
 		if (uri == null) {
 			return null;
 		}
-		return pageFrom(this.restTemplate.getForEntity(uri, arrayType(type)), type);
+		return pageFrom(this.requestPolicy.get(endpoint, () -> this.restTemplate.getForEntity(uri, arrayType(type))),
+				type, endpoint);
 	}
 
-	private <T> Page<T> pageFrom(ResponseEntity<T[]> response, Class<T> type) {
-		return new Page<>(Arrays.asList(response.getBody()), () -> getPage(type, getNextUrl(response.getHeaders())));
+	private <T> Page<T> pageFrom(ResponseEntity<T[]> response, Class<T> type, String endpoint) {
+		return new Page<>(Arrays.asList(response.getBody()),
+				() -> getPage(type, getNextUrl(response.getHeaders()), endpoint));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.payload.User;
+
+/**
+ * Shares the labels and users of the issues received by a {@link GitHubService}. The
+ * same few label names and logins appear on thousands of issues so sharing a single
+ * instance of each, along with its string, considerably reduces the memory used by a
+ * large milestone. Values are only weakly referenced so they remain in the pool only
+ * while an issue that is in use refers to them.
+ *
+ * @author agent
+ */
+class Interner {
+
+	private final Pool<Label> labels = new Pool<>(Label::getName);
+
+	private final Pool<User> users = new Pool<>(User::getName);
+
+	/**
+	 * Return an issue that is equivalent to the given issue but that refers to shared
+	 * labels and users.
+	 * @param issue the issue
+	 * @return the issue, or a copy of it that refers to shared labels and users
+	 */
+	Issue intern(Issue issue) {
+		if (issue == null) {
+			return null;
+		}
+		User user = (issue.getUser() != null) ? this.users.intern(issue.getUser()) : null;
+		List<Label> labels = (issue.getLabels() != null) ? internLabels(issue.getLabels()) : null;
+		if (user == issue.getUser() && labels == issue.getLabels()) {
+			return issue;
+		}
+		return new Issue(issue.getNumber(), issue.getTitle(), user, labels, issue.getUrl(), issue.getPullRequest(),
+				issue.getBody(), issue.getAuthorAssociation(), issue.getUpdatedAt(), issue.getState(),
+				issue.getMilestone(), issue.getCommentCount());
+	}
+
+	private List<Label> internLabels(List<Label> labels) {
+		List<Label> interned = new ArrayList<>(labels.size());
+		boolean changed = false;
+		for (Label label : labels) {
+			Label internedLabel = this.labels.intern(label);
+			interned.add(internedLabel);
+			changed |= internedLabel != label;
+		}
+		return (changed) ? interned : labels;
+	}
+
+	/**
+	 * A pool of canonical values, keyed by their name.
+	 *
+	 * @param <T> the type of the values
+	 */
+	private static final class Pool<T> {
+
+		private final Map<String, WeakReference<T>> values = new WeakHashMap<>();
+
+		private final Function<T, String> name;
+
+		private Pool(Function<T, String> name) {
+			this.name = name;
+		}
+
+		/**
+		 * Return the canonical value with the same name as the given value, making the
+		 * given value canonical if there is none.
+		 * @param value the value
+		 * @return the canonical value
+		 */
+		synchronized T intern(T value) {
+			String name = this.name.apply(value);
+			if (name == null) {
+				return value;
+			}
+			WeakReference<T> reference = this.values.get(name);
+			T canonical = (reference != null) ? reference.get() : null;
+			if (canonical == null) {
+				this.values.put(name, new WeakReference<>(value));
+				return value;
+			}
+			return canonical;
+		}
+
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe map keyed by issue number. Keys are held as {@code int} values in an
+ * open-addressed table so that looking up an issue neither boxes its number nor builds a
+ * string key.
+ *
+ * @param <V> the type of the values
+ * @author agent
+ */
+final class IssueNumberMap<V> {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private int[] keys = new int[INITIAL_CAPACITY];
+
+	private Object[] values = new Object[INITIAL_CAPACITY];
+
+	private int size;
+
+	synchronized V get(int key) {
+		int index = indexOf(key);
+		return (index >= 0) ? value(index) : null;
+	}
+
+	synchronized boolean containsKey(int key) {
+		return indexOf(key) >= 0;
+	}
+
+	synchronized V put(int key, V value) {
+		int index = indexOf(key);
+		if (index >= 0) {
+			V previous = value(index);
+			this.values[index] = value;
+			return previous;
+		}
+		insert(key, value);
+		return null;
+	}
+
+	synchronized V putIfAbsent(int key, V value) {
+		int index = indexOf(key);
+		if (index >= 0) {
+			return value(index);
+		}
+		insert(key, value);
+		return null;
+	}
+
+	synchronized V computeIfPresent(int key, UnaryOperator<V> remapping) {
+		int index = indexOf(key);
+		if (index < 0) {
+			return null;
+		}
+		V value = remapping.apply(value(index));
+		if (value == null) {
+			delete(index);
+		}
+		else {
+			this.values[index] = value;
+		}
+		return value;
+	}
+
+	synchronized V remove(int key) {
+		int index = indexOf(key);
+		if (index < 0) {
+			return null;
+		}
+		V previous = value(index);
+		delete(index);
+		return previous;
+	}
+
+	synchronized int size() {
+		return this.size;
+	}
+
+	private int indexOf(int key) {
+		int mask = this.keys.length - 1;
+		for (int index = hash(key) & mask; this.values[index] != null; index = (index + 1) & mask) {
+			if (this.keys[index] == key) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private void insert(int key, V value) {
+		if ((this.size + 1) * 4 > this.keys.length * 3) {
+			resize();
+		}
+		int mask = this.keys.length - 1;
+		int index = hash(key) & mask;
+		while (this.values[index] != null) {
+			index = (index + 1) & mask;
+		}
+		this.keys[index] = key;
+		this.values[index] = value;
+		this.size++;
+	}
+
+	private void delete(int index) {
+		int mask = this.keys.length - 1;
+		this.values[index] = null;
+		this.size--;
+		int next = (index + 1) & mask;
+		while (this.values[next] != null) {
+			int key = this.keys[next];
+			Object value = this.values[next];
+			this.values[next] = null;
+			this.size--;
+			insert(key, unchecked(value));
+			next = (next + 1) & mask;
+		}
+	}
+
+	private void resize() {
+		int[] keys = this.keys;
+		Object[] values = this.values;
+		this.keys = new int[keys.length * 2];
+		this.values = new Object[values.length * 2];
+		this.size = 0;
+		for (int i = 0; i < keys.length; i++) {
+			if (values[i] != null) {
+				insert(keys[i], unchecked(values[i]));
+			}
+		}
+	}
+
+	private V value(int index) {
+		return unchecked(this.values[index]);
+	}
+
+	@SuppressWarnings("unchecked")
+	private V unchecked(Object value) {
+		return (V) value;
+	}
+
+	private static int hash(int key) {
+		int hash = key * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+}
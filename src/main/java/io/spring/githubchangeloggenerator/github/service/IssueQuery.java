@@ -0,0 +1,195 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociation;
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.payload.PullRequest;
+import io.spring.githubchangeloggenerator.github.payload.User;
+
+/**
+ * A GraphQL query that fetches several issues or pull requests by number in a single
+ * request. Each issue is fetched using an alias, {@code i<number>}, so that the issues
+ * can be matched up with their numbers in the response.
+ *
+ * @author agent
+ */
+final class IssueQuery {
+
+	/**
+	 * The maximum number of issues that are fetched by a single query.
+	 */
+	static final int MAX_ISSUES = 50;
+
+	/**
+	 * The fields of an issue or pull request other than its body.
+	 */
+	static final String SUMMARY_FIELDS = "number title url state updatedAt authorAssociation "
+			+ "author { __typename login } labels(first: 100) { nodes { name } } comments { totalCount }";
+
+	private static final String FIELDS = SUMMARY_FIELDS + " body";
+
+	private static final String GHOST_LOGIN = "ghost";
+
+	private static final String BOT_SUFFIX = "[bot]";
+
+	private IssueQuery() {
+	}
+
+	/**
+	 * Create the body of a request that fetches the issues with the given numbers.
+	 * Numbers that are not positive are not queried.
+	 * @param repository the repository
+	 * @param issueNumbers the numbers of the issues, at most {@link #MAX_ISSUES}
+	 * @return the request body
+	 */
+	static Map<String, Object> create(Repository repository, Collection<Integer> issueNumbers) {
+		StringBuilder query = new StringBuilder("query($owner: String!, $name: String!) {");
+		query.append(" repository(owner: $owner, name: $name) {");
+		for (int issueNumber : issueNumbers) {
+			if (issueNumber > 0) {
+				query.append(" i").append(issueNumber);
+				query.append(": issueOrPullRequest(number: ").append(issueNumber).append(") {");
+				query.append(" __typename ... on Issue { ").append(FIELDS).append(" }");
+				query.append(" ... on PullRequest { ").append(FIELDS).append(" } }");
+			}
+		}
+		query.append(" } }");
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("query", query.toString());
+		body.put("variables", Map.of("owner", repository.getOwner(), "name", repository.getName()));
+		return body;
+	}
+
+	/**
+	 * The response to an issue query.
+	 */
+	static final class Response {
+
+		private final Map<String, Node> issues;
+
+		@JsonCreator
+		Response(@JsonProperty("data") Map<String, Map<String, Node>> data) {
+			this.issues = (data != null) ? data.get("repository") : null;
+		}
+
+		/**
+		 * Return whether the query was answered. A query that failed, for example because
+		 * it was not authenticated, is not answered.
+		 * @return {@code true} if the query was answered
+		 */
+		boolean isAnswered() {
+			return this.issues != null;
+		}
+
+		/**
+		 * Return the issue with the given number.
+		 * @param issueNumber the number of the issue
+		 * @return the issue or {@code null} if the issue does not exist
+		 */
+		Issue getIssue(int issueNumber) {
+			Node node = (this.issues != null) ? this.issues.get("i" + issueNumber) : null;
+			return (node != null) ? node.toIssue() : null;
+		}
+
+	}
+
+	/**
+	 * An issue or pull request in the response to an issue query.
+	 */
+	static final class Node {
+
+		private final String type;
+
+		private final String number;
+
+		private final String title;
+
+		private final String body;
+
+		private final String url;
+
+		private final String state;
+
+		private final String updatedAt;
+
+		private final AuthorAssociation authorAssociation;
+
+		private final User author;
+
+		private final List<Label> labels;
+
+		private final Integer commentCount;
+
+		@JsonCreator
+		Node(@JsonProperty("__typename") String type, @JsonProperty("number") String number,
+				@JsonProperty("title") String title, @JsonProperty("body") String body, @JsonProperty("url") String url,
+				@JsonProperty("state") String state, @JsonProperty("updatedAt") String updatedAt,
+				@JsonProperty("authorAssociation") AuthorAssociation authorAssociation,
+				@JsonProperty("author") Map<String, String> author,
+				@JsonProperty("labels") Map<String, List<Label>> labels,
+				@JsonProperty("comments") Map<String, Integer> comments) {
+			this.type = type;
+			this.number = number;
+			this.title = title;
+			this.body = body;
+			this.url = url;
+			this.state = state;
+			this.updatedAt = updatedAt;
+			this.authorAssociation = authorAssociation;
+			this.author = getUser(author);
+			this.labels = (labels != null && labels.get("nodes") != null) ? labels.get("nodes")
+					: Collections.emptyList();
+			this.commentCount = (comments != null) ? comments.get("totalCount") : null;
+		}
+
+		/**
+		 * Return the user for the given GraphQL author, matching the login that the REST
+		 * API would have returned. Logins of bots have a {@code [bot]} suffix and the
+		 * author of an issue whose account has been deleted is {@code ghost}.
+		 * @param author the author or {@code null}
+		 * @return the user
+		 */
+		private static User getUser(Map<String, String> author) {
+			if (author == null || author.get("login") == null) {
+				return new User(GHOST_LOGIN);
+			}
+			String login = author.get("login");
+			boolean bot = "Bot".equals(author.get("__typename")) && !login.endsWith(BOT_SUFFIX);
+			return new User((bot) ? login + BOT_SUFFIX : login);
+		}
+
+		Issue toIssue() {
+			PullRequest pullRequest = ("PullRequest".equals(this.type)) ? new PullRequest(this.url) : null;
+			String state = ("OPEN".equals(this.state)) ? "open" : "closed";
+			return new Issue(this.number, this.title, this.author, this.labels, this.url, pullRequest, this.body,
+					this.authorAssociation, this.updatedAt, state, null, this.commentCount);
+		}
+
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+
+/**
+ * A search for the closed issues in a milestone using GitHub's search API. Issues with
+ * excluded labels, and optionally issues of an excluded type, are filtered out by GitHub
+ * so that they are never transferred.
+ *
+ * @author agent
+ */
+final class IssueSearch {
+
+	/**
+	 * The maximum number of results that GitHub returns for a single search.
+	 */
+	static final int MAX_RESULTS = 1000;
+
+	private IssueSearch() {
+	}
+
+	/**
+	 * Create the query for a search for the closed issues in the given milestone.
+	 * @param repository the repository
+	 * @param milestoneTitle the title of the milestone
+	 * @param excludedLabels the labels of the issues to exclude
+	 * @param type the type of the issues to include, either {@code issue} or
+	 * {@code pr}, or {@code null} to include both
+	 * @return the query
+	 */
+	static String createQuery(Repository repository, String milestoneTitle, Collection<String> excludedLabels,
+			String type) {
+		StringBuilder query = new StringBuilder();
+		query.append("repo:").append(repository.getOwner()).append("/").append(repository.getName());
+		query.append(" milestone:").append(quote(milestoneTitle));
+		query.append(" is:closed");
+		if (type != null) {
+			query.append(" is:").append(type);
+		}
+		for (String excludedLabel : excludedLabels) {
+			query.append(" -label:").append(quote(excludedLabel));
+		}
+		return query.toString();
+	}
+
+	private static String quote(String value) {
+		return "\"" + value.replace("\"", "") + "\"";
+	}
+
+	/**
+	 * A page of the response to an issue search.
+	 */
+	static final class Response {
+
+		private final int totalCount;
+
+		private final boolean incompleteResults;
+
+		private final List<Issue> items;
+
+		@JsonCreator
+		Response(@JsonProperty("total_count") int totalCount,
+				@JsonProperty("incomplete_results") boolean incompleteResults,
+				@JsonProperty("items") List<Issue> items) {
+			this.totalCount = totalCount;
+			this.incompleteResults = incompleteResults;
+			this.items = (items != null) ? items : Collections.emptyList();
+		}
+
+		/**
+		 * Return whether the response describes every issue that matched the search.
+		 * GitHub may time out before finding every issue and never returns more than
+		 * {@link #MAX_RESULTS} issues.
+		 * @return {@code true} if the results are complete
+		 */
+		boolean isComplete() {
+			return !this.incompleteResults && this.totalCount <= MAX_RESULTS;
+		}
+
+		List<Issue> getItems() {
+			return this.items;
+		}
+
+	}
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+
+/**
+ * A disk-backed store of issues that have been fetched individually, typically the
+ * issues that ported issues refer to. Each issue is stored in its own file, keyed by
+ * repository and number, beneath an {@code issues} directory that is owned by the
+ * store. Open issues, and issues that could not be found, are reused
+ * until they are older than a time-to-live. Closed issues rarely change so they are
+ * reused until they are older than a longer time-to-live. Entries that are older than
+ * the longer time-to-live are deleted when the store is first used. Only files that
+ * match the layout of the store's entries are deleted. An entry that cannot be written
+ * is logged and skipped. A store without a directory stores nothing.
+ *
+ * @author agent
+ */
+class IssueStore {
+
+	private static final Log logger = LogFactory.getLog(IssueStore.class);
+
+	private static final String DIRECTORY_NAME = "issues";
+
+	/**
+	 * The depth of entries beneath the store's directory: owner, name and file.
+	 */
+	private static final int ENTRY_DEPTH = 3;
+
+	private static final Pattern ENTRY_NAME = Pattern.compile("[1-9][0-9]*(\\.json|-[0-9]+\\.tmp)");
+
+	private static final JsonMapper jsonMapper = JsonMapper.builder()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+		.build();
+
+	private final File directory;
+
+	private final Duration timeToLive;
+
+	private final Duration closedTimeToLive;
+
+	private final Clock clock;
+
+	private final AtomicBoolean pruned = new AtomicBoolean();
+
+	IssueStore(File directory, Duration timeToLive, Duration closedTimeToLive) {
+		this(directory, timeToLive, closedTimeToLive, Clock.systemUTC());
+	}
+
+	IssueStore(File directory, Duration timeToLive, Duration closedTimeToLive, Clock clock) {
+		this.directory = (directory != null) ? new File(directory, DIRECTORY_NAME) : null;
+		this.timeToLive = timeToLive;
+		this.closedTimeToLive = closedTimeToLive;
+		this.clock = clock;
+	}
+
+	/**
+	 * Find the stored issue with the given number.
+	 * @param repository the repository
+	 * @param issueNumber the number of the issue
+	 * @return the stored issue or {@code null} if the issue has not been stored or its
+	 * entry has expired
+	 */
+	StoredIssue find(Repository repository, int issueNumber) {
+		pruneOnce();
+		File file = getFile(repository, issueNumber);
+		if (file == null || !file.exists()) {
+			return null;
+		}
+		try {
+			Entry entry = jsonMapper.readValue(file, Entry.class);
+			Issue issue = (entry.getIssue() != null) ? toIssue(entry.getIssue()) : null;
+			if (isExpired(entry, issue)) {
+				return null;
+			}
+			return new StoredIssue(issue);
+		}
+		catch (JacksonException ex) {
+			// Ignore unreadable entry and fetch the issue again
+			return null;
+		}
+	}
+
+	private boolean isExpired(Entry entry, Issue issue) {
+		Duration timeToLive = (issue != null && "closed".equals(issue.getState())) ? this.closedTimeToLive
+				: this.timeToLive;
+		return entry.getStoredAt() == null || entry.getStoredAt().plus(timeToLive).isBefore(this.clock.instant());
+	}
+
+	/**
+	 * Store the given issue.
+	 * @param repository the repository
+	 * @param issueNumber the number of the issue
+	 * @param issue the issue as returned by GitHub's REST API
+	 * @return the issue
+	 */
+	Issue store(Repository repository, int issueNumber, JsonNode issue) {
+		if (issue == null) {
+			return null;
+		}
+		write(repository, issueNumber, new Entry(this.clock.instant(), issue));
+		return toIssue(issue);
+	}
+
+	/**
+	 * Store the given issue, which has been fetched by some means other than GitHub's
+	 * REST API.
+	 * @param repository the repository
+	 * @param issue the issue
+	 */
+	void store(Repository repository, Issue issue) {
+		if (this.directory == null) {
+			return;
+		}
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("number", issue.getNumberValue());
+		json.put("title", issue.getTitle());
+		json.put("body", issue.getBody());
+		json.put("html_url", issue.getUrl());
+		json.put("state", issue.getState());
+		json.put("updated_at", issue.getUpdatedAt());
+		json.put("author_association", issue.getAuthorAssociation());
+		json.put("comments", issue.getCommentCount());
+		json.put("user", (issue.getUser() != null) ? Map.of("login", issue.getUser().getName()) : null);
+		json.put("labels", issue.getLabels().stream().map((label) -> Map.of("name", label.getName())).toList());
+		json.put("pull_request",
+				(issue.getPullRequest() != null) ? Map.of("url", issue.getPullRequest().getUrl()) : null);
+		write(repository, issue.getNumberValue(), new Entry(this.clock.instant(), jsonMapper.valueToTree(json)));
+	}
+
+	/**
+	 * Record that the issue with the given number could not be found.
+	 * @param repository the repository
+	 * @param issueNumber the number of the issue
+	 */
+	void storeNotFound(Repository repository, int issueNumber) {
+		write(repository, issueNumber, new Entry(this.clock.instant(), null));
+	}
+
+	/**
+	 * Remove the stored issue with the given number, for example because it is known to
+	 * have been updated.
+	 * @param repository the repository
+	 * @param issueNumber the number of the issue
+	 */
+	void remove(Repository repository, int issueNumber) {
+		File file = getFile(repository, issueNumber);
+		if (file != null) {
+			file.delete();
+		}
+	}
+
+	private void write(Repository repository, int issueNumber, Entry entry) {
+		pruneOnce();
+		File file = getFile(repository, issueNumber);
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(file.getParentFile().toPath());
+			File temp = File.createTempFile(issueNumber + "-", ".tmp", file.getParentFile());
+			jsonMapper.writeValue(temp, entry);
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			file.setLastModified(entry.getStoredAt().toEpochMilli());
+		}
+		catch (IOException | JacksonException ex) {
+			logger.warn("Unable to store issue " + repository + "#" + issueNumber, ex);
+		}
+	}
+
+	private void pruneOnce() {
+		if (this.directory != null && this.directory.isDirectory() && this.pruned.compareAndSet(false, true)) {
+			prune(this.clock.instant().minus(this.closedTimeToLive));
+		}
+	}
+
+	private void prune(Instant cutoff) {
+		Path root = this.directory.toPath();
+		try (Stream<Path> paths = Files.walk(root, ENTRY_DEPTH)) {
+			paths.filter((path) -> isEntryOrTemporaryFile(root.relativize(path)))
+				.filter((path) -> path.toFile().lastModified() < cutoff.toEpochMilli())
+				.forEach((path) -> path.toFile().delete());
+		}
+		catch (IOException | UncheckedIOException ex) {
+			// Ignore and prune again when the next store is created
+		}
+	}
+
+	private boolean isEntryOrTemporaryFile(Path relativePath) {
+		return relativePath.getNameCount() == ENTRY_DEPTH
+				&& ENTRY_NAME.matcher(relativePath.getFileName().toString()).matches()
+				&& Files.isRegularFile(this.directory.toPath().resolve(relativePath));
+	}
+
+	private File getFile(Repository repository, int issueNumber) {
+		if (this.directory == null) {
+			return null;
+		}
+		File repositoryDirectory = new File(new File(this.directory, repository.getOwner()), repository.getName());
+		return new File(repositoryDirectory, issueNumber + ".json");
+	}
+
+	private Issue toIssue(JsonNode issue) {
+		return jsonMapper.treeToValue(issue, Issue.class);
+	}
+
+	/**
+	 * An issue that has been found in the store.
+	 */
+	static final class StoredIssue {
+
+		private final Issue issue;
+
+		private StoredIssue(Issue issue) {
+			this.issue = issue;
+		}
+
+		/**
+		 * Return the stored issue.
+		 * @return the issue or {@code null} if the issue could not be found when it was
+		 * fetched
+		 */
+		Issue getIssue() {
+			return this.issue;
+		}
+
+	}
+
+	/**
+	 * The persisted form of a stored issue.
+	 */
+	static final class Entry {
+
+		private final Instant storedAt;
+
+		private final JsonNode issue;
+
+		@JsonCreator
+		Entry(@JsonProperty("storedAt") Instant storedAt, @JsonProperty("issue") JsonNode issue) {
+			this.storedAt = storedAt;
+			this.issue = (issue != null && !issue.isNull()) ? issue : null;
+		}
+
+		public Instant getStoredAt() {
+			return this.storedAt;
+		}
+
+		public JsonNode getIssue() {
+			return this.issue;
+		}
+
+	}
+
+}
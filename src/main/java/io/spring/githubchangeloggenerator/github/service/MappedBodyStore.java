@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+
+/**
+ * A store that moves the bodies of issues off the heap and into a memory-mapped file. The
+ * bodies of a large milestone's issues account for most of the memory that its issues
+ * use. Once an issue has been stored, only the location of its body is held on the heap
+ * and the body is decoded from the file each time that it is read. An issue that is
+ * stored again without having been updated, for example when a milestone is polled,
+ * reuses its existing body rather than appending it to the file again, so the file only
+ * grows as issues are updated. The file is deleted when the JVM exits. A store without a
+ * directory stores nothing.
+ *
+ * @author agent
+ */
+class MappedBodyStore {
+
+	private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	private final File directory;
+
+	private final int segmentSize;
+
+	private FileChannel channel;
+
+	private long mappedSize;
+
+	private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+	private int position;
+
+	private final Map<String, Location> locations = new ConcurrentHashMap<>();
+
+	MappedBodyStore(File directory) {
+		this(directory, DEFAULT_SEGMENT_SIZE);
+	}
+
+	MappedBodyStore(File directory, int segmentSize) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Store the body of the given issue, returning an issue that reads its body from the
+	 * store. Issues without a body are returned unchanged, as are all issues when the
+	 * store does not have a directory.
+	 * @param issue the issue
+	 * @return the issue that reads its body from the store
+	 */
+	Issue store(Issue issue) {
+		if (this.directory == null || issue.getBody() == null || issue instanceof MappedIssue) {
+			return issue;
+		}
+		String key = (issue.getUrl() != null && issue.getUpdatedAt() != null) ? issue.getUrl() : null;
+		Location location = (key != null) ? this.locations.get(key) : null;
+		if (location == null || !location.isFor(issue)) {
+			byte[] body = issue.getBody().getBytes(StandardCharsets.UTF_8);
+			location = new Location(issue.getUpdatedAt(), append(body), body.length);
+			if (key != null) {
+				this.locations.put(key, location);
+			}
+		}
+		return new MappedIssue(issue, this, location);
+	}
+
+	private synchronized long append(byte[] bytes) {
+		MappedByteBuffer[] segments = this.segments;
+		MappedByteBuffer segment = (segments.length > 0) ? segments[segments.length - 1] : null;
+		if (segment == null || segment.capacity() - this.position < bytes.length) {
+			segment = map(Math.max(this.segmentSize, bytes.length));
+			segments = Arrays.copyOf(segments, segments.length + 1);
+			segments[segments.length - 1] = segment;
+			this.position = 0;
+		}
+		segment.put(this.position, bytes);
+		long location = ((long) (segments.length - 1) << 32) | this.position;
+		this.position += bytes.length;
+		this.segments = segments;
+		return location;
+	}
+
+	private MappedByteBuffer map(int size) {
+		try {
+			if (this.channel == null) {
+				this.directory.mkdirs();
+				Path file = Files.createTempFile(this.directory.toPath(), "issue-bodies-", ".bin");
+				file.toFile().deleteOnExit();
+				this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			}
+			MappedByteBuffer segment = this.channel.map(FileChannel.MapMode.READ_WRITE, this.mappedSize, size);
+			this.mappedSize += size;
+			return segment;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to map issue body store in '" + this.directory + "'", ex);
+		}
+	}
+
+	private String read(Location location) {
+		byte[] bytes = new byte[location.length];
+		this.segments[(int) (location.offset >>> 32)].get((int) location.offset, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Return whether the body of the given issue is held in a memory-mapped file rather
+	 * than on the heap.
+	 * @param issue the issue
+	 * @return {@code true} if the issue's body is mapped
+	 */
+	static boolean isMapped(Issue issue) {
+		return issue instanceof MappedIssue;
+	}
+
+	/**
+	 * An issue whose body is read from a {@link MappedBodyStore}.
+	 */
+	private static final class MappedIssue extends Issue {
+
+		private final MappedBodyStore store;
+
+		private final Location location;
+
+		MappedIssue(Issue issue, MappedBodyStore store, Location location) {
+			super(issue.getNumber(), issue.getTitle(), issue.getUser(), issue.getLabels(), issue.getUrl(),
+					issue.getPullRequest(), null, issue.getAuthorAssociation(), issue.getUpdatedAt(),
+					issue.getState(), issue.getMilestone(), issue.getCommentCount());
+			this.store = store;
+			this.location = location;
+		}
+
+		@Override
+		public String getBody() {
+			return this.store.read(this.location);
+		}
+
+	}
+
+	/**
+	 * The location of a body in the file and the time at which its issue was last
+	 * updated.
+	 */
+	private static final class Location {
+
+		private final String updatedAt;
+
+		private final long offset;
+
+		private final int length;
+
+		Location(String updatedAt, long offset, int length) {
+			this.updatedAt = updatedAt;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		boolean isFor(Issue issue) {
+			return Objects.equals(this.updatedAt, issue.getUpdatedAt());
+		}
+
+	}
+
+}
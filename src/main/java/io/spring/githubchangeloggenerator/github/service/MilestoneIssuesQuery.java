@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.service.IssueQuery.Node;
+
+/**
+ * A GraphQL query that fetches a page of the closed issues or pull requests in a
+ * milestone without their bodies. The connection that is queried is aliased as
+ * {@code page} so that issues and pull requests can be read from the response in the
+ * same way.
+ *
+ * @author agent
+ */
+final class MilestoneIssuesQuery {
+
+	/**
+	 * The number of issues fetched by a single query.
+	 */
+	static final int PAGE_SIZE = 100;
+
+	private MilestoneIssuesQuery() {
+	}
+
+	/**
+	 * Create the body of a request that fetches a page of the closed issues or pull
+	 * requests in a milestone.
+	 * @param repository the repository
+	 * @param milestoneNumber the number of the milestone
+	 * @param connection the connection to query
+	 * @param cursor the cursor after which the page starts or {@code null} for the first
+	 * page
+	 * @return the request body
+	 */
+	static Map<String, Object> create(Repository repository, int milestoneNumber, Connection connection,
+			String cursor) {
+		StringBuilder query = new StringBuilder("query($owner: String!, $name: String!, $milestone: Int!, ");
+		query.append("$cursor: String) {");
+		query.append(" repository(owner: $owner, name: $name) { milestone(number: $milestone) {");
+		query.append(" page: ").append(connection.name).append("(first: ").append(PAGE_SIZE);
+		query.append(", after: $cursor, states: ").append(connection.states);
+		query.append(", orderBy: { field: CREATED_AT, direction: DESC }) {");
+		query.append(" pageInfo { hasNextPage endCursor }");
+		query.append(" nodes { __typename ").append(IssueQuery.SUMMARY_FIELDS).append(" } } } } }");
+		Map<String, Object> variables = new LinkedHashMap<>();
+		variables.put("owner", repository.getOwner());
+		variables.put("name", repository.getName());
+		variables.put("milestone", milestoneNumber);
+		variables.put("cursor", cursor);
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("query", query.toString());
+		body.put("variables", variables);
+		return body;
+	}
+
+	/**
+	 * The connections of a milestone that contain its closed issues.
+	 */
+	enum Connection {
+
+		/**
+		 * The milestone's closed issues.
+		 */
+		ISSUES("issues", "[CLOSED]"),
+
+		/**
+		 * The milestone's closed and merged pull requests.
+		 */
+		PULL_REQUESTS("pullRequests", "[CLOSED, MERGED]");
+
+		private final String name;
+
+		private final String states;
+
+		Connection(String name, String states) {
+			this.name = name;
+			this.states = states;
+		}
+
+	}
+
+	/**
+	 * The response to a milestone issues query.
+	 */
+	static final class Response {
+
+		private final Page page;
+
+		@JsonCreator
+		Response(@JsonProperty("data") Map<String, Map<String, Map<String, Page>>> data) {
+			Map<String, Map<String, Page>> repository = (data != null) ? data.get("repository") : null;
+			Map<String, Page> milestone = (repository != null) ? repository.get("milestone") : null;
+			this.page = (milestone != null) ? milestone.get("page") : null;
+		}
+
+		/**
+		 * Return whether the query was answered. A query that failed, for example because
+		 * the milestone does not exist, is not answered.
+		 * @return {@code true} if the query was answered
+		 */
+		boolean isAnswered() {
+			return this.page != null;
+		}
+
+		/**
+		 * Return the issues in the page, without their bodies.
+		 * @return the issues
+		 */
+		List<Issue> getIssues() {
+			return this.page.nodes.stream().map(Node::toIssue).toList();
+		}
+
+		/**
+		 * Return the cursor of the next page.
+		 * @return the cursor or {@code null} if this is the last page
+		 */
+		String getNextCursor() {
+			return (Boolean.TRUE.equals(this.page.pageInfo.get("hasNextPage")))
+					? (String) this.page.pageInfo.get("endCursor") : null;
+		}
+
+	}
+
+	/**
+	 * A page of a connection.
+	 */
+	static final class Page {
+
+		private final Map<String, Object> pageInfo;
+
+		private final List<Node> nodes;
+
+		@JsonCreator
+		Page(@JsonProperty("pageInfo") Map<String, Object> pageInfo, @JsonProperty("nodes") List<Node> nodes) {
+			this.pageInfo = (pageInfo != null) ? pageInfo : Collections.emptyMap();
+			this.nodes = (nodes != null) ? nodes : Collections.emptyList();
+		}
+
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The budget of requests that may be made before GitHub's rate limits are reached,
+ * shared by every thread that uses a {@link GitHubService}. GitHub limits each resource,
+ * such as the {@code core} REST API, {@code search}, and {@code graphql}, separately so
+ * the budget of each resource is tracked separately too. The budget of a resource is
+ * decremented optimistically as requests are made so that concurrent callers do not
+ * overshoot it, and is updated from the {@code X-RateLimit-*} headers of each response,
+ * less the requests that are still awaiting a response. Decrements for requests that
+ * did not count against the rate limit, such as those answered with
+ * {@code 304 Not Modified}, are therefore refunded. Callers that find the budget of a
+ * resource exhausted wait until it is reset.
+ *
+ * @author agent
+ */
+class RateLimitBudget {
+
+	static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+	static final String RESET_HEADER = "X-RateLimit-Reset";
+
+	static final String RESOURCE_HEADER = "X-RateLimit-Resource";
+
+	/**
+	 * The resource of requests to the REST API other than searches.
+	 */
+	static final String CORE = "core";
+
+	/**
+	 * The resource of requests to the search API.
+	 */
+	static final String SEARCH = "search";
+
+	/**
+	 * The resource of requests to the GraphQL API.
+	 */
+	static final String GRAPHQL = "graphql";
+
+	private final Clock clock;
+
+	private final Map<String, Resource> resources = new HashMap<>();
+
+	RateLimitBudget() {
+		this(Clock.systemUTC());
+	}
+
+	RateLimitBudget(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Acquire permission to make a request to the {@link #CORE core} resource, waiting
+	 * until its budget is reset if it has been exhausted.
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	void acquire() throws InterruptedException {
+		acquire(CORE);
+	}
+
+	/**
+	 * Acquire permission to make a request to the given resource, waiting until its
+	 * budget is reset if it has been exhausted.
+	 * @param resource the resource
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	synchronized void acquire(String resource) throws InterruptedException {
+		Resource budget = getResource(resource);
+		while (!tryAcquire(budget)) {
+			wait(budget.reset.toEpochMilli() - this.clock.millis());
+		}
+	}
+
+	/**
+	 * Acquire permission to make a request to the given resource if its budget has not
+	 * been exhausted.
+	 * @param resource the resource
+	 * @return {@code true} if permission was acquired or {@code false} if the budget has
+	 * been exhausted and has not yet been reset
+	 */
+	synchronized boolean tryAcquire(String resource) {
+		return tryAcquire(getResource(resource));
+	}
+
+	private boolean tryAcquire(Resource budget) {
+		if (budget.remaining <= 0) {
+			if (budget.reset.toEpochMilli() - this.clock.millis() > 0) {
+				return false;
+			}
+			budget.remaining = Long.MAX_VALUE;
+		}
+		budget.remaining--;
+		budget.pending++;
+		return true;
+	}
+
+	/**
+	 * Release a request to the given resource that failed without a response.
+	 * @param resource the resource
+	 */
+	synchronized void release(String resource) {
+		complete(getResource(resource));
+	}
+
+	/**
+	 * Update the budget from the headers of a response.
+	 * @param headers the response headers
+	 */
+	void update(HttpHeaders headers) {
+		update(CORE, headers);
+	}
+
+	/**
+	 * Update the budget from the headers of a response to a request to the given
+	 * resource. The resource named by the response's {@code X-RateLimit-Resource} header
+	 * is updated in preference to the given resource.
+	 * @param resource the resource to which the request was made
+	 * @param headers the response headers
+	 */
+	synchronized void update(String resource, HttpHeaders headers) {
+		complete(getResource(resource));
+		String remaining = headers.getFirst(REMAINING_HEADER);
+		String reset = headers.getFirst(RESET_HEADER);
+		if (remaining == null || reset == null) {
+			return;
+		}
+		String responseResource = headers.getFirst(RESOURCE_HEADER);
+		Resource budget = getResource((responseResource != null) ? responseResource : resource);
+		try {
+			Instant resetInstant = Instant.ofEpochSecond(Long.parseLong(reset));
+			long remainingRequests = Long.parseLong(remaining);
+			if (!resetInstant.isBefore(budget.reset)) {
+				budget.reset = resetInstant;
+				budget.remaining = remainingRequests - budget.pending;
+			}
+			notifyAll();
+		}
+		catch (NumberFormatException ex) {
+			// Ignore malformed headers
+		}
+	}
+
+	long getRemaining() {
+		return getRemaining(CORE);
+	}
+
+	synchronized long getRemaining(String resource) {
+		return getResource(resource).remaining;
+	}
+
+	Instant getReset() {
+		return getReset(CORE);
+	}
+
+	synchronized Instant getReset(String resource) {
+		return getResource(resource).reset;
+	}
+
+	private void complete(Resource budget) {
+		budget.pending = Math.max(0, budget.pending - 1);
+	}
+
+	private Resource getResource(String resource) {
+		return this.resources.computeIfAbsent(resource, (key) -> new Resource());
+	}
+
+	/**
+	 * Return the resource whose rate limit applies to a request to the given URI.
+	 * @param uri the URI of the request
+	 * @return the resource
+	 */
+	static String getResource(URI uri) {
+		String path = (uri.getPath() != null) ? uri.getPath() : "";
+		if (path.startsWith("/search/") || path.startsWith("/api/v3/search/")) {
+			return SEARCH;
+		}
+		if (path.endsWith("/graphql")) {
+			return GRAPHQL;
+		}
+		return CORE;
+	}
+
+	/**
+	 * The budget of a single resource.
+	 */
+	private static final class Resource {
+
+		private long remaining = Long.MAX_VALUE;
+
+		private Instant reset = Instant.EPOCH;
+
+		private long pending;
+
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.spring.githubchangeloggenerator.github.service.TokenPool.Token;
+
+/**
+ * {@link ClientHttpRequestInterceptor} that draws each request from the
+ * {@link RateLimitBudget} of a token in a shared {@link TokenPool}, for the resource
+ * whose rate limit applies to the request, and authenticates the request using that
+ * token.
+ *
+ * @author agent
+ */
+class RateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+	private final TokenPool tokens;
+
+	RateLimitInterceptor(TokenPool tokens) {
+		this.tokens = tokens;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		String resource = RateLimitBudget.getResource(request.getURI());
+		Token token;
+		try {
+			token = this.tokens.acquire(resource);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the GitHub rate limit to reset");
+		}
+		if (token.getValue() != null) {
+			request.getHeaders().setBearerAuth(token.getValue());
+		}
+		ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		}
+		catch (IOException | RuntimeException ex) {
+			token.getBudget().release(resource);
+			throw ex;
+		}
+		token.getBudget().update(resource, response.getHeaders());
+		return response;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs work that makes requests to GitHub off the calling thread so that the work can
+ * be abandoned, for example when a deadline passes or a hedged request loses. The number
+ * of threads is bounded and, once every thread is busy, further work is run on the
+ * calling thread instead.
+ *
+ * @author agent
+ */
+public final class RequestExecutor {
+
+	/**
+	 * The maximum number of threads.
+	 */
+	static final int MAX_THREADS = 32;
+
+	private static final ExecutorService executor = new ThreadPoolExecutor(0, MAX_THREADS, 60, TimeUnit.SECONDS,
+			new SynchronousQueue<>(), (runnable) -> {
+				Thread thread = new Thread(runnable, "github-request");
+				thread.setDaemon(true);
+				return thread;
+			}, new ThreadPoolExecutor.CallerRunsPolicy());
+
+	private RequestExecutor() {
+	}
+
+	/**
+	 * Submit the given work. If every thread is busy, the work is run on the calling
+	 * thread and the returned future is complete.
+	 * @param <T> the type of the work's result
+	 * @param work the work
+	 * @return a future for the result of the work
+	 */
+	public static <T> Future<T> submit(Callable<T> work) {
+		return executor.submit(work);
+	}
+
+}
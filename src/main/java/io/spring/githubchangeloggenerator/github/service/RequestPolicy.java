@@ -0,0 +1,227 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * The policy applied to idempotent requests made to GitHub. Requests that fail with a
+ * server error or a connection error are retried with exponential backoff and full
+ * jitter. When hedging is enabled, a duplicate request is made if a response takes longer
+ * than the 95th percentile of the endpoint's recent response times, whichever response
+ * arrives first is used, and the other request is cancelled. Requests are hedged using
+ * the shared {@link RequestExecutor}. Retries and hedged requests are only made while
+ * the rate limit budget has requests to spare.
+ *
+ * @author agent
+ */
+class RequestPolicy {
+
+	/**
+	 * The number of requests that retries and hedged requests leave in the rate limit
+	 * budget for first attempts.
+	 */
+	static final long RESERVED_BUDGET = 100;
+
+	private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+	private static final Duration MIN_HEDGE_DELAY = Duration.ofMillis(50);
+
+	private final int maxAttempts;
+
+	private final Duration backoff;
+
+	private final boolean hedge;
+
+	private final LongSupplier remainingBudget;
+
+	private final RequestStatistics statistics;
+
+	private final Map<String, Latencies> latencies = new ConcurrentHashMap<>();
+
+	RequestPolicy(int maxAttempts, Duration backoff, boolean hedge, LongSupplier remainingBudget,
+			RequestStatistics statistics) {
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.backoff = backoff;
+		this.hedge = hedge;
+		this.remainingBudget = remainingBudget;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Make an idempotent request to the given endpoint.
+	 * @param <T> the type of the response
+	 * @param endpoint the URI template of the endpoint
+	 * @param request the request
+	 * @return the response
+	 */
+	<T> T get(String endpoint, Supplier<T> request) {
+		for (int attempt = 1;; attempt++) {
+			try {
+				return attempt(endpoint, request);
+			}
+			catch (HttpServerErrorException | ResourceAccessException ex) {
+				if (attempt >= this.maxAttempts || !hasSpareBudget()) {
+					throw ex;
+				}
+				this.statistics.recordRetry(endpoint);
+				sleep(getBackoff(attempt), ex);
+			}
+		}
+	}
+
+	private <T> T attempt(String endpoint, Supplier<T> request) {
+		Latencies latencies = this.latencies.computeIfAbsent(endpoint, (key) -> new Latencies());
+		Duration hedgeDelay = (this.hedge) ? latencies.getPercentile95() : null;
+		long start = System.nanoTime();
+		this.statistics.recordRequest(endpoint);
+		T response = (hedgeDelay != null) ? hedged(endpoint, request, max(hedgeDelay, MIN_HEDGE_DELAY))
+				: request.get();
+		latencies.add(System.nanoTime() - start);
+		return response;
+	}
+
+	private <T> T hedged(String endpoint, Supplier<T> request, Duration delay) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		AtomicInteger outstanding = new AtomicInteger(1);
+		List<Future<?>> requests = new ArrayList<>(2);
+		requests.add(submit(request, result, outstanding));
+		try {
+			return result.get(delay.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException ex) {
+			if (hasSpareBudget() && outstanding.incrementAndGet() > 1) {
+				this.statistics.recordRequest(endpoint);
+				this.statistics.recordHedge(endpoint);
+				requests.add(submit(request, result, outstanding));
+			}
+			return await(result);
+		}
+		catch (InterruptedException | ExecutionException ex) {
+			return unwrap(ex);
+		}
+		finally {
+			requests.forEach((future) -> future.cancel(true));
+		}
+	}
+
+	private <T> Future<?> submit(Supplier<T> request, CompletableFuture<T> result, AtomicInteger outstanding) {
+		return RequestExecutor.submit(() -> {
+			try {
+				result.complete(request.get());
+			}
+			catch (Throwable ex) {
+				if (outstanding.decrementAndGet() == 0) {
+					result.completeExceptionally(ex);
+				}
+			}
+			return null;
+		});
+	}
+
+	private <T> T await(CompletableFuture<T> result) {
+		try {
+			return result.get();
+		}
+		catch (InterruptedException | ExecutionException ex) {
+			return unwrap(ex);
+		}
+	}
+
+	private <T> T unwrap(Exception ex) {
+		if (ex instanceof InterruptedException) {
+			Thread.currentThread().interrupt();
+			throw new ResourceAccessException("Interrupted while waiting for a response from GitHub");
+		}
+		Throwable cause = ex.getCause();
+		if (cause instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		throw new RestClientException("Request to GitHub failed", cause);
+	}
+
+	private boolean hasSpareBudget() {
+		return this.remainingBudget.getAsLong() > RESERVED_BUDGET;
+	}
+
+	private Duration getBackoff(int attempt) {
+		long ceiling = Math.min(MAX_BACKOFF.toMillis(), this.backoff.toMillis() << Math.min(attempt - 1, 20));
+		return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+	}
+
+	private void sleep(Duration backoff, RestClientException failure) {
+		try {
+			Thread.sleep(backoff.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw failure;
+		}
+	}
+
+	private static Duration max(Duration a, Duration b) {
+		return (a.compareTo(b) >= 0) ? a : b;
+	}
+
+	/**
+	 * The recent response times of an endpoint.
+	 */
+	private static final class Latencies {
+
+		private static final int SIZE = 100;
+
+		private static final int MIN_SAMPLES = 20;
+
+		private final long[] samples = new long[SIZE];
+
+		private int count;
+
+		synchronized void add(long nanos) {
+			this.samples[this.count % SIZE] = nanos;
+			this.count++;
+		}
+
+		synchronized Duration getPercentile95() {
+			if (this.count < MIN_SAMPLES) {
+				return null;
+			}
+			long[] sorted = Arrays.copyOf(this.samples, Math.min(this.count, SIZE));
+			Arrays.sort(sorted);
+			return Duration.ofNanos(sorted[(int) Math.ceil(sorted.length * 0.95) - 1]);
+		}
+
+	}
+
+}
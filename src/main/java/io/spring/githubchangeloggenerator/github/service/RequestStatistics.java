@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the requests made to GitHub's REST API and the use of any caches that
+ * avoid them.
+ *
+ * @author agent
+ */
+public class RequestStatistics {
+
+	private final Map<String, LongAdder> requestsByEndpoint = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> requestsByUri = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> cacheHits = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> cacheMisses = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> cacheEvictions = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> retries = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> hedges = new ConcurrentHashMap<>();
+
+	private final AtomicLong bytesReceived = new AtomicLong();
+
+	private final ThreadLocal<Map<String, Long>> threadRequestsByEndpoint = ThreadLocal.withInitial(HashMap::new);
+
+	void recordRequest(String endpoint) {
+		increment(this.requestsByEndpoint, endpoint);
+		this.threadRequestsByEndpoint.get().merge(endpoint, 1L, Long::sum);
+	}
+
+	void recordResponse(String uri, long bytes) {
+		increment(this.requestsByUri, uri);
+		this.bytesReceived.addAndGet(bytes);
+	}
+
+	void recordCacheHit(String cache) {
+		increment(this.cacheHits, cache);
+	}
+
+	void recordCacheMiss(String cache) {
+		increment(this.cacheMisses, cache);
+	}
+
+	void recordCacheEviction(String cache) {
+		increment(this.cacheEvictions, cache);
+	}
+
+	void recordRetry(String endpoint) {
+		increment(this.retries, endpoint);
+	}
+
+	void recordHedge(String endpoint) {
+		increment(this.hedges, endpoint);
+	}
+
+	private void increment(Map<String, LongAdder> counters, String key) {
+		counters.computeIfAbsent(key, (k) -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Return the number of requests that have been made, keyed by the URI template of the
+	 * endpoint that was called.
+	 * @return the requests by endpoint
+	 */
+	public Map<String, Long> getRequestsByEndpoint() {
+		return snapshot(this.requestsByEndpoint, 1);
+	}
+
+	/**
+	 * Return the number of requests that have been made by the current thread, keyed by
+	 * the URI template of the endpoint that was called.
+	 * @return the requests made by the current thread by endpoint
+	 */
+	public Map<String, Long> getThreadRequestsByEndpoint() {
+		return new TreeMap<>(this.threadRequestsByEndpoint.get());
+	}
+
+	/**
+	 * Return the URIs that have been requested more than once and the number of times that
+	 * they were requested.
+	 * @return the duplicate requests
+	 */
+	public Map<String, Long> getDuplicateRequests() {
+		return snapshot(this.requestsByUri, 2);
+	}
+
+	/**
+	 * Return the number of cache hits, keyed by the name of the cache.
+	 * @return the cache hits
+	 */
+	public Map<String, Long> getCacheHits() {
+		return snapshot(this.cacheHits, 1);
+	}
+
+	/**
+	 * Return the number of cache misses, keyed by the name of the cache.
+	 * @return the cache misses
+	 */
+	public Map<String, Long> getCacheMisses() {
+		return snapshot(this.cacheMisses, 1);
+	}
+
+	/**
+	 * Return the number of entries that were evicted to keep a cache within its maximum
+	 * size, keyed by the name of the cache.
+	 * @return the cache evictions
+	 */
+	public Map<String, Long> getCacheEvictions() {
+		return snapshot(this.cacheEvictions, 1);
+	}
+
+	/**
+	 * Return the number of requests that were retried after a server or connection error,
+	 * keyed by the URI template of the endpoint that was called.
+	 * @return the retries by endpoint
+	 */
+	public Map<String, Long> getRetries() {
+		return snapshot(this.retries, 1);
+	}
+
+	/**
+	 * Return the number of hedged requests that were made because a response was slow,
+	 * keyed by the URI template of the endpoint that was called.
+	 * @return the hedged requests by endpoint
+	 */
+	public Map<String, Long> getHedgedRequests() {
+		return snapshot(this.hedges, 1);
+	}
+
+	/**
+	 * Return the total number of bytes that have been received in response bodies.
+	 * @return the bytes received
+	 */
+	public long getBytesReceived() {
+		return this.bytesReceived.get();
+	}
+
+	private Map<String, Long> snapshot(Map<String, LongAdder> counters, long threshold) {
+		Map<String, Long> snapshot = new TreeMap<>();
+		counters.forEach((key, count) -> {
+			long value = count.sum();
+			if (value >= threshold) {
+				snapshot.put(key, value);
+			}
+		});
+		return snapshot;
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * {@link ClientHttpRequestInterceptor} that records the URI of each request and the
+ * number of bytes in its response body in {@link RequestStatistics}.
+ *
+ * @author agent
+ */
+class RequestStatisticsInterceptor implements ClientHttpRequestInterceptor {
+
+	private final RequestStatistics statistics;
+
+	RequestStatisticsInterceptor(RequestStatistics statistics) {
+		this.statistics = statistics;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		return new CountingClientHttpResponse(request.getURI().toString(), execution.execute(request, body));
+	}
+
+	/**
+	 * {@link ClientHttpResponse} wrapper that counts the bytes read from the body.
+	 */
+	private final class CountingClientHttpResponse implements ClientHttpResponse {
+
+		private final String uri;
+
+		private final ClientHttpResponse delegate;
+
+		private CountingInputStream body;
+
+		private CountingClientHttpResponse(String uri, ClientHttpResponse delegate) {
+			this.uri = uri;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() throws IOException {
+			return this.delegate.getStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return this.delegate.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.delegate.getHeaders();
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			if (this.body == null) {
+				this.body = new CountingInputStream(this.delegate.getBody());
+			}
+			return this.body;
+		}
+
+		@Override
+		public void close() {
+			RequestStatisticsInterceptor.this.statistics.recordResponse(this.uri,
+					(this.body != null) ? this.body.count : 0);
+			this.delegate.close();
+		}
+
+	}
+
+	/**
+	 * {@link InputStream} that counts the bytes that have been read.
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		private CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int result = super.read();
+			if (result != -1) {
+				this.count++;
+			}
+			return result;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int result = super.read(b, off, len);
+			if (result > 0) {
+				this.count += result;
+			}
+			return result;
+		}
+
+	}
+
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * An {@link EntityCache} whose entries are bounded by their total weight and evicted
+ * using the W-TinyLFU policy. New entries are admitted to a small LRU window. Entries that
+ * leave the window compete with the least recently used entry of the main segmented LRU
+ * region, and only the entry that has been used more often, according to a count-min
+ * sketch of recent use, is kept. Entries that are used again while on probation are
+ * promoted to the main region's protected segment. Each entry may also expire after a
+ * time to live that depends on its value.
+ *
+ * @param <V> the type of the cached entities
+ * @author agent
+ */
+final class TinyLfuEntityCache<V> implements EntityCache<V> {
+
+	private static final int WINDOW_PERCENTAGE = 1;
+
+	private static final int PROTECTED_PERCENTAGE = 80;
+
+	private final long maximumWeight;
+
+	private final long windowMaximumWeight;
+
+	private final long protectedMaximumWeight;
+
+	private final ToLongFunction<V> weigher;
+
+	private final Function<V, Duration> timeToLive;
+
+	private final Runnable evictionListener;
+
+	private final LongSupplier ticker;
+
+	private final Map<Key, Node<V>> nodes = new HashMap<>();
+
+	private final AccessOrder<V> window = new AccessOrder<>();
+
+	private final AccessOrder<V> probation = new AccessOrder<>();
+
+	private final AccessOrder<V> protectedOrder = new AccessOrder<>();
+
+	private final FrequencySketch sketch = new FrequencySketch();
+
+	/**
+	 * Create a new cache.
+	 * @param maximumWeight the maximum total weight of the cached entities
+	 * @param weigher the function used to weigh each entity
+	 * @param timeToLive the function used to determine how long each entity may be used
+	 * for, returning {@code null} if it never expires
+	 * @param evictionListener the listener that is called when an entity is evicted to
+	 * keep the cache within its maximum weight
+	 */
+	TinyLfuEntityCache(long maximumWeight, ToLongFunction<V> weigher, Function<V, Duration> timeToLive,
+			Runnable evictionListener) {
+		this(maximumWeight, weigher, timeToLive, evictionListener, System::nanoTime);
+	}
+
+	TinyLfuEntityCache(long maximumWeight, ToLongFunction<V> weigher, Function<V, Duration> timeToLive,
+			Runnable evictionListener, LongSupplier ticker) {
+		this.maximumWeight = maximumWeight;
+		this.windowMaximumWeight = Math.max(1, maximumWeight * WINDOW_PERCENTAGE / 100);
+		this.protectedMaximumWeight = (maximumWeight - this.windowMaximumWeight) * PROTECTED_PERCENTAGE / 100;
+		this.weigher = weigher;
+		this.timeToLive = timeToLive;
+		this.evictionListener = evictionListener;
+		this.ticker = ticker;
+	}
+
+	@Override
+	public synchronized V get(Repository repository, int number) {
+		Key key = new Key(repository, number);
+		this.sketch.increment(key.hashCode());
+		Node<V> node = getLive(key);
+		if (node == null) {
+			return null;
+		}
+		onAccess(node);
+		return node.value;
+	}
+
+	@Override
+	public synchronized boolean containsKey(Repository repository, int number) {
+		return getLive(new Key(repository, number)) != null;
+	}
+
+	@Override
+	public synchronized V put(Repository repository, int number, V value) {
+		Key key = new Key(repository, number);
+		this.sketch.increment(key.hashCode());
+		Node<V> node = getLive(key);
+		if (node == null) {
+			add(key, value);
+			return null;
+		}
+		V previous = node.value;
+		update(node, value);
+		onAccess(node);
+		evict();
+		return previous;
+	}
+
+	@Override
+	public synchronized V putIfAbsent(Repository repository, int number, V value) {
+		Key key = new Key(repository, number);
+		this.sketch.increment(key.hashCode());
+		Node<V> node = getLive(key);
+		if (node != null) {
+			onAccess(node);
+			return node.value;
+		}
+		add(key, value);
+		return null;
+	}
+
+	@Override
+	public synchronized V computeIfPresent(Repository repository, int number, UnaryOperator<V> update) {
+		Node<V> node = getLive(new Key(repository, number));
+		if (node == null) {
+			return null;
+		}
+		V value = update.apply(node.value);
+		if (value == null) {
+			remove(node);
+			return null;
+		}
+		update(node, value);
+		evict();
+		return value;
+	}
+
+	@Override
+	public synchronized void remove(Repository repository, int number) {
+		Node<V> node = this.nodes.get(new Key(repository, number));
+		if (node != null) {
+			remove(node);
+		}
+	}
+
+	synchronized long getWeight() {
+		return this.window.weight + this.probation.weight + this.protectedOrder.weight;
+	}
+
+	private Node<V> getLive(Key key) {
+		Node<V> node = this.nodes.get(key);
+		if (node != null && node.expiresAt != Long.MAX_VALUE && this.ticker.getAsLong() - node.expiresAt >= 0) {
+			remove(node);
+			return null;
+		}
+		return node;
+	}
+
+	private void add(Key key, V value) {
+		Node<V> node = new Node<>(key);
+		setValue(node, value);
+		this.nodes.put(key, node);
+		this.sketch.ensureCapacity(this.nodes.size());
+		this.window.addLast(node);
+		evict();
+	}
+
+	private void update(Node<V> node, V value) {
+		AccessOrder<V> order = node.order;
+		order.weight -= node.weight;
+		setValue(node, value);
+		order.weight += node.weight;
+	}
+
+	private void setValue(Node<V> node, V value) {
+		Duration timeToLive = this.timeToLive.apply(value);
+		node.value = value;
+		node.weight = Math.max(1, this.weigher.applyAsLong(value));
+		node.expiresAt = (timeToLive != null) ? this.ticker.getAsLong() + timeToLive.toNanos() : Long.MAX_VALUE;
+	}
+
+	private void onAccess(Node<V> node) {
+		if (node.order == this.probation) {
+			this.probation.remove(node);
+			this.protectedOrder.addLast(node);
+			while (this.protectedOrder.weight > this.protectedMaximumWeight && this.protectedOrder.first != node) {
+				this.probation.addLast(this.protectedOrder.removeFirst());
+			}
+		}
+		else {
+			node.order.moveToLast(node);
+		}
+	}
+
+	private void evict() {
+		while (this.window.weight > this.windowMaximumWeight && this.window.first != null) {
+			this.probation.addLast(this.window.removeFirst());
+		}
+		while (getWeight() > this.maximumWeight) {
+			Node<V> victim = (this.probation.first != null) ? this.probation.first
+					: (this.protectedOrder.first != null) ? this.protectedOrder.first : this.window.first;
+			Node<V> candidate = this.probation.last;
+			boolean admit = candidate == null || candidate == victim
+					|| this.sketch.frequency(candidate.key.hashCode()) > this.sketch.frequency(victim.key.hashCode());
+			remove((admit) ? victim : candidate);
+			this.evictionListener.run();
+		}
+	}
+
+	private void remove(Node<V> node) {
+		node.order.remove(node);
+		this.nodes.remove(node.key);
+	}
+
+	/**
+	 * The key of a cached entity.
+	 */
+	private static final class Key {
+
+		private final Repository repository;
+
+		private final int number;
+
+		private final int hash;
+
+		Key(Repository repository, int number) {
+			this.repository = repository;
+			this.number = number;
+			this.hash = 31 * repository.hashCode() + number;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.number == other.number && Objects.equals(this.repository, other.repository);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+	}
+
+	/**
+	 * A cached entity and its position in one of the cache's access orders.
+	 *
+	 * @param <V> the type of the cached entity
+	 */
+	private static final class Node<V> {
+
+		private final Key key;
+
+		private V value;
+
+		private long weight;
+
+		private long expiresAt;
+
+		private AccessOrder<V> order;
+
+		private Node<V> previous;
+
+		private Node<V> next;
+
+		Node(Key key) {
+			this.key = key;
+		}
+
+	}
+
+	/**
+	 * A doubly-linked list of nodes, least recently used first, along with their total
+	 * weight.
+	 *
+	 * @param <V> the type of the cached entities
+	 */
+	private static final class AccessOrder<V> {
+
+		private Node<V> first;
+
+		private Node<V> last;
+
+		private long weight;
+
+		void addLast(Node<V> node) {
+			node.order = this;
+			node.previous = this.last;
+			node.next = null;
+			if (this.last != null) {
+				this.last.next = node;
+			}
+			else {
+				this.first = node;
+			}
+			this.last = node;
+			this.weight += node.weight;
+		}
+
+		Node<V> removeFirst() {
+			Node<V> node = this.first;
+			remove(node);
+			return node;
+		}
+
+		void remove(Node<V> node) {
+			if (node.previous != null) {
+				node.previous.next = node.next;
+			}
+			else {
+				this.first = node.next;
+			}
+			if (node.next != null) {
+				node.next.previous = node.previous;
+			}
+			else {
+				this.last = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			node.order = null;
+			this.weight -= node.weight;
+		}
+
+		void moveToLast(Node<V> node) {
+			if (node != this.last) {
+				remove(node);
+				addLast(node);
+			}
+		}
+
+	}
+
+	/**
+	 * A count-min sketch of how often keys have recently been used, held as four-bit
+	 * counters packed sixteen to a {@code long}. Every counter is halved once the number
+	 * of increments reaches ten times the number of counters so that the sketch favors
+	 * recent use.
+	 */
+	private static final class FrequencySketch {
+
+		private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+				0xcbf29ce484222325L };
+
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private static final int MINIMUM_CAPACITY = 16;
+
+		private long[] table = new long[MINIMUM_CAPACITY];
+
+		private int additions;
+
+		void ensureCapacity(int entries) {
+			int capacity = Integer.highestOneBit(Math.max(MINIMUM_CAPACITY, entries) - 1) << 1;
+			if (capacity > this.table.length) {
+				this.table = new long[capacity];
+				this.additions = 0;
+			}
+		}
+
+		int frequency(int hash) {
+			int frequency = 15;
+			for (int depth = 0; depth < SEEDS.length; depth++) {
+				int index = index(hash, depth);
+				frequency = Math.min(frequency, (int) ((this.table[slot(index)] >>> shift(index)) & 15));
+			}
+			return frequency;
+		}
+
+		void increment(int hash) {
+			boolean added = false;
+			for (int depth = 0; depth < SEEDS.length; depth++) {
+				int index = index(hash, depth);
+				int slot = slot(index);
+				int shift = shift(index);
+				if (((this.table[slot] >>> shift) & 15) != 15) {
+					this.table[slot] += 1L << shift;
+					added = true;
+				}
+			}
+			if (added && ++this.additions >= this.table.length * 10) {
+				reset();
+			}
+		}
+
+		private void reset() {
+			for (int i = 0; i < this.table.length; i++) {
+				this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+			}
+			this.additions /= 2;
+		}
+
+		private int index(int hash, int depth) {
+			long index = (hash + SEEDS[depth]) * SEEDS[depth];
+			return (int) (index + (index >>> 32));
+		}
+
+		private int slot(int index) {
+			return index & (this.table.length - 1);
+		}
+
+		private int shift(int index) {
+			return ((index >>> 24) & 15) << 2;
+		}
+
+	}
+
+}
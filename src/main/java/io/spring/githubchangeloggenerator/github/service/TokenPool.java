@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * The tokens that are used to authenticate requests to GitHub. Each token has its own
+ * {@link RateLimitBudget} and each request is made using the token with the most
+ * requests remaining, so that the rate limits of several tokens can be used together.
+ * When every token's budget has been exhausted, requests wait for the budget that is
+ * reset first. A pool without any tokens makes unauthenticated requests.
+ *
+ * @author agent
+ */
+class TokenPool {
+
+	private final List<Token> tokens;
+
+	TokenPool(Collection<String> tokens) {
+		this(tokens, RateLimitBudget::new);
+	}
+
+	TokenPool(Collection<String> tokens, Supplier<RateLimitBudget> budgetFactory) {
+		List<Token> pooled = new ArrayList<>();
+		for (String token : new LinkedHashSet<>(tokens)) {
+			if (StringUtils.hasLength(token)) {
+				pooled.add(new Token(token, budgetFactory.get()));
+			}
+		}
+		if (pooled.isEmpty()) {
+			pooled.add(new Token(null, budgetFactory.get()));
+		}
+		this.tokens = Collections.unmodifiableList(pooled);
+	}
+
+	/**
+	 * Return whether the pool contains at least one token.
+	 * @return {@code true} if requests are authenticated
+	 */
+	boolean isAuthenticated() {
+		return this.tokens.get(0).getValue() != null;
+	}
+
+	/**
+	 * Acquire permission to make a request to the {@link RateLimitBudget#CORE core}
+	 * resource using the token with the most requests remaining, waiting if every token's
+	 * budget has been exhausted.
+	 * @return the token to use for the request
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	Token acquire() throws InterruptedException {
+		return acquire(RateLimitBudget.CORE);
+	}
+
+	/**
+	 * Acquire permission to make a request to the given resource using the token with the
+	 * most requests to that resource remaining, waiting if every token's budget for the
+	 * resource has been exhausted. A token whose budget is exhausted by a concurrent
+	 * request between it being selected and permission being acquired is passed over in
+	 * favor of the token with the next most requests remaining.
+	 * @param resource the resource
+	 * @return the token to use for the request
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	Token acquire(String resource) throws InterruptedException {
+		for (int attempt = 0; attempt < this.tokens.size(); attempt++) {
+			Token selected = select(resource);
+			if (selected.getBudget().tryAcquire(resource)) {
+				return selected;
+			}
+		}
+		Token selected = select(resource);
+		selected.getBudget().acquire(resource);
+		return selected;
+	}
+
+	private Token select(String resource) {
+		Token selected = null;
+		for (Token token : this.tokens) {
+			if (selected == null || isPreferred(token, selected, resource)) {
+				selected = token;
+			}
+		}
+		return selected;
+	}
+
+	private boolean isPreferred(Token candidate, Token selected, String resource) {
+		long candidateRemaining = candidate.getBudget().getRemaining(resource);
+		long selectedRemaining = selected.getBudget().getRemaining(resource);
+		if (candidateRemaining <= 0 && selectedRemaining <= 0) {
+			return candidate.getBudget().getReset(resource).isBefore(selected.getBudget().getReset(resource));
+		}
+		return candidateRemaining > selectedRemaining;
+	}
+
+	/**
+	 * Return the total number of requests to the {@link RateLimitBudget#CORE core}
+	 * resource that remain in the budgets of all of the tokens.
+	 * @return the remaining requests
+	 */
+	long getRemaining() {
+		long remaining = 0;
+		for (Token token : this.tokens) {
+			long tokenRemaining = Math.max(0, token.getBudget().getRemaining());
+			remaining = (remaining > Long.MAX_VALUE - tokenRemaining) ? Long.MAX_VALUE : remaining + tokenRemaining;
+		}
+		return remaining;
+	}
+
+	/**
+	 * A token and its budget.
+	 */
+	static final class Token {
+
+		private final String value;
+
+		private final RateLimitBudget budget;
+
+		private Token(String value, RateLimitBudget budget) {
+			this.value = value;
+			this.budget = budget;
+		}
+
+		/**
+		 * Return the value of the token.
+		 * @return the value or {@code null} for unauthenticated requests
+		 */
+		String getValue() {
+			return this.value;
+		}
+
+		RateLimitBudget getBudget() {
+			return this.budget;
+		}
+
+	}
+
+}
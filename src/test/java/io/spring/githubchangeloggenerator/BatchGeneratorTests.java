@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociation;
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.service.GitHubService;
+import io.spring.githubchangeloggenerator.github.service.Repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+/**
+ * Tests for {@link BatchGenerator}.
+ *
+ * @author agent
+ */
+class BatchGeneratorTests {
+
+	@TempDir
+	Path tempDirectory;
+
+	private GitHubService service;
+
+	private BatchGenerator generator;
+
+	private Path manifest;
+
+	private Path checkpoint;
+
+	@BeforeEach
+	void setup() throws IOException {
+		this.service = mock(GitHubService.class);
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty("changelog.milestone-reference", "id");
+		this.generator = new BatchGenerator(this.service, environment);
+		this.manifest = this.tempDirectory.resolve("manifest.yml");
+		this.checkpoint = this.tempDirectory.resolve("manifest.yml.checkpoint");
+		Files.writeString(this.manifest, """
+				parallelism: 2
+				targets:
+				  - milestone: "23"
+				    file: "%1$s/one.md"
+				    changelog:
+				      repository: "org/one"
+				  - milestone: "24"
+				    file: "%1$s/two.md"
+				    changelog:
+				      repository: "org/two"
+				      issues:
+				        exclude:
+				          labels: ["wontfix"]
+				""".formatted(this.tempDirectory));
+	}
+
+	@Test
+	void generateGeneratesEachTargetWithItsOwnProperties() throws Exception {
+		given(this.service.getIssuesForMilestone(23, Repository.of("org/one"))).willReturn(issues());
+		given(this.service.getIssuesForMilestone(24, Repository.of("org/two"))).willReturn(issues());
+		this.generator.generate(this.manifest.toFile(), this.checkpoint.toFile(), null);
+		assertThat(this.tempDirectory.resolve("one.md")).content().contains("Bug 1", "Ignored bug 2");
+		assertThat(this.tempDirectory.resolve("two.md")).content().contains("Bug 1").doesNotContain("Ignored bug 2");
+		assertThat(this.checkpoint).doesNotExist();
+	}
+
+	@Test
+	void generateWhenCheckpointExistsSkipsCompletedTargets() throws Exception {
+		Files.writeString(this.checkpoint, "org/one 23 %s/one.md%n".formatted(this.tempDirectory));
+		given(this.service.getIssuesForMilestone(24, Repository.of("org/two"))).willReturn(issues());
+		this.generator.generate(this.manifest.toFile(), this.checkpoint.toFile(), null);
+		then(this.service).should(never()).getIssuesForMilestone(23, Repository.of("org/one"));
+		assertThat(this.tempDirectory.resolve("one.md")).doesNotExist();
+		assertThat(this.tempDirectory.resolve("two.md")).exists();
+	}
+
+	@Test
+	void generateWhenTargetFailsKeepsCheckpointOfCompletedTargets() throws Exception {
+		given(this.service.getIssuesForMilestone(23, Repository.of("org/one"))).willReturn(issues());
+		given(this.service.getIssuesForMilestone(24, Repository.of("org/two")))
+			.willThrow(new IllegalStateException("Failed"));
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.generator.generate(this.manifest.toFile(), this.checkpoint.toFile(), null))
+			.withMessageContaining("two.md")
+			.withMessageContaining("IllegalStateException: Failed");
+		assertThat(this.checkpoint).content().contains("org/one 23").doesNotContain("two.md");
+	}
+
+	@Test
+	void generateWhenCheckpointIsForAnotherRepositoryGeneratesTarget() throws Exception {
+		Files.writeString(this.checkpoint, "org/other 23 %s/one.md%n".formatted(this.tempDirectory));
+		given(this.service.getIssuesForMilestone(23, Repository.of("org/one"))).willReturn(issues());
+		given(this.service.getIssuesForMilestone(24, Repository.of("org/two"))).willReturn(issues());
+		this.generator.generate(this.manifest.toFile(), this.checkpoint.toFile(), null);
+		assertThat(this.tempDirectory.resolve("one.md")).exists();
+	}
+
+	private List<Issue> issues() {
+		return List.of(newIssue("Bug 1", "1"), newIssue("Ignored bug 2", "2", "wontfix"));
+	}
+
+	private Issue newIssue(String title, String number, String... extraLabels) {
+		List<Label> labels = new ArrayList<>(List.of(new Label("type: bug")));
+		for (String extraLabel : extraLabels) {
+			labels.add(new Label(extraLabel));
+		}
+		return new Issue(number, title, null, labels, "url-" + number, null, null, AuthorAssociation.NONE);
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.spring.githubchangeloggenerator.ApplicationProperties.ExpressionEngine;
+import io.spring.githubchangeloggenerator.ApplicationProperties.Expressions;
+import io.spring.githubchangeloggenerator.BodyExpressions.Expression;
+import io.spring.githubchangeloggenerator.GenerationReport.ExpressionCost;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BodyExpressions}.
+ *
+ * @author agent
+ */
+class BodyExpressionsTests {
+
+	private final AtomicLong time = new AtomicLong();
+
+	@ParameterizedTest
+	@EnumSource
+	void extractWhenBodyMatchesReturnsFirstGroup(ExpressionEngine engine) {
+		Expression expression = compile(engine, "(?:Backport|Forward port) of (?:gh-|#)(\\d+)\\.?");
+		assertThat(expression.extract("Backport of gh-1234")).isEqualTo("1234");
+		assertThat(expression.extract("Forward port of #42.")).isEqualTo("42");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void extractWhenBodyDoesNotMatchReturnsNull(ExpressionEngine engine) {
+		Expression expression = compile(engine, "Backport of gh-(\\d+)");
+		assertThat(expression.extract("Backport of gh-abc")).isNull();
+		assertThat(expression.extract(null)).isNull();
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void extractWhenExpressionHasReluctantQuantifiersReturnsSameGroupAsPattern(ExpressionEngine engine) {
+		Expression expression = compile(engine, "(.*?)(?: |-)+.*");
+		assertThat(expression.extract("Upgrade to Spring - 6.1 -- now")).isEqualTo("Upgrade");
+		expression = compile(engine, "(\\w+(?:[.-]\\w+)*)[.]?");
+		assertThat(expression.extract("spring-boot.starter.")).isEqualTo("spring-boot.starter");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void extractWhenBodyIsLongerThanMaxLengthMatchesTruncatedBody(ExpressionEngine engine) {
+		Expression expression = compile(engine, 10, "(a*)");
+		assertThat(expression.extract("a".repeat(10) + "b")).isEqualTo("a".repeat(10));
+	}
+
+	@Test
+	void extractWhenLimitsAreNotConfiguredMatchesWholeBody() {
+		BodyExpressions bodyExpressions = new BodyExpressions(new Expressions(null, null, null),
+				() -> this.time.addAndGet(Duration.ofSeconds(1).toNanos()));
+		Expression expression = bodyExpressions.compile(Pattern.compile("(a*)b"));
+		assertThat(expression.extract("a".repeat(100000) + "b")).isEqualTo("a".repeat(100000));
+		assertThat(bodyExpressions.getCosts().get(0).getTimeouts()).isZero();
+	}
+
+	@Test
+	void extractWhenBacktrackingExceedsTimeBudgetReturnsNull() {
+		BodyExpressions bodyExpressions = new BodyExpressions(expressions(ExpressionEngine.BACKTRACKING, 65536),
+				() -> this.time.addAndGet(Duration.ofMillis(1).toNanos()));
+		Expression expression = bodyExpressions.compile(Pattern.compile("(.*a.*a.*a.*a.*a.*a)b"));
+		assertThat(expression.extract("a".repeat(200))).isNull();
+		ExpressionCost cost = bodyExpressions.getCosts().get(0);
+		assertThat(cost.getExpression()).isEqualTo("(.*a.*a.*a.*a.*a.*a)b");
+		assertThat(cost.getEvaluations()).isOne();
+		assertThat(cost.getTimeouts()).isOne();
+	}
+
+	@Test
+	void extractWhenLinearMatchesPathologicalExpressionWithinTimeBudget() {
+		BodyExpressions bodyExpressions = new BodyExpressions(expressions(ExpressionEngine.LINEAR, 65536),
+				() -> this.time.addAndGet(Duration.ofMillis(1).toNanos()));
+		Expression expression = bodyExpressions.compile(Pattern.compile("(.*a.*a.*a.*a.*a.*a)b"));
+		assertThat(expression.extract("a".repeat(20000))).isNull();
+		assertThat(expression.extract("a".repeat(20000) + "b")).isEqualTo("a".repeat(20000));
+		ExpressionCost cost = bodyExpressions.getCosts().get(0);
+		assertThat(cost.getEvaluations()).isEqualTo(2);
+		assertThat(cost.getTimeouts()).isZero();
+	}
+
+	@Test
+	void extractWhenLinearExceedsTimeBudgetMatchesUsingPattern() {
+		BodyExpressions bodyExpressions = new BodyExpressions(expressions(ExpressionEngine.LINEAR, 65536),
+				() -> this.time.addAndGet(Duration.ofSeconds(1).toNanos()));
+		Expression expression = bodyExpressions.compile(Pattern.compile("Backport of gh-(\\d+)"));
+		assertThat(expression.extract("Backport of gh-1234")).isEqualTo("1234");
+		assertThat(bodyExpressions.getCosts().get(0).getTimeouts()).isZero();
+	}
+
+	@Test
+	void extractWhenLinearAndExpressionIsNotSupportedUsesPattern() {
+		Expression expression = compile(ExpressionEngine.LINEAR, "(?i)backport of (\\d+)");
+		assertThat(expression.extract("BACKPORT OF 12")).isEqualTo("12");
+		expression = compile(ExpressionEngine.LINEAR, "(?:(\\d)-)+.*");
+		assertThat(expression.extract("1-2-3")).isEqualTo("2");
+	}
+
+	@Test
+	void extractWhenLinearAndBodyHasSupplementaryCharactersUsesPattern() {
+		Expression expression = compile(ExpressionEngine.LINEAR, "Fix (.) rendering");
+		assertThat(expression.extract("Fix \uD83D\uDE00 rendering")).isEqualTo("\uD83D\uDE00");
+	}
+
+	@Test
+	void getCostsWhenExpressionHasNotBeenEvaluatedReturnsEmptyList() {
+		BodyExpressions bodyExpressions = new BodyExpressions(expressions(ExpressionEngine.BACKTRACKING, 65536));
+		bodyExpressions.compile(Pattern.compile("(.*)"));
+		assertThat(bodyExpressions.getCosts()).isEmpty();
+	}
+
+	private Expression compile(ExpressionEngine engine, String regex) {
+		return compile(engine, 65536, regex);
+	}
+
+	private Expression compile(ExpressionEngine engine, int maxLength, String regex) {
+		return new BodyExpressions(expressions(engine, maxLength)).compile(Pattern.compile(regex));
+	}
+
+	private Expressions expressions(ExpressionEngine engine, int maxLength) {
+		return new Expressions(maxLength, Duration.ofMillis(100), engine);
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.spring.githubchangeloggenerator.ApplicationProperties.IssueType;
+import io.spring.githubchangeloggenerator.ApplicationProperties.Issues;
+import io.spring.githubchangeloggenerator.ApplicationProperties.IssuesExclude;
+import io.spring.githubchangeloggenerator.ApplicationProperties.Section;
+import io.spring.githubchangeloggenerator.ApplicationProperties.Summary;
+import io.spring.githubchangeloggenerator.ApplicationProperties.SummaryMode;
+import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociation;
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.service.GitHubService;
+import io.spring.githubchangeloggenerator.github.service.Repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Allocation budget tests for the stages that each issue passes through when a changelog
+ * is rendered. Each stage is run against the same synthetic issues until it has been
+ * compiled and the bytes that it then allocates on the current thread, per issue, must
+ * stay within the stage's budget. Budgets leave headroom for the differences between JVMs
+ * and their compilers, so a failure indicates that a stage has started to allocate more
+ * for each issue rather than noise.
+ *
+ * @author agent
+ */
+class ChangelogAllocationTests {
+
+	private static final Repository REPO = Repository.of("org/name");
+
+	private static final String[] LABELS = { "enhancement", "bug", "documentation", "dependency-upgrade",
+			"wontfix" };
+
+	private static final int ISSUE_COUNT = 500;
+
+	private static final int WARMUP_RUNS = 200;
+
+	private static final int MEASURED_RUNS = 5;
+
+	private static final long EXCLUDE_BUDGET = 384;
+
+	private static final long COLLATE_BUDGET = 2048;
+
+	private static final long SUMMARIZE_BUDGET = 128;
+
+	private static final long ESCAPE_BUDGET = 2560;
+
+	private static final long FORMAT_BUDGET = 4096;
+
+	private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private List<Issue> issues;
+
+	private ChangelogGenerator generator;
+
+	private ChangelogSections sections;
+
+	private MarkdownRenderer renderer;
+
+	@BeforeEach
+	void setup() {
+		assumeTrue(this.threads.isThreadAllocatedMemorySupported(),
+				"Measuring the memory allocated by a thread is not supported");
+		this.threads.setThreadAllocatedMemoryEnabled(true);
+		this.issues = createIssues();
+		ApplicationProperties properties = createProperties();
+		GitHubService github = mock(GitHubService.class);
+		this.generator = new ChangelogGenerator(github, properties);
+		this.sections = new ChangelogSections(properties, github, mock(IssueChain.class));
+		this.renderer = new MarkdownRenderer();
+	}
+
+	@Test
+	void excludeIsWithinBudget() {
+		assertThat(measure(() -> this.issues.forEach(this.generator::isExcluded)))
+			.isLessThanOrEqualTo(EXCLUDE_BUDGET);
+	}
+
+	@Test
+	void collateIsWithinBudget() {
+		assertThat(measure(() -> this.sections.collate(this.issues))).isLessThanOrEqualTo(COLLATE_BUDGET);
+	}
+
+	@Test
+	void summarizeIsWithinBudget() {
+		Map<ChangelogSection, List<Issue>> collated = this.sections.collate(this.issues);
+		assertThat(measure(() -> collated.forEach((section, issues) -> issues.forEach(section::summarize))))
+			.isLessThanOrEqualTo(SUMMARIZE_BUDGET);
+	}
+
+	@Test
+	void escapeIsWithinBudget() {
+		assertThat(measure(() -> this.issues.forEach((issue) -> this.renderer.escape(issue.getTitle()))))
+			.isLessThanOrEqualTo(ESCAPE_BUDGET);
+	}
+
+	@Test
+	void formatEntryIsWithinBudget() {
+		List<Changelog.Entry> entries = this.issues.stream()
+			.map((issue) -> new Changelog.Entry(issue.getNumber(), issue.getTitle(), issue.getUrl()))
+			.toList();
+		assertThat(measure(() -> entries.forEach(this.renderer::formatEntry))).isLessThanOrEqualTo(FORMAT_BUDGET);
+	}
+
+	/**
+	 * Run the given stage until it has been compiled and return the fewest bytes that it
+	 * allocated per issue in any of the measured runs.
+	 * @param stage the stage to measure
+	 * @return the bytes allocated per issue
+	 */
+	private long measure(Runnable stage) {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			stage.run();
+		}
+		long allocated = Long.MAX_VALUE;
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+			long start = this.threads.getCurrentThreadAllocatedBytes();
+			stage.run();
+			allocated = Math.min(allocated, this.threads.getCurrentThreadAllocatedBytes() - start);
+		}
+		return allocated / ISSUE_COUNT;
+	}
+
+	private List<Issue> createIssues() {
+		List<Issue> issues = new ArrayList<>(ISSUE_COUNT);
+		for (int i = 1; i <= ISSUE_COUNT; i++) {
+			String number = Integer.toString(i);
+			String title = "Support @Value on <bean> elements with *nested* properties in module_" + i;
+			String body = "Upgrade to [Library " + i + "](https://example.com/library/" + i + ")";
+			List<Label> labels = List.of(new Label(LABELS[i % LABELS.length]), new Label("status: " + (i % 3)));
+			issues.add(new Issue(number, title, null, labels, "https://example.com/" + i, null, body,
+					AuthorAssociation.NONE));
+		}
+		return issues;
+	}
+
+	private ApplicationProperties createProperties() {
+		List<Section> sections = new ArrayList<>();
+		sections.add(new Section(":star: New Features", null, null, Set.of("enhancement"), IssueType.ANY,
+				new Summary(SummaryMode.TITLE, Map.of())));
+		sections.add(new Section(":lady_beetle: Bug Fixes", null, null, Set.of("bug"), IssueType.ANY,
+				new Summary(SummaryMode.TITLE, Map.of())));
+		sections.add(new Section(":notebook_with_decorative_cover: Documentation", null, null,
+				Set.of("documentation"), IssueType.ANY, new Summary(SummaryMode.TITLE, Map.of())));
+		Summary upgradeSummary = new Summary(SummaryMode.BODY_REGEX,
+				Map.of("expression", "(Upgrade to \\[.*\\]\\(.*\\)).*"));
+		sections.add(new Section(":hammer: Dependency Upgrades", null, null, Set.of("dependency-upgrade"),
+				IssueType.ANY, upgradeSummary));
+		Issues issues = new Issues(null, new IssuesExclude(Set.of("wontfix")), null, true, null, null);
+		return new ApplicationProperties(REPO, MilestoneReference.ID, sections, issues, null, null, false, false,
+				false, null);
+	}
+
+}
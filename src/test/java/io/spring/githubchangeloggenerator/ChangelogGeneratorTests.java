@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2024 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,14 +20,19 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.assertj.core.api.PathAssert;
@@ -35,30 +40,47 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.web.client.RestClientException;
 
 import io.spring.githubchangeloggenerator.ApplicationProperties.Contributors;
 import io.spring.githubchangeloggenerator.ApplicationProperties.ContributorsExclude;
+import io.spring.githubchangeloggenerator.ApplicationProperties.ExpressionEngine;
+import io.spring.githubchangeloggenerator.ApplicationProperties.Expressions;
 import io.spring.githubchangeloggenerator.ApplicationProperties.ExternalLink;
+import io.spring.githubchangeloggenerator.ApplicationProperties.IssueFetch;
 import io.spring.githubchangeloggenerator.ApplicationProperties.IssueSort;
 import io.spring.githubchangeloggenerator.ApplicationProperties.IssueType;
 import io.spring.githubchangeloggenerator.ApplicationProperties.Issues;
 import io.spring.githubchangeloggenerator.ApplicationProperties.IssuesExclude;
+import io.spring.githubchangeloggenerator.ApplicationProperties.OutputFormat;
 import io.spring.githubchangeloggenerator.ApplicationProperties.PortedIssue;
 import io.spring.githubchangeloggenerator.ApplicationProperties.Section;
 import io.spring.githubchangeloggenerator.ApplicationProperties.Summary;
 import io.spring.githubchangeloggenerator.ApplicationProperties.SummaryMode;
+import io.spring.githubchangeloggenerator.GenerationReport.IssueCost;
 import io.spring.githubchangeloggenerator.github.payload.Comment;
 import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociation;
 import io.spring.githubchangeloggenerator.github.payload.Issue;
 import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.payload.Milestone;
 import io.spring.githubchangeloggenerator.github.payload.PullRequest;
 import io.spring.githubchangeloggenerator.github.payload.User;
 import io.spring.githubchangeloggenerator.github.service.GitHubService;
 import io.spring.githubchangeloggenerator.github.service.Repository;
+import io.spring.githubchangeloggenerator.github.service.RequestStatistics;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 /**
  * Tests for {@link ChangelogGenerator}.
@@ -131,15 +153,82 @@ class ChangelogGeneratorTests {
 		issues.add(newIssue("Enhancement 3", "5", "enhancement-5-url", Type.ENHANCEMENT));
 		issues.add(newIssue("Enhancement 4", "6", "enhancement-6-url", Type.ENHANCEMENT));
 		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
-		given(this.service.getIssue("10", REPO)).willReturn(
+		given(this.service.getIssue(10, REPO)).willReturn(
 				newPullRequest("Original Enhancement 10", "10", Type.ENHANCEMENT, "enhancement-10-url", contributor1));
-		given(this.service.getIssue("11", REPO)).willReturn(
+		given(this.service.getIssue(11, REPO)).willReturn(
 				newPortedIssue("Enhancement 11", "11", "Back port of issue #20", "enhancement-11-url", Type.BACK_PORT));
-		given(this.service.getIssue("20", REPO)).willReturn(
+		given(this.service.getIssue(20, REPO)).willReturn(
 				newPullRequest("Original Enhancement 20", "20", Type.ENHANCEMENT, "enhancement-20-url", contributor2));
 		assertChangelog("23").hasContent(from("output-with-no-bugs"));
 	}
 
+	@Test
+	void generateWhenHasForwardAndBackPortsFetchesReferencedIssuesInBatches() throws Exception {
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newPortedIssue("Enhancement 1", "2", "Forward port of issue #10", "enhancement-1-url",
+				Type.FORWARD_PORT));
+		issues.add(newPortedIssue("Enhancement 2", "4", "Back port of issue #11", "enhancement-2-url", Type.BACK_PORT));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		Issue issue10 = newIssue("Original Enhancement 10", "10", "enhancement-10-url", Type.ENHANCEMENT);
+		Issue issue11 = newPortedIssue("Enhancement 11", "11", "Back port of issue #20", "enhancement-11-url",
+				Type.BACK_PORT);
+		Issue issue20 = newIssue("Original Enhancement 20", "20", "enhancement-20-url", Type.ENHANCEMENT);
+		given(this.service.getIssues(Set.of(10, 11), REPO)).willReturn(Map.of(10, issue10, 11, issue11));
+		given(this.service.getIssues(Set.of(20), REPO)).willReturn(Map.of(20, issue20));
+		generateChangelog("23");
+		then(this.service).should().getIssues(Set.of(10, 11), REPO);
+		then(this.service).should().getIssues(Set.of(20), REPO);
+	}
+
+	@Test
+	void generateWhenDeadlineHasPassedDoesNotFetchReferencedIssues() throws Exception {
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newPortedIssue("Enhancement 1", "2", "Forward port of issue #10", "enhancement-1-url",
+				Type.FORWARD_PORT));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		GenerationReport report = new GenerationReport(new RequestStatistics());
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString(), report, Deadline.after(Duration.ZERO));
+		then(this.service).should(never()).getIssues(any(), eq(REPO));
+		then(this.service).should(never()).getIssue(anyInt(), eq(REPO));
+	}
+
+	@Test
+	void watchWhenPollFailsRegeneratesOnNextPoll() throws Exception {
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		given(this.service.isModified(23, REPO)).willThrow(new RestClientException("failed"))
+			.willReturn(false)
+			.willAnswer((invocation) -> {
+				Thread.currentThread().interrupt();
+				return false;
+			});
+		Path file = this.tempDirectory.resolve("changelog.md");
+		try {
+			this.generator.watch("23", file.toString(), Duration.ofMillis(1));
+		}
+		finally {
+			assertThat(Thread.interrupted()).isTrue();
+		}
+		then(this.service).should(times(3)).isModified(23, REPO);
+		then(this.service).should().getIssuesForMilestone(23, REPO);
+		assertThat(file).content().contains("Bug 1");
+	}
+
+	@Test
+	void generateWhenChangelogIsLargeKeepsIssueOrder() throws Exception {
+		List<Issue> issues = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		for (int i = 1; i <= 1001; i++) {
+			issues.add(newIssue("Bug " + i, Integer.toString(i), "bug-" + i + "-url", Type.BUG));
+			expected.add("- Bug " + i + " [#" + i + "](bug-" + i + "-url)");
+		}
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		Path file = generateChangelog("23");
+		assertThat(Files.readAllLines(file)).filteredOn((line) -> line.startsWith("- ")).isEqualTo(expected);
+	}
+
 	@Test
 	void generateWhenHasPortedIssuesWithNoBody() throws Exception {
 		List<Issue> issues = new ArrayList<>();
@@ -158,7 +247,8 @@ class ChangelogGeneratorTests {
 		issues.add(newPullRequest("Enhancement 2", "2", Type.ENHANCEMENT, "enhancement-2-url", contributor2));
 		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null,
-				new Contributors(null, new ContributorsExclude(Collections.singleton("contributor1"))), null, false);
+				new Contributors(null, new ContributorsExclude(Collections.singleton("contributor1"))), null, false,
+				false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		assertChangelog("23").hasContent(from("output-with-excluded-contributors"));
 	}
@@ -172,7 +262,8 @@ class ChangelogGeneratorTests {
 		issues.add(newPullRequest("Enhancement 2", "2", Type.ENHANCEMENT, "enhancement-2-url", contributor2));
 		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null,
-				new Contributors(null, new ContributorsExclude(Collections.singleton("*"))), null, false);
+				new Contributors(null, new ContributorsExclude(Collections.singleton("*"))), null, false, false, false,
+				null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		assertChangelog("23").hasContent(from("output-with-all-contributors-excluded"));
 	}
@@ -341,7 +432,7 @@ class ChangelogGeneratorTests {
 		sections.add(new Section("Enhancements", null, IssueSort.TITLE, labels, IssueType.ANY,
 				new Summary(SummaryMode.TITLE, Collections.emptyMap())));
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
-				new Issues(null, null, null, true), null, null, false);
+				new Issues(null, null, null, true, null, null), null, null, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		List<Issue> issues = new ArrayList<>();
 		issues.add(newIssue("Enhancement c", "1", "enhancement-1-url", Type.ENHANCEMENT));
@@ -359,7 +450,7 @@ class ChangelogGeneratorTests {
 				new Summary(SummaryMode.MEMBER_COMMENT, Map.of("prefix", "Noteworthy change: "))));
 		PortedIssue forwardPort = new PortedIssue("status: forward-port", "Forward port of issue #(\\d+)");
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
-				new Issues(null, null, Set.of(forwardPort), true), null, null, false);
+				new Issues(null, null, Set.of(forwardPort), true, null, null), null, null, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		List<Issue> issues = new ArrayList<>();
 		issues.add(newIssue("Bug one", "1", "bug-1-url", Type.BUG, "status: noteworthy"));
@@ -376,15 +467,111 @@ class ChangelogGeneratorTests {
 		comments.add(new Comment("Member comment", AuthorAssociation.MEMBER));
 		comments.add(new Comment("Noteworthy change: should be ignored", AuthorAssociation.CONTRIBUTOR));
 		comments.add(new Comment("Noteworthy change: Description of the change", AuthorAssociation.MEMBER));
-		given(this.service.getCommentsForIssue(3, REPO)).willReturn(comments);
-		given(this.service.getCommentsForIssue(5, REPO)).willReturn(
+		given(this.service.getCommentsForIssue(issueNumbered("3"), eq(REPO))).willReturn(comments);
+		given(this.service.getCommentsForIssue(issueNumbered("5"), eq(REPO))).willReturn(
 				List.of(new Comment("Noteworthy change: Description of change from issue that was ported forwards",
 						AuthorAssociation.MEMBER)));
-		given(this.service.getIssue("5", REPO))
+		given(this.service.getIssue(5, REPO))
 			.willReturn(newIssue("Noteworthy change", "5", "bug-5-url", Type.BUG, "status: noteworthy"));
 		assertChangelog("23").hasContent(from("output-with-noteworthy-changes"));
 	}
 
+	@Test
+	void generateWhenSectionUsesMemberCommentSummariesSkipsIssuesWithoutComments() throws Exception {
+		List<Section> sections = new ArrayList<>();
+		Set<String> labels = Collections.singleton("status: noteworthy");
+		sections.add(new Section("Noteworthy Changes", null, IssueSort.CREATED, labels, IssueType.ANY,
+				new Summary(SummaryMode.MEMBER_COMMENT, Map.of("prefix", "Noteworthy change: "))));
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections, null,
+				null, null, false, false, false, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newCommentedIssue("Bug one", "1", 0));
+		issues.add(newCommentedIssue("Bug two", "2", 3));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		given(this.service.getCommentsForIssue(issueNumbered("2"), eq(REPO)))
+			.willReturn(List.of(new Comment("Noteworthy change: Description of the change", AuthorAssociation.MEMBER)));
+		assertChangelog("23").hasContent(String.format(
+				"## Noteworthy Changes%n%n- Bug one [#1](bug-1-url)%n- Description of the change [#2](bug-2-url)%n"));
+		then(this.service).should(never()).getCommentsForIssue(issueNumbered("1"), eq(REPO));
+	}
+
+	@Test
+	void generateWhenPipelinedFetchesCommentsOfEachPageOfIssues() throws Exception {
+		List<Section> sections = new ArrayList<>();
+		Set<String> labels = Collections.singleton("status: noteworthy");
+		sections.add(new Section("Noteworthy Changes", null, IssueSort.CREATED, labels, IssueType.ANY,
+				new Summary(SummaryMode.MEMBER_COMMENT, Map.of("prefix", "Noteworthy change: "))));
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
+				new Issues(null, new IssuesExclude(Set.of("wontfix")), null, true, IssueFetch.PIPELINED, null), null,
+				null, false, false, false, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		List<Issue> firstPage = List.of(newCommentedIssue("Bug one", "1", 0), newCommentedIssue("Bug two", "2", 3));
+		List<Issue> secondPage = List.of(newIssue("Bug three", "3", "bug-3-url", Type.BUG, "wontfix"),
+				newCommentedIssue("Bug four", "4", 1));
+		willAnswer((invocation) -> {
+			Consumer<List<Issue>> pageConsumer = invocation.getArgument(2);
+			pageConsumer.accept(firstPage);
+			pageConsumer.accept(secondPage);
+			return null;
+		}).given(this.service).getIssuesForMilestone(eq(23), eq(REPO), any());
+		given(this.service.getCommentsForIssue(issueNumbered("2"), eq(REPO)))
+			.willReturn(List.of(new Comment("Noteworthy change: Description of the change", AuthorAssociation.MEMBER)));
+		given(this.service.getCommentsForIssue(issueNumbered("4"), eq(REPO))).willReturn(List.of());
+		assertChangelog("23").hasContent(String.format("## Noteworthy Changes%n%n- Bug one [#1](bug-1-url)%n"
+				+ "- Description of the change [#2](bug-2-url)%n- Bug four [#4](bug-4-url)%n"));
+		then(this.service).should(never()).getCommentsForIssue(issueNumbered("1"), eq(REPO));
+		then(this.service).should(never()).getIssuesForMilestone(23, REPO);
+	}
+
+	@Test
+	void generateWhenDeadlineHasPassedSummarizesIssuesUsingTheirTitles() throws Exception {
+		List<Section> sections = new ArrayList<>();
+		Set<String> labels = Collections.singleton("status: noteworthy");
+		sections.add(new Section("Noteworthy Changes", null, IssueSort.CREATED, labels, IssueType.ANY,
+				new Summary(SummaryMode.MEMBER_COMMENT, Map.of("prefix", "Noteworthy change: "))));
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections, null,
+				null, null, false, false, false, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(List.of(newCommentedIssue("Bug one", "1", 3)));
+		GenerationReport report = new GenerationReport(new RequestStatistics());
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString(), report, Deadline.after(Duration.ZERO));
+		assertThat(file).hasContent(String.format("## Noteworthy Changes%n%n- Bug one [#1](bug-1-url)%n"));
+		assertThat(report.getDegradedLines()).singleElement().satisfies((line) -> {
+			assertThat(line.getNumber()).isEqualTo("1");
+			assertThat(line.getSection()).isEqualTo("Noteworthy Changes");
+		});
+		then(this.service).should(never()).getCommentsForIssue(issueNumbered("1"), eq(REPO));
+	}
+
+	@Test
+	void generateWithReportAttributesCommentsFetchedAheadOfSummarizingToTheirIssue() throws Exception {
+		List<Section> sections = new ArrayList<>();
+		Set<String> labels = Collections.singleton("status: noteworthy");
+		sections.add(new Section("Noteworthy Changes", null, IssueSort.CREATED, labels, IssueType.ANY,
+				new Summary(SummaryMode.MEMBER_COMMENT, Map.of("prefix", "Noteworthy change: "))));
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections, null,
+				null, null, false, false, false, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(List.of(newCommentedIssue("Bug one", "1", 45)));
+		ThreadLocal<Map<String, Long>> threadRequests = ThreadLocal.withInitial(HashMap::new);
+		RequestStatistics statistics = mock(RequestStatistics.class);
+		given(statistics.getThreadRequestsByEndpoint())
+			.willAnswer((invocation) -> new TreeMap<>(threadRequests.get()));
+		List<Comment> comments = List.of(new Comment("Noteworthy change: Description", AuthorAssociation.MEMBER));
+		String endpoint = "/repos/{owner}/{name}/issues/{issueNumber}/comments";
+		given(this.service.getCommentsForIssue(issueNumbered("1"), eq(REPO))).willAnswer((invocation) -> {
+			threadRequests.get().merge(endpoint, 2L, Long::sum);
+			return comments;
+		}).willReturn(comments);
+		GenerationReport report = new GenerationReport(statistics);
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString(), report);
+		assertThat(report.getSlowestIssues()).singleElement()
+			.satisfies((cost) -> assertThat(cost.getRequests()).containsExactly(Map.entry(endpoint, 2L)));
+	}
+
 	@Test
 	void generateWhenSectionUsesBodyRegexSummaries() throws Exception {
 		List<Section> sections = new ArrayList<>();
@@ -392,7 +579,7 @@ class ChangelogGeneratorTests {
 		sections.add(new Section("Dependency Upgrades", null, IssueSort.TITLE, labels, IssueType.ANY,
 				new Summary(SummaryMode.BODY_REGEX, Map.of("expression", "(Upgrade to \\[.*\\]\\(.*\\)).*"))));
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
-				new Issues(null, null, null, true), null, null, false);
+				new Issues(null, null, null, true, null, null), null, null, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		List<Issue> issues = new ArrayList<>();
 		issues.add(newIssue("Upgrade one", "1", "issue-1-url",
@@ -404,6 +591,32 @@ class ChangelogGeneratorTests {
 		assertChangelog("23").hasContent(from("output-with-body-regex-summaries"));
 	}
 
+	@Test
+	void generateWhenFetchingBodiesOnDemandFetchesBodiesOfIssuesSummarizedFromTheirBodies() throws Exception {
+		List<Section> sections = new ArrayList<>();
+		Set<String> labels = Collections.singleton("type: dependency-upgrade");
+		sections.add(new Section("Dependency Upgrades", null, IssueSort.TITLE, labels, IssueType.ANY,
+				new Summary(SummaryMode.BODY_REGEX, Map.of("expression", "(Upgrade to \\[.*\\]\\(.*\\)).*"))));
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
+				new Issues(null, null, null, true, IssueFetch.BODIES_ON_DEMAND, null), null, null, false, false, false,
+				null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newIssue("Upgrade one", "1", "issue-1-url", null, Type.DEPENDENCY_UPGRADE));
+		issues.add(newIssue("Upgrade two", "2", "issue-2-url", null, Type.DEPENDENCY_UPGRADE));
+		issues.add(newIssue("Bug three", "3", "issue-3-url", null, Type.BUG));
+		given(this.service.getIssuesForMilestoneWithoutBodies(23, REPO)).willReturn(issues);
+		Map<Integer, Issue> issuesWithBodies = new LinkedHashMap<>();
+		issuesWithBodies.put(1, newIssue("Upgrade one", "1", "issue-1-url",
+				"Upgrade to [Spring Framework 7.0.6](https://github.com/spring-projects/spring-framework/releases/tag/v7.0.6).",
+				Type.DEPENDENCY_UPGRADE));
+		issuesWithBodies.put(2, newIssue("Upgrade two", "2", "issue-2-url", "Upgrade to Example Library 1.2.3.",
+				Type.DEPENDENCY_UPGRADE));
+		given(this.service.getIssuesWithBodies(issues.subList(0, 2), REPO)).willReturn(issuesWithBodies);
+		assertChangelog("23").hasContent(from("output-with-body-regex-summaries"));
+		then(this.service).should(never()).getIssuesForMilestone(23, REPO);
+	}
+
 	@Test
 	void generateWhenAllIssuesSortedByTitle() throws Exception {
 		List<Section> sections = new ArrayList<>();
@@ -411,7 +624,7 @@ class ChangelogGeneratorTests {
 		sections.add(new Section("Enhancements", null, null, labels, IssueType.ANY,
 				new Summary(SummaryMode.TITLE, Collections.emptyMap())));
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
-				new Issues(IssueSort.TITLE, null, null, true), null, null, false);
+				new Issues(IssueSort.TITLE, null, null, true, null, null), null, null, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		List<Issue> issues = new ArrayList<>();
 		issues.add(newIssue("Enhancement c", "1", "enhancement-1-url", Type.ENHANCEMENT));
@@ -421,6 +634,35 @@ class ChangelogGeneratorTests {
 		assertChangelog("23").hasContent(from("output-with-title-sorted-issues"));
 	}
 
+	@Test
+	void generateWhenManyIssuesRendersSectionsInOrder() throws Exception {
+		List<Section> sections = new ArrayList<>();
+		sections.add(new Section("Bugs", null, IssueSort.TITLE, Set.of("type: bug"), IssueType.ANY,
+				new Summary(SummaryMode.TITLE, Collections.emptyMap())));
+		sections.add(new Section("Enhancements", null, IssueSort.TITLE, Set.of("type: enhancement"), IssueType.ANY,
+				new Summary(SummaryMode.TITLE, Collections.emptyMap())));
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
+				new Issues(null, null, null, false, null, null), null, null, false, false, false, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		List<Issue> issues = new ArrayList<>();
+		List<String> bugs = new ArrayList<>();
+		List<String> enhancements = new ArrayList<>();
+		for (int number = 1; number <= 1000; number++) {
+			String title = ((number % 3 == 0) ? "issue " : "Issue ") + Integer.toString(number * 7919 % 1000, 36);
+			boolean bug = number % 2 == 0;
+			issues.add(newIssue(title, String.valueOf(number), "url", (bug) ? Type.BUG : Type.ENHANCEMENT));
+			((bug) ? bugs : enhancements).add(title);
+		}
+		bugs.sort(String.CASE_INSENSITIVE_ORDER);
+		enhancements.sort(String.CASE_INSENSITIVE_ORDER);
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		StringBuilder expected = new StringBuilder(String.format("## Bugs%n%n"));
+		bugs.forEach((title) -> expected.append(String.format("- %s%n", title)));
+		expected.append(String.format("%n## Enhancements%n%n"));
+		enhancements.forEach((title) -> expected.append(String.format("- %s%n", title)));
+		assertChangelog("23").hasContent(expected.toString());
+	}
+
 	@Test
 	void generateWhenHasCustomContributorsTitle() throws Exception {
 		User contributor1 = createUser("contributor1");
@@ -428,7 +670,7 @@ class ChangelogGeneratorTests {
 		issues.add(newPullRequest("Bug 1", "1", Type.BUG, "bug-1-url", contributor1));
 		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null,
-				new Contributors(":heart: Teamwork", null), null, false);
+				new Contributors(":heart: Teamwork", null), null, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		assertChangelog("23").hasContent(from("output-with-custom-contributors-title"));
 	}
@@ -438,7 +680,7 @@ class ChangelogGeneratorTests {
 		List<ExternalLink> externalLinks = new ArrayList<>();
 		externalLinks.add(new ExternalLink("Release Notes Link 1", "url1"));
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null, null,
-				externalLinks, false);
+				externalLinks, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		assertChangelog("23").hasContent(from("output-with-one-external-link"));
 	}
@@ -450,7 +692,7 @@ class ChangelogGeneratorTests {
 		externalLinks.add(new ExternalLink("Release Notes Link 2", "url2"));
 		externalLinks.add(new ExternalLink("Release Notes Link 3", "url3"));
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null, null,
-				externalLinks, false);
+				externalLinks, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		assertChangelog("23").hasContent(from("output-with-multiple-external-link"));
 	}
@@ -465,7 +707,7 @@ class ChangelogGeneratorTests {
 		issues.add(newPullRequest("PR 4", "4", Type.ENHANCEMENT, "pr-4-url", contributor1));
 		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null,
-				new Issues(null, null, null, false), null, null, false);
+				new Issues(null, null, null, false, null, null), null, null, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		assertChangelog("23").hasContent(from("output-without-issue-links"));
 	}
@@ -477,7 +719,7 @@ class ChangelogGeneratorTests {
 		sections.add(new Section("Enhancements", null, IssueSort.TITLE, labels, IssueType.ISSUE,
 				new Summary(SummaryMode.TITLE, Collections.emptyMap())));
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
-				new Issues(null, null, null, true), null, null, false);
+				new Issues(null, null, null, true, null, null), null, null, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		User contributor1 = createUser("contributor1");
 		List<Issue> issues = new ArrayList<>();
@@ -496,7 +738,7 @@ class ChangelogGeneratorTests {
 		sections.add(new Section("Enhancements", null, IssueSort.TITLE, labels, IssueType.PULL_REQUEST,
 				new Summary(SummaryMode.TITLE, Collections.emptyMap())));
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
-				new Issues(null, null, null, true), null, null, false);
+				new Issues(null, null, null, true, null, null), null, null, false, false, false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 		User contributor1 = createUser("contributor1");
 		List<Issue> issues = new ArrayList<>();
@@ -508,13 +750,282 @@ class ChangelogGeneratorTests {
 		assertChangelog("23").hasContent(from("output-with-pull-requests-only"));
 	}
 
+	@Test
+	void generateWhenSearchingForPullRequestsOnlySearchesForPullRequestsWithoutExcludedLabels() throws Exception {
+		List<Section> sections = new ArrayList<>();
+		Set<String> labels = Collections.singleton("type: enhancement");
+		sections.add(new Section("Enhancements", null, IssueSort.TITLE, labels, IssueType.PULL_REQUEST,
+				new Summary(SummaryMode.TITLE, Collections.emptyMap())));
+		Issues issuesProperties = new Issues(null, new IssuesExclude(Set.of("wontfix")), null, true, IssueFetch.SEARCH,
+				null);
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, sections,
+				issuesProperties, null, null, false, false, false, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		User contributor1 = createUser("contributor1");
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newPullRequest("PR 3", "3", Type.ENHANCEMENT, "pr-3-url", contributor1));
+		issues.add(newPullRequest("PR 4", "4", Type.ENHANCEMENT, "pr-4-url", contributor1));
+		given(this.service.searchIssuesForMilestone(23, REPO, Set.of("wontfix"), "pr")).willReturn(issues);
+		assertChangelog("23").hasContent(from("output-with-pull-requests-only"));
+		then(this.service).should(never()).getIssuesForMilestone(23, REPO);
+	}
+
+	@Test
+	void generateWhenMultipleMilestones() throws Exception {
+		setupGenerator(MilestoneReference.TITLE);
+		List<Issue> issues23 = new ArrayList<>();
+		issues23.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		issues23.add(newIssue("Enhancement 1", "2", "enhancement-1-url", Type.ENHANCEMENT));
+		issues23.add(newIssue("Enhancement 2", "4", "enhancement-2-url", Type.ENHANCEMENT));
+		issues23.add(newIssue("Bug 3", "3", "bug-3-url", Type.BUG));
+		User contributor1 = createUser("contributor1");
+		List<Issue> issues24 = new ArrayList<>();
+		issues24.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		issues24.add(newIssue("Ignored bug 2", "2", "bug-2-url", Type.BUG, "wontfix"));
+		issues24.add(newPullRequest("PR 3", "3", Type.ENHANCEMENT, "pr-3-url", contributor1));
+		issues24.add(newPullRequest("PR 4", "4", Type.ENHANCEMENT, "pr-4-url", contributor1, "duplicate"));
+		given(this.service.getMilestoneNumbers(List.of("v2.3", "v2.4"), REPO))
+			.willReturn(Map.of("v2.3", 23, "v2.4", 24));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues23);
+		given(this.service.getIssuesForMilestone(24, REPO)).willReturn(issues24);
+		Path file23 = this.tempDirectory.resolve("v2.3.md");
+		Path file24 = this.tempDirectory.resolve("v2.4.md");
+		Map<String, String> milestonePaths = new LinkedHashMap<>();
+		milestonePaths.put("v2.3", file23.toString());
+		milestonePaths.put("v2.4", file24.toString());
+		this.generator.generate(milestonePaths, null);
+		assertThat(file23).hasContent(from("output-with-no-prs"));
+		assertThat(file24).hasContent(from("output-with-ignored-labels"));
+	}
+
+	@Test
+	void generateWhenMilestoneRangeMergesAndDeduplicatesIssues() throws Exception {
+		setupGenerator(MilestoneReference.TITLE);
+		Issue enhancement1 = newIssue("Enhancement 1", "2", "enhancement-1-url", Type.ENHANCEMENT);
+		List<Issue> issues23 = new ArrayList<>();
+		issues23.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		issues23.add(enhancement1);
+		List<Issue> issues24 = new ArrayList<>();
+		issues24.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		issues24.add(newIssue("Enhancement 2", "4", "enhancement-2-url", Type.ENHANCEMENT));
+		issues24.add(newPortedIssue("Enhancement 1", "5", "Forward port of issue #2", "enhancement-5-url",
+				Type.FORWARD_PORT));
+		issues24.add(newIssue("Bug 3", "3", "bug-3-url", Type.BUG));
+		given(this.service.getMilestones(REPO)).willReturn(
+				List.of(new Milestone(25, "v2.5"), new Milestone(24, "v2.4"), new Milestone(23, "v2.3")));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues23);
+		given(this.service.getIssuesForMilestone(24, REPO)).willReturn(issues24);
+		given(this.service.getIssue(2, REPO)).willReturn(enhancement1);
+		assertChangelog("v2.3..v2.4").hasContent(from("output-with-no-prs"));
+	}
+
+	@Test
+	void generateWhenMilestoneTitleContainsSeparatorUsesMilestoneWithThatTitle() throws Exception {
+		setupGenerator(MilestoneReference.TITLE);
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		issues.add(newIssue("Enhancement 1", "2", "enhancement-1-url", Type.ENHANCEMENT));
+		issues.add(newIssue("Enhancement 2", "4", "enhancement-2-url", Type.ENHANCEMENT));
+		issues.add(newIssue("Bug 3", "3", "bug-3-url", Type.BUG));
+		given(this.service.getMilestones(REPO)).willReturn(List.of(new Milestone(25, "v2.3,v2.4"),
+				new Milestone(24, "v2.4"), new Milestone(23, "v2.3")));
+		given(this.service.getIssuesForMilestone(25, REPO)).willReturn(issues);
+		assertChangelog("v2.3,v2.4").hasContent(from("output-with-no-prs"));
+		then(this.service).should(never()).getIssuesForMilestone(23, REPO);
+		then(this.service).should(never()).getIssuesForMilestone(24, REPO);
+	}
+
+	@Test
+	void generateWhenMilestoneListMergesIssues() throws Exception {
+		setupGenerator(MilestoneReference.ID);
+		List<Issue> issues23 = new ArrayList<>();
+		issues23.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		issues23.add(newIssue("Enhancement 1", "2", "enhancement-1-url", Type.ENHANCEMENT));
+		List<Issue> issues24 = new ArrayList<>();
+		issues24.add(newIssue("Enhancement 2", "4", "enhancement-2-url", Type.ENHANCEMENT));
+		issues24.add(newIssue("Bug 3", "3", "bug-3-url", Type.BUG));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues23);
+		given(this.service.getIssuesForMilestone(24, REPO)).willReturn(issues24);
+		assertChangelog("23,24").hasContent(from("output-with-no-prs"));
+	}
+
+	@Test
+	void generateWhenSkipUnchangedAndMilestoneUnchangedDoesNotRegenerate() throws Exception {
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null, null,
+				null, false, true, false, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		issues.add(newIssue("Enhancement 1", "2", "enhancement-1-url", Type.ENHANCEMENT));
+		issues.add(newIssue("Enhancement 2", "4", "enhancement-2-url", Type.ENHANCEMENT));
+		issues.add(newIssue("Bug 3", "3", "bug-3-url", Type.BUG));
+		given(this.service.getMilestone(23, REPO)).willReturn(new Milestone(23, "v2.3", "2026-01-01T00:00:00Z", 0, 4));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString());
+		this.generator.generate("23", file.toString());
+		assertThat(file).hasContent(from("output-with-no-prs"));
+		assertThat(this.tempDirectory.resolve("changelog.md.fingerprint")).exists();
+		then(this.service).should(times(1)).getIssuesForMilestone(23, REPO);
+	}
+
+	@Test
+	void generateWhenSkipUnchangedAndMilestoneChangedRegenerates() throws Exception {
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null, null,
+				null, false, true, false, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		given(this.service.getMilestone(23, REPO)).willReturn(new Milestone(23, "v2.3", "2026-01-01T00:00:00Z", 0, 1),
+				new Milestone(23, "v2.3", "2026-01-02T00:00:00Z", 0, 1));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString());
+		this.generator.generate("23", file.toString());
+		then(this.service).should(times(2)).getIssuesForMilestone(23, REPO);
+	}
+
+	@Test
+	void generateWhenSkipUnchangedAndExpressionEngineChangedRegenerates() throws Exception {
+		given(this.service.getMilestone(23, REPO)).willReturn(new Milestone(23, "v2.3", "2026-01-01T00:00:00Z", 0, 1));
+		given(this.service.getIssuesForMilestone(23, REPO))
+			.willReturn(List.of(newIssue("Bug 1", "1", "bug-1-url", Type.BUG)));
+		Path file = this.tempDirectory.resolve("changelog.md");
+		for (ExpressionEngine engine : List.of(ExpressionEngine.BACKTRACKING, ExpressionEngine.LINEAR)) {
+			Issues issues = new Issues(null, null, null, true, null, new Expressions(null, null, engine));
+			ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, issues,
+					null, null, false, true, false, null);
+			new ChangelogGenerator(this.service, properties).generate("23", file.toString());
+		}
+		then(this.service).should(times(2)).getIssuesForMilestone(23, REPO);
+	}
+
+	@Test
+	void generateWhenIncrementalReusesLinesOfIssuesThatHaveNotBeenUpdated() throws Exception {
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null, null,
+				null, false, false, true, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(
+				List.of(newUpdatedIssue("Bug 1", "1", "bug-1-url", Type.BUG, "2026-01-01T00:00:00Z"),
+						newUpdatedIssue("Enhancement 1", "2", "enhancement-1-url", Type.ENHANCEMENT,
+								"2026-01-01T00:00:00Z")),
+				List.of(newUpdatedIssue("Renamed bug 1", "1", "bug-1-url", Type.BUG, "2026-01-01T00:00:00Z"),
+						newUpdatedIssue("Renamed enhancement 1", "2", "enhancement-1-url", Type.ENHANCEMENT,
+								"2026-01-02T00:00:00Z")));
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString());
+		this.generator.generate("23", file.toString());
+		assertThat(file).content()
+			.contains("- Bug 1 [#1](bug-1-url)")
+			.contains("- Renamed enhancement 1 [#2](enhancement-1-url)")
+			.doesNotContain("Renamed bug 1");
+		assertThat(this.tempDirectory.resolve("changelog.md.manifest")).exists();
+	}
+
+	@Test
+	void generateWhenIncrementalAndPortedIssueHasBeenUpdatedSummarizesAgain() throws Exception {
+		PortedIssue forwardPort = new PortedIssue("status: forward-port", "Forward port of issue #(\\d+)");
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID,
+				noteworthySections(), new Issues(null, null, Set.of(forwardPort), true, null, null), null, null, false,
+				false, true, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		given(this.service.getIssuesForMilestone(23, REPO))
+			.willReturn(List.of(new Issue("2", "Forward port", null,
+					List.of(new Label("status: noteworthy"), new Label("status: forward-port")), "bug-2-url", null,
+					"Forward port of issue #1", AuthorAssociation.MEMBER, "2026-01-01T00:00:00Z")));
+		given(this.service.getIssue(1, REPO)).willReturn(
+				newNoteworthyIssue("1", "Noteworthy change: Original description", "2026-01-01T00:00:00Z"),
+				newNoteworthyIssue("1", "Noteworthy change: Updated description", "2026-01-02T00:00:00Z"));
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString());
+		assertThat(file).content().contains("- Original description [#2](bug-2-url)");
+		this.generator.generate("23", file.toString());
+		assertThat(file).content().contains("- Updated description [#2](bug-2-url)");
+	}
+
+	@Test
+	void generateWhenIncrementalAndSummaryIsFromCommentSummarizesAgain() throws Exception {
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID,
+				noteworthySections(), null, null, null, false, false, true, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		given(this.service.getIssuesForMilestone(23, REPO))
+			.willReturn(List.of(newNoteworthyIssue("1", null, "2026-01-01T00:00:00Z")));
+		given(this.service.getCommentsForIssue(issueNumbered("1"), eq(REPO)))
+			.willReturn(List.of(new Comment("Noteworthy change: Original description", AuthorAssociation.MEMBER)));
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString());
+		assertThat(file).content().contains("- Original description [#1](bug-1-url)");
+		given(this.service.getCommentsForIssue(issueNumbered("1"), eq(REPO)))
+			.willReturn(List.of(new Comment("Noteworthy change: Edited description", AuthorAssociation.MEMBER)));
+		this.generator.generate("23", file.toString());
+		assertThat(file).content().contains("- Edited description [#1](bug-1-url)");
+	}
+
+	@Test
+	void generateWhenHasFormatsWritesChangelogInEachFormat() throws Exception {
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null, null,
+				null, false, false, false, List.of(OutputFormat.ASCIIDOC, OutputFormat.HTML, OutputFormat.JSON));
+		this.generator = new ChangelogGenerator(this.service, properties);
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		issues.add(newIssue("Enhancement with *emphasis*", "2", "enhancement-1-url", Type.ENHANCEMENT));
+		issues.add(newIssue("Enhancement <b>2</b>", "4", "enhancement-2-url", Type.ENHANCEMENT));
+		issues.add(newIssue("Fix snake_case for #123 in `a_b`", "3", "bug-3-url", Type.BUG));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString());
+		assertThat(file).content().contains("- Bug 1 [#1](bug-1-url)");
+		assertThat(this.tempDirectory.resolve("changelog.adoc")).content()
+			.contains("== :lady_beetle: Bug Fixes")
+			.contains("* Bug 1 bug-1-url[#1]")
+			.contains("* Enhancement with pass:c[*emphasis*] enhancement-1-url[#2]")
+			.contains("* Fix pass:c[snake_case] for pass:c[#123] in `a_b` bug-3-url[#3]");
+		assertThat(this.tempDirectory.resolve("changelog.html")).content()
+			.contains("<li>Bug 1 <a href=\"bug-1-url\">#1</a></li>")
+			.contains("<li>Enhancement &lt;b&gt;2&lt;/b&gt; <a href=\"enhancement-2-url\">#4</a></li>");
+		assertThat(this.tempDirectory.resolve("changelog.json")).content()
+			.contains("\"summary\" : \"Bug 1\"")
+			.contains("\"url\" : \"bug-1-url\"");
+	}
+
+	@Test
+	void generateWhenPathHasExtensionOfFormatThrowsException() {
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null, null,
+				null, false, false, false, List.of(OutputFormat.ASCIIDOC));
+		this.generator = new ChangelogGenerator(this.service, properties);
+		given(this.service.getIssuesForMilestone(23, REPO))
+			.willReturn(List.of(newIssue("Bug 1", "1", "bug-1-url", Type.BUG)));
+		Path file = this.tempDirectory.resolve("changelog.adoc");
+		assertThatIllegalArgumentException().isThrownBy(() -> this.generator.generate("23", file.toString()))
+			.withMessageContaining("'.adoc' extension");
+		assertThat(file).doesNotExist();
+	}
+
+	@Test
+	void generateWithReportRecordsPhasesAndIssueCosts() throws Exception {
+		List<Issue> issues = new ArrayList<>();
+		issues.add(newIssue("Bug 1", "1", "bug-1-url", Type.BUG));
+		issues.add(newIssue("Enhancement 1", "2", "enhancement-1-url", Type.ENHANCEMENT));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		GenerationReport report = new GenerationReport(new RequestStatistics());
+		Path file = this.tempDirectory.resolve("changelog.md");
+		this.generator.generate("23", file.toString(), report);
+		assertThat(report.getPhases()).containsOnlyKeys("resolve-milestone", "fetch-issues", "collate",
+				"fetch-comments", "render-sections", "contributors", "write");
+		assertThat(report.getSlowestIssues()).extracting(IssueCost::getNumber).containsExactlyInAnyOrder("1", "2");
+		Path reportFile = this.tempDirectory.resolve("report.json");
+		report.writeTo(reportFile.toFile());
+		assertThat(reportFile).content().contains("\"phases\"", "\"slowestIssues\"");
+	}
+
 	private void setupGenerator(MilestoneReference id) {
 		Set<String> labels = new HashSet<>(Arrays.asList("duplicate", "wontfix"));
 		PortedIssue forwardPort = new PortedIssue("status: forward-port", "Forward port of issue #(\\d+)");
 		PortedIssue cherryPick = new PortedIssue("status: back-port", "Back port of issue #(\\d+)");
 		Set<PortedIssue> portedIssues = new HashSet<>(Arrays.asList(forwardPort, cherryPick));
 		ApplicationProperties properties = new ApplicationProperties(REPO, id, null,
-				new Issues(null, new IssuesExclude(labels), portedIssues, true), null, null, false);
+				new Issues(null, new IssuesExclude(labels), portedIssues, true, null, null), null, null, false, false,
+				false, null);
 		this.generator = new ChangelogGenerator(this.service, properties);
 	}
 
@@ -537,6 +1048,17 @@ class ChangelogGeneratorTests {
 		return FileCopyUtils.copyToString(new InputStreamReader(getClass().getResourceAsStream(path)));
 	}
 
+	private Issue issueNumbered(String number) {
+		return argThat((issue) -> issue != null && number.equals(issue.getNumber()));
+	}
+
+	private Issue newCommentedIssue(String title, String number, int commentCount) {
+		List<Label> labels = new ArrayList<>(Type.BUG.getLabels());
+		labels.add(new Label("status: noteworthy"));
+		return new Issue(number, title, null, labels, "bug-" + number + "-url", null, null, AuthorAssociation.NONE,
+				null, "closed", null, commentCount);
+	}
+
 	private Issue newIssue(String title, String number, String url, Type type) {
 		return new Issue(number, title, null, type.getLabels(), url, null, null, AuthorAssociation.NONE);
 	}
@@ -545,6 +1067,10 @@ class ChangelogGeneratorTests {
 		return new Issue(number, title, null, type.getLabels(), url, null, body, AuthorAssociation.NONE);
 	}
 
+	private Issue newUpdatedIssue(String title, String number, String url, Type type, String updatedAt) {
+		return new Issue(number, title, null, type.getLabels(), url, null, null, AuthorAssociation.NONE, updatedAt);
+	}
+
 	private Issue newIssue(String title, String number, String url, Type type, String... extraLabels) {
 		List<Label> labels = new ArrayList<>(type.getLabels());
 		Arrays.stream(extraLabels).map(Label::new).forEach(labels::add);
@@ -558,6 +1084,16 @@ class ChangelogGeneratorTests {
 		return new Issue(number, title, null, labels, url, null, body, authorAssociation);
 	}
 
+	private List<Section> noteworthySections() {
+		return List.of(new Section("Noteworthy Changes", null, IssueSort.CREATED, Set.of("status: noteworthy"),
+				IssueType.ANY, new Summary(SummaryMode.MEMBER_COMMENT, Map.of("prefix", "Noteworthy change: "))));
+	}
+
+	private Issue newNoteworthyIssue(String number, String body, String updatedAt) {
+		return new Issue(number, "Issue " + number, null, List.of(new Label("status: noteworthy")),
+				"bug-" + number + "-url", null, body, AuthorAssociation.MEMBER, updatedAt);
+	}
+
 	private Issue newPortedIssue(String title, String number, String body, String url, Type portType) {
 		List<Label> labels = new ArrayList<>(portType.getLabels());
 		return new Issue(number, title, null, labels, url, null, body, AuthorAssociation.NONE);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2024 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,7 +60,7 @@ class ChangelogSectionsTests {
 		Issue documentation = createIssue("3", "documentation");
 		Issue dependencyUpgrade = createIssue("4", "dependency-upgrade");
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.TITLE, null, null, null,
-				null, false);
+				null, false, false, false, null);
 		ChangelogSections sections = new ChangelogSections(properties, this.github, this.issueChain);
 		Map<ChangelogSection, List<Issue>> collated = sections
 			.collate(Arrays.asList(enhancement, bug, documentation, dependencyUpgrade));
@@ -83,7 +83,7 @@ class ChangelogSectionsTests {
 				new Summary(SummaryMode.TITLE, Collections.emptyMap()));
 		List<ApplicationProperties.Section> customSections = Arrays.asList(breaksPassivitySection, bugsSection);
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.TITLE, customSections,
-				null, null, null, false);
+				null, null, null, false, false, false, null);
 		ChangelogSections sections = new ChangelogSections(properties, this.github, this.issueChain);
 		Issue bug = createIssue("1", "bug");
 		Issue nonPassive = createIssue("1", "breaks-passivity");
@@ -99,7 +99,7 @@ class ChangelogSectionsTests {
 				new Summary(SummaryMode.TITLE, Collections.emptyMap()));
 		List<ApplicationProperties.Section> customSections = List.of(breaksPassivitySection);
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.TITLE, customSections,
-				null, null, null, true);
+				null, null, null, true, false, false, null);
 		ChangelogSections sections = new ChangelogSections(properties, this.github, this.issueChain);
 		Issue bug = createIssue("1", "bug");
 		Issue nonPassive = createIssue("1", "breaks-passivity");
@@ -112,7 +112,7 @@ class ChangelogSectionsTests {
 	void collateWhenNoIssuesInSectionExcludesSection() {
 		Issue bug = createIssue("1", "bug");
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.TITLE, null, null, null,
-				null, false);
+				null, false, false, false, null);
 		ChangelogSections sections = new ChangelogSections(properties, this.github, this.issueChain);
 		Map<ChangelogSection, List<Issue>> collated = sections.collate(Collections.singletonList(bug));
 		Map<String, List<Issue>> bySection = getBySection(collated);
@@ -124,7 +124,7 @@ class ChangelogSectionsTests {
 		Issue bug = createIssue("1", "bug");
 		Issue nonPassive = createIssue("2", "non-passive");
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.TITLE, null, null, null,
-				null, false);
+				null, false, false, false, null);
 		ChangelogSections sections = new ChangelogSections(properties, this.github, this.issueChain);
 		Map<ChangelogSection, List<Issue>> collated = sections.collate(Arrays.asList(bug, nonPassive));
 		Map<String, List<Issue>> bySection = getBySection(collated);
@@ -144,7 +144,7 @@ class ChangelogSectionsTests {
 				new Summary(SummaryMode.TITLE, Collections.emptyMap()));
 		List<ApplicationProperties.Section> customSections = Arrays.asList(bugs, highlights);
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.TITLE, customSections,
-				null, null, null, false);
+				null, null, null, false, false, false, null);
 		ChangelogSections sections = new ChangelogSections(properties, this.github, this.issueChain);
 		Map<ChangelogSection, List<Issue>> collated = sections.collate(Arrays.asList(bug, highlight, bugAndHighlight));
 		Map<String, List<Issue>> bySection = getBySection(collated);
@@ -165,7 +165,7 @@ class ChangelogSectionsTests {
 				new Summary(SummaryMode.TITLE, Collections.emptyMap()));
 		List<ApplicationProperties.Section> customSections = Arrays.asList(bugs, highlights);
 		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.TITLE, customSections,
-				null, null, null, false);
+				null, null, null, false, false, false, null);
 		ChangelogSections sections = new ChangelogSections(properties, this.github, this.issueChain);
 		Map<ChangelogSection, List<Issue>> collated = sections.collate(Arrays.asList(bug, highlight, bugAndHighlight));
 		Map<String, List<Issue>> bySection = getBySection(collated);
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CommentFetchPlanner}.
+ *
+ * @author agent
+ */
+class CommentFetchPlannerTests {
+
+	@Test
+	void planSkipsIssuesWithoutComments() {
+		List<Issue> planned = CommentFetchPlanner.plan(List.of(issue("1", 0), issue("2", 1)));
+		assertThat(planned).extracting(Issue::getNumber).containsExactly("2");
+	}
+
+	@Test
+	void planOrdersIssuesByExpectedCost() {
+		List<Issue> planned = CommentFetchPlanner
+			.plan(List.of(issue("1", 2), issue("2", 45), issue("3", null), issue("4", 12), issue("5", 61)));
+		assertThat(planned).extracting(Issue::getNumber).containsExactly("5", "2", "4", "1", "3");
+	}
+
+	@Test
+	void getExpectedCostReturnsNumberOfPages() {
+		assertThat(CommentFetchPlanner.getExpectedCost(issue("1", 30))).isOne();
+		assertThat(CommentFetchPlanner.getExpectedCost(issue("1", 31))).isEqualTo(2);
+		assertThat(CommentFetchPlanner.getExpectedCost(issue("1", null))).isOne();
+	}
+
+	private Issue issue(String number, Integer commentCount) {
+		return new Issue(number, "Issue " + number, null, List.of(), null, null, null, null, null, "closed", null,
+				commentCount);
+	}
+
+}
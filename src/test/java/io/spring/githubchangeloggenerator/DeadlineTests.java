@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link Deadline}.
+ *
+ * @author agent
+ */
+class DeadlineTests {
+
+	@Test
+	void callWhenNoDeadlineReturnsResult() {
+		assertThat(Deadline.NONE.hasPassed()).isFalse();
+		assertThat(Deadline.NONE.<String>call(() -> "result")).isEqualTo("result");
+	}
+
+	@Test
+	void callWhenWorkCompletesBeforeDeadlineReturnsResult() {
+		assertThat(Deadline.after(Duration.ofMinutes(1)).<String>call(() -> "result")).isEqualTo("result");
+	}
+
+	@Test
+	void callWhenDeadlineHasPassedThrowsException() {
+		Deadline deadline = Deadline.after(Duration.ZERO);
+		assertThat(deadline.hasPassed()).isTrue();
+		assertThatExceptionOfType(Deadline.ExceededException.class).isThrownBy(() -> deadline.call(() -> "result"));
+	}
+
+	@Test
+	void callWhenDeadlinePassesBeforeWorkCompletesThrowsException() {
+		CountDownLatch latch = new CountDownLatch(1);
+		Deadline deadline = Deadline.after(Duration.ofMillis(50));
+		assertThatExceptionOfType(Deadline.ExceededException.class).isThrownBy(() -> deadline.call(() -> {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return "result";
+		}));
+	}
+
+	@Test
+	void callWhenWorkFailsRethrowsException() {
+		Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+		assertThatIllegalStateException().isThrownBy(() -> deadline.call(() -> {
+			throw new IllegalStateException("Failed");
+		})).withMessage("Failed");
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LinearPattern}.
+ *
+ * @author agent
+ */
+class LinearPatternTests {
+
+	private static final String[] ATOMS = { "a", "b", "c", ".", "\\d", "\\w", "\\s", "[ab]", "[^a]", "[a-c]", "\\.",
+			"x" };
+
+	private static final String[] QUANTIFIERS = { "*", "+", "?", "*?", "+?", "??", "{2}", "{1,3}", "{0,2}?",
+			"{2,}" };
+
+	private static final String CHARACTERS = "abc1 .x\n";
+
+	@Test
+	void matchCapturesSameGroupAsPattern() {
+		Random random = new Random(0);
+		int compiled = 0;
+		for (int run = 0; run < 5000; run++) {
+			Pattern pattern = Pattern.compile(randomExpression(random));
+			LinearPattern linearPattern = LinearPattern.compile(pattern);
+			if (linearPattern != null) {
+				compiled++;
+				for (int i = 0; i < 20; i++) {
+					String input = randomInput(random);
+					Matcher matcher = pattern.matcher(input);
+					String expected = (matcher.matches()) ? matcher.group(1) : null;
+					assertThat(linearPattern.match(input, () -> {
+					})).as("%s matched against '%s'", pattern, input).isEqualTo(expected);
+				}
+			}
+		}
+		assertThat(compiled).isGreaterThan(1000);
+	}
+
+	@Test
+	void compileWhenExpressionIsNotSupportedReturnsNull() {
+		assertThat(LinearPattern.compile(Pattern.compile("(?i)(a)"))).isNull();
+		assertThat(LinearPattern.compile(Pattern.compile("^(a)$"))).isNull();
+		assertThat(LinearPattern.compile(Pattern.compile("(a)*+"))).isNull();
+		assertThat(LinearPattern.compile(Pattern.compile("(?:(a)b)+"))).isNull();
+	}
+
+	private String randomExpression(Random random) {
+		if (random.nextBoolean()) {
+			return randomExpression(random, 0) + "|(" + randomExpression(random, 0) + ")";
+		}
+		return "(?:" + randomExpression(random, 0) + ")?(" + randomExpression(random, 0) + ")"
+				+ randomExpression(random, 1);
+	}
+
+	private String randomExpression(Random random, int depth) {
+		if (depth > 3) {
+			return ATOMS[random.nextInt(ATOMS.length)];
+		}
+		return switch (random.nextInt(7)) {
+			case 0 -> randomExpression(random, depth + 1) + randomExpression(random, depth + 1);
+			case 1 -> "(?:" + randomExpression(random, depth + 1) + "|" + randomExpression(random, depth + 1) + ")";
+			case 2 -> "(?:" + randomExpression(random, depth + 1) + ")"
+					+ QUANTIFIERS[random.nextInt(QUANTIFIERS.length)];
+			case 3 -> "(" + randomExpression(random, depth + 1) + ")";
+			default -> ATOMS[random.nextInt(ATOMS.length)];
+		};
+	}
+
+	private String randomInput(Random random) {
+		StringBuilder input = new StringBuilder();
+		int length = random.nextInt(8);
+		for (int i = 0; i < length; i++) {
+			input.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+		}
+		return input.toString();
+	}
+
+}
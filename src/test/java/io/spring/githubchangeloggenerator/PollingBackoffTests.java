@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link PollingBackoff}.
+ *
+ * @author agent
+ */
+class PollingBackoffTests {
+
+	private final PollingBackoff backoff = new PollingBackoff(Duration.ofSeconds(10));
+
+	@Test
+	void nextWhenModifiedReturnsInterval() {
+		assertThat(this.backoff.next(true)).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void nextWhenNotModifiedDoublesUpToMaximum() {
+		assertThat(this.backoff.next(false)).isEqualTo(Duration.ofSeconds(20));
+		assertThat(this.backoff.next(false)).isEqualTo(Duration.ofSeconds(40));
+		assertThat(this.backoff.next(false)).isEqualTo(Duration.ofSeconds(80));
+		assertThat(this.backoff.next(false)).isEqualTo(Duration.ofSeconds(80));
+	}
+
+	@Test
+	void nextWhenModifiedAfterBackingOffResetsToInterval() {
+		this.backoff.next(false);
+		this.backoff.next(false);
+		assertThat(this.backoff.next(true)).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void createWhenIntervalIsNotPositiveThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new PollingBackoff(Duration.ZERO))
+			.withMessage("Interval must be positive");
+	}
+
+}
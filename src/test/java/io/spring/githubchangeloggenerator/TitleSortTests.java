@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TitleSort}.
+ *
+ * @author agent
+ */
+class TitleSortTests {
+
+	private static final String CHARACTERS = "aAbBzZ09 _-\u00df\u00ff\u0178\u00b5\u039c\u03bc\u03c3\u03c2\u03a3"
+			+ "\u0130\u0131iI\ud83d\ude00\ud801\udc00\ud801\udc28";
+
+	@Test
+	void sortOrdersIssuesAsCaseInsensitiveOrderOrdersTitles() {
+		Random random = new Random(0);
+		for (int run = 0; run < 100; run++) {
+			List<Issue> issues = new ArrayList<>();
+			for (int i = 0; i < 50; i++) {
+				issues.add(issue(randomTitle(random), i));
+			}
+			List<Issue> expected = new ArrayList<>(issues);
+			expected.sort((issue1, issue2) -> String.CASE_INSENSITIVE_ORDER.compare(issue1.getTitle(),
+					issue2.getTitle()));
+			TitleSort.sort(issues);
+			assertThat(issues).containsExactlyElementsOf(expected);
+		}
+	}
+
+	@Test
+	void foldWhenTitleHasSurrogatePairReturnsNull() {
+		assertThat(TitleSort.fold("Smile \ud83d\ude00")).isNull();
+	}
+
+	@Test
+	void foldFoldsCase() {
+		assertThat(TitleSort.fold("Fix BUG")).isEqualTo(TitleSort.fold("fix bug"));
+	}
+
+	private String randomTitle(Random random) {
+		StringBuilder title = new StringBuilder();
+		int length = random.nextInt(6);
+		for (int i = 0; i < length; i++) {
+			int index = random.nextInt(CHARACTERS.length());
+			char c = CHARACTERS.charAt(index);
+			if (Character.isHighSurrogate(c) && index + 1 < CHARACTERS.length()) {
+				title.append(c).append(CHARACTERS.charAt(index + 1));
+			}
+			else if (!Character.isLowSurrogate(c)) {
+				title.append(c);
+			}
+		}
+		return title.toString();
+	}
+
+	private Issue issue(String title, int number) {
+		return new Issue(String.valueOf(number), title, null, List.of(), null, null, null, null);
+	}
+
+}
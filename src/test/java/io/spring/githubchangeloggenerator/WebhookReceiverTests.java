@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import io.spring.githubchangeloggenerator.WebhookReceiver.Result;
+import io.spring.githubchangeloggenerator.github.payload.Comment;
+import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociation;
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.service.GitHubService;
+import io.spring.githubchangeloggenerator.github.service.Repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link WebhookReceiver}.
+ *
+ * @author agent
+ */
+class WebhookReceiverTests {
+
+	private static final Repository REPO = Repository.of("org/name");
+
+	private static final String SECRET = "secret";
+
+	@TempDir
+	Path tempDirectory;
+
+	private GitHubService service;
+
+	private ChangelogGenerator generator;
+
+	private Path changelog;
+
+	private WebhookReceiver receiver;
+
+	@BeforeEach
+	void setup() throws Exception {
+		this.service = mock(GitHubService.class);
+		ApplicationProperties properties = new ApplicationProperties(REPO, MilestoneReference.ID, null, null, null,
+				null, false, false, false, null);
+		this.generator = new ChangelogGenerator(this.service, properties);
+		List<Issue> issues = new ArrayList<>();
+		issues.add(new Issue("1", "Bug 1", null, List.of(new Label("type: bug")), "bug-1-url", null, null,
+				AuthorAssociation.NONE));
+		given(this.service.getIssuesForMilestone(23, REPO)).willReturn(issues);
+		this.changelog = this.tempDirectory.resolve("changelog.md");
+		this.receiver = new WebhookReceiver(this.generator, this.service, "23", this.changelog.toString(), SECRET);
+		this.receiver.initialize();
+	}
+
+	@Test
+	void initializeRendersChangelog() {
+		assertThat(this.changelog).content().contains("- Bug 1 [#1](bug-1-url)");
+	}
+
+	@Test
+	void handleWhenIssueClosedInMilestoneAddsIssueToChangelog() throws Exception {
+		assertThat(handle("issues", "issues-closed.json")).isEqualTo(Result.RENDERED);
+		assertThat(this.changelog).content()
+			.contains("- Enhancement 5 [#5](https://github.com/org/name/issues/5)")
+			.contains("- Bug 1 [#1](bug-1-url)");
+		then(this.service).should().updateIssue(any(Issue.class), eq(REPO));
+	}
+
+	@Test
+	void handleWhenIssueReopenedRemovesIssueFromChangelog() throws Exception {
+		assertThat(handle("issues", "issues-reopened.json")).isEqualTo(Result.RENDERED);
+		assertThat(this.changelog).content().doesNotContain("Bug 1");
+	}
+
+	@Test
+	void handleWhenCommentCreatedUpdatesCachedComments() throws Exception {
+		given(this.service.updateComments(any(Issue.class), eq(REPO), any())).willReturn(true);
+		assertThat(handle("issue_comment", "issue-comment-created.json")).isEqualTo(Result.RENDERED);
+		then(this.service).should().updateComments(any(Issue.class), eq(REPO), any());
+	}
+
+	@Test
+	void handleWhenCommentEditedReplacesCachedCommentInPlace() throws Exception {
+		List<Comment> comments = List.of(new Comment(1001, "First", AuthorAssociation.NONE),
+				new Comment(1002, "Second", AuthorAssociation.NONE),
+				new Comment(1003, "Third", AuthorAssociation.NONE));
+		List<Comment> updated = new ArrayList<>();
+		given(this.service.updateComments(any(Issue.class), eq(REPO), any())).willAnswer((invocation) -> {
+			UnaryOperator<List<Comment>> update = invocation.getArgument(2);
+			updated.addAll(update.apply(comments));
+			return true;
+		});
+		assertThat(handle("issue_comment", "issue-comment-edited.json")).isEqualTo(Result.RENDERED);
+		assertThat(updated).extracting(Comment::getId).containsExactly(1001L, 1002L, 1003L);
+		assertThat(updated).extracting(Comment::getBody)
+			.containsExactly("First", "Thanks for the fix, edited", "Third");
+	}
+
+	@Test
+	void handleWhenEventIsNotSupportedIgnoresEvent() throws Exception {
+		assertThat(handle("milestone", "issues-closed.json")).isEqualTo(Result.IGNORED);
+		assertThat(this.changelog).content().doesNotContain("Enhancement 5");
+	}
+
+	@Test
+	void handleWhenSignatureIsInvalidReturnsUnauthorized() throws Exception {
+		byte[] payload = read("issues-closed.json");
+		assertThat(this.receiver.handle("issues", "sha256=0000", payload)).isEqualTo(Result.UNAUTHORIZED);
+		assertThat(this.changelog).content().doesNotContain("Enhancement 5");
+	}
+
+	@Test
+	void handleWhenPayloadIsInvalidReturnsInvalid() throws Exception {
+		byte[] payload = "{".getBytes(StandardCharsets.UTF_8);
+		assertThat(this.receiver.handle("issues", sign(payload), payload)).isEqualTo(Result.INVALID);
+	}
+
+	@Test
+	void startWhenSecretIsNotConfiguredReceivesEventsOnLoopbackOnly() throws Exception {
+		WebhookReceiver receiver = new WebhookReceiver(this.generator, this.service, "23", this.changelog.toString(),
+				null);
+		HttpServer server = receiver.start(0);
+		try {
+			assertThat(server.getAddress().getAddress().isLoopbackAddress()).isTrue();
+		}
+		finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void receiveWhenChangelogCannotBeRenderedRespondsWithServerError() throws Exception {
+		Files.delete(this.changelog);
+		Files.createDirectory(this.changelog);
+		byte[] payload = read("issues-closed.json");
+		HttpServer server = this.receiver.start(0);
+		try {
+			HttpRequest request = HttpRequest
+				.newBuilder(URI.create("http://localhost:" + server.getAddress().getPort() + "/"))
+				.header(WebhookReceiver.EVENT_HEADER, "issues")
+				.header(WebhookReceiver.SIGNATURE_HEADER, sign(payload))
+				.POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+				.build();
+			HttpResponse<String> response = HttpClient.newHttpClient()
+				.send(request, HttpResponse.BodyHandlers.ofString());
+			assertThat(response.statusCode()).isEqualTo(500);
+			assertThat(response.body()).isEqualTo("FAILED");
+		}
+		finally {
+			server.stop(0);
+		}
+	}
+
+	private Result handle(String event, String fixture) throws Exception {
+		byte[] payload = read(fixture);
+		return this.receiver.handle(event, sign(payload), payload);
+	}
+
+	private byte[] read(String fixture) throws Exception {
+		return new ClassPathResource("webhook/" + fixture, getClass()).getContentAsByteArray();
+	}
+
+	private String sign(byte[] payload) throws Exception {
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		return "sha256=" + HexFormat.of().formatHex(mac.doFinal(payload));
+	}
+
+}
@@ -39,6 +39,7 @@ class IssueJsonTests {
 	void issueDeserialization() throws Exception {
 		Issue issue = this.json.read("issue.json").getObject();
 		assertThat(issue.getNumber()).isEqualTo("12730");
+		assertThat(issue.getNumberValue()).isEqualTo(12730);
 		assertThat(issue.getLabels()).flatExtracting(Label::getName).containsExactly("type: regression");
 	}
 
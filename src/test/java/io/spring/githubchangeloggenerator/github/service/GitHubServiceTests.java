@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,10 @@
 
 package io.spring.githubchangeloggenerator.github.service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,16 +31,22 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.test.web.client.ResponseActions;
 import org.springframework.test.web.client.response.DefaultResponseCreator;
+import org.springframework.web.client.HttpServerErrorException;
 
 import io.spring.githubchangeloggenerator.github.payload.Comment;
+import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociation;
 import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.payload.Milestone;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
@@ -70,6 +79,16 @@ class GitHubServiceTests {
 		assertThat(number).isEqualTo(125);
 	}
 
+	@Test
+	void getMilestonesBindsUpdateTimeAndIssueCounts() {
+		expectGet(MILESTONES_URL).andRespond(withJsonFrom("milestones.json"));
+		Milestone milestone = this.service.getMilestones(Repository.of("org/repo")).get(0);
+		assertThat(milestone.getNumber()).isEqualTo(94);
+		assertThat(milestone.getUpdatedAt()).isEqualTo("2018-11-04T06:51:35Z");
+		assertThat(milestone.getOpenIssues()).isEqualTo(74);
+		assertThat(milestone.getClosedIssues()).isZero();
+	}
+
 	@Test
 	void getMilestoneNumberWhenNotFoundThrowsException() {
 		expectGet(MILESTONES_URL).andRespond(withJsonFrom("milestones.json"));
@@ -80,17 +99,76 @@ class GitHubServiceTests {
 	@Test
 	void getIssue() {
 		expectGet(ISSUE_URL + "/12730").andRespond(withJsonFrom("issue.json"));
-		Issue issue = this.service.getIssue("12730", Repository.of("org/repo"));
+		Issue issue = this.service.getIssue(12730, Repository.of("org/repo"));
 		assertThat(issue.getNumber()).isEqualTo("12730");
+		assertThat(issue.getUpdatedAt()).isEqualTo("2018-04-03T08:07:53Z");
+		assertThat(issue.getCommentCount()).isZero();
 	}
 
 	@Test
 	void getIssueWhenIssueDoesNotExist() {
-		expectGet(ISSUE_URL + "/12730").andRespond(withStatus(HttpStatus.NOT_FOUND));
-		Issue issue = this.service.getIssue("12730", Repository.of("org/repo"));
+		expectGet(ISSUE_URL + "/12731").andRespond(withStatus(HttpStatus.NOT_FOUND));
+		Issue issue = this.service.getIssue(12731, Repository.of("org/repo"));
 		assertThat(issue).isNull();
 	}
 
+	@Test
+	void getIssueWhenIssueDoesNotExistDoesNotRequestItAgain() {
+		expectGet(ISSUE_URL + "/12734").andRespond(withStatus(HttpStatus.NOT_FOUND));
+		assertThat(this.service.getIssue(12734, Repository.of("org/repo"))).isNull();
+		assertThat(this.service.getIssue(12734, Repository.of("org/repo"))).isNull();
+		this.server.verify();
+		assertThat(this.service.getStatistics().getCacheHits()).containsKey("missing-issues");
+	}
+
+	@Test
+	void getIssueWhenNumberIsNotValidReturnsNullWithoutRequest() {
+		Repository repository = Repository.of("org/repo");
+		assertThat(this.service.getIssue(0, repository)).isNull();
+		assertThat(this.service.getIssue(-1, repository)).isNull();
+		assertThat(this.service.getIssues(List.of(-1, 0), repository)).isEmpty();
+		this.server.verify();
+	}
+
+	@Test
+	void getIssuesFetchesIssuesUsingSingleQuery() {
+		this.server.expect(requestTo("/graphql"))
+			.andExpect(method(HttpMethod.POST))
+			.andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer the-bearer-token"))
+			.andRespond(withJsonFrom("issues-query.json"));
+		Repository repository = Repository.of("org/repo");
+		Map<Integer, Issue> issues = this.service.getIssues(List.of(12735, 12736, 12737), repository);
+		assertThat(issues).containsOnlyKeys(12735, 12736);
+		Issue issue = issues.get(12735);
+		assertThat(issue.getTitle()).isEqualTo("Forward port of issue #12736");
+		assertThat(issue.getState()).isEqualTo("closed");
+		assertThat(issue.getUser().getName()).isEqualTo("contributor1");
+		assertThat(issue.getLabels()).extracting(Label::getName).containsExactly("status: forward-port");
+		assertThat(issue.getAuthorAssociation()).isEqualTo(AuthorAssociation.MEMBER);
+		assertThat(issue.getCommentCount()).isEqualTo(2);
+		assertThat(issue.getPullRequest()).isNull();
+		assertThat(issues.get(12736).getPullRequest()).isNotNull();
+		assertThat(this.service.getIssue(12735, repository)).isSameAs(issue);
+		assertThat(this.service.getIssue(12737, repository)).isNull();
+		this.server.verify();
+	}
+
+	@Test
+	void getIssuesWithBodiesWhenCachedIssueHasBeenUpdatedFetchesIssueAgain() {
+		this.server.expect(ExpectedCount.twice(), requestTo("/graphql"))
+			.andExpect(method(HttpMethod.POST))
+			.andRespond(withJsonFrom("issues-query.json"));
+		Repository repository = Repository.of("org/repo");
+		Issue cached = this.service.getIssues(List.of(12735), repository).get(12735);
+		Issue unchanged = new Issue("12735", "Forward port of issue #12736", null, List.of(), null, null, null,
+				AuthorAssociation.MEMBER, "2026-01-01T00:00:00Z");
+		assertThat(this.service.getIssuesWithBodies(List.of(unchanged), repository).get(12735)).isSameAs(cached);
+		Issue updated = new Issue("12735", "Forward port of issue #12736", null, List.of(), null, null, null,
+				AuthorAssociation.MEMBER, "2026-02-01T00:00:00Z");
+		assertThat(this.service.getIssuesWithBodies(List.of(updated), repository).get(12735)).isNotSameAs(cached);
+		this.server.verify();
+	}
+
 	@Test
 	void getIssuesWhenNoIssues() {
 		expectGet(ISSUES_URL + "23&state=closed").andRespond(withJsonOf("[]"));
@@ -116,6 +194,29 @@ class GitHubServiceTests {
 		assertThat(issues.size()).isEqualTo(60);
 	}
 
+	@Test
+	void getIssuesWhenMultiplePagesOfIssuesPresentPassesEachPageToConsumer() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("Link", "</page-two%3D>; rel=\"next\"");
+		expectGet(ISSUES_URL + "23&state=closed")
+			.andRespond(withJsonFrom("closed-issues-for-milestone-page-1.json").headers(headers));
+		expectGet("/page-two%3D").andRespond(withJsonFrom("closed-issues-for-milestone-page-2.json"));
+		List<Integer> pageSizes = new ArrayList<>();
+		this.service.getIssuesForMilestone(23, Repository.of("org/repo"), (page) -> pageSizes.add(page.size()));
+		assertThat(pageSizes).containsExactly(30, 30);
+	}
+
+	@Test
+	void getIssuesForMilestoneSharesLabelsAndUsersBetweenIssues() {
+		expectGet(ISSUES_URL + "23&state=closed")
+			.andRespond(withJsonOf("[{\"number\": 1, \"user\": {\"login\": \"user\"}, "
+					+ "\"labels\": [{\"name\": \"bug\"}]}, {\"number\": 2, \"user\": {\"login\": \"user\"}, "
+					+ "\"labels\": [{\"name\": \"bug\"}]}]"));
+		List<Issue> issues = this.service.getIssuesForMilestone(23, Repository.of("org/repo"));
+		assertThat(issues.get(1).getUser()).isSameAs(issues.get(0).getUser());
+		assertThat(issues.get(1).getLabels().get(0)).isSameAs(issues.get(0).getLabels().get(0));
+	}
+
 	@Test
 	void getCommentsWhenNoComments() {
 		expectGet(ISSUE_URL + "/23/comments").andRespond(withJsonOf("[]"));
@@ -125,8 +226,8 @@ class GitHubServiceTests {
 
 	@Test
 	void getCommentsWhenSinglePageOfCommentsPresent() {
-		expectGet(ISSUE_URL + "/23/comments").andRespond(withJsonFrom("comments-for-issue-page-1.json"));
-		List<Comment> comments = this.service.getCommentsForIssue(23, Repository.of("org/repo"));
+		expectGet(ISSUE_URL + "/24/comments").andRespond(withJsonFrom("comments-for-issue-page-1.json"));
+		List<Comment> comments = this.service.getCommentsForIssue(24, Repository.of("org/repo"));
 		assertThat(comments.size()).isEqualTo(30);
 	}
 
@@ -134,13 +235,223 @@ class GitHubServiceTests {
 	void getCommentsWhenMultiplePagesOfCommentsPresent() {
 		HttpHeaders headers = new HttpHeaders();
 		headers.set("Link", "</page-two%3D>; rel=\"next\"");
-		expectGet(ISSUE_URL + "/23/comments")
+		expectGet(ISSUE_URL + "/25/comments")
 			.andRespond(withJsonFrom("comments-for-issue-page-1.json").headers(headers));
 		expectGet("/page-two%3D").andRespond(withJsonFrom("comments-for-issue-page-2.json"));
-		List<Comment> comments = this.service.getCommentsForIssue(23, Repository.of("org/repo"));
+		List<Comment> comments = this.service.getCommentsForIssue(25, Repository.of("org/repo"));
 		assertThat(comments.size()).isEqualTo(60);
 	}
 
+	@Test
+	void getMilestoneNumbersResolvesAllTitlesFromSingleWalk() {
+		expectGet(MILESTONES_URL).andRespond(withJsonFrom("milestones.json"));
+		Map<String, Integer> numbers = this.service.getMilestoneNumbers(List.of("2.1.1", "2.1.1"),
+				Repository.of("org/repo"));
+		assertThat(numbers).containsEntry("2.1.1", 125);
+		this.server.verify();
+	}
+
+	@Test
+	void getIssueWhenAlreadyFetchedUsesCache() {
+		expectGet(ISSUE_URL + "/12732").andRespond(withJsonFrom("issue.json"));
+		Issue first = this.service.getIssue(12732, Repository.of("org/repo"));
+		Issue second = this.service.getIssue(12732, Repository.of("org/repo"));
+		assertThat(second).isSameAs(first);
+		this.server.verify();
+		assertThat(this.service.getStatistics().getCacheHits()).containsKey("issues");
+	}
+
+	@Test
+	void getCommentsWhenAlreadyFetchedUsesCache() {
+		expectGet(ISSUE_URL + "/26/comments").andRespond(withJsonFrom("comments-for-issue-page-1.json"));
+		List<Comment> first = this.service.getCommentsForIssue(26, Repository.of("org/repo"));
+		List<Comment> second = this.service.getCommentsForIssue(26, Repository.of("org/repo"));
+		assertThat(second).isSameAs(first);
+		this.server.verify();
+		assertThat(this.service.getStatistics().getCacheHits()).containsKey("comments");
+	}
+
+	@Test
+	void getCommentsForIssueWhenIssueHasNoCommentsDoesNotMakeRequest() {
+		List<Comment> comments = this.service.getCommentsForIssue(commentedIssue("27", "2026-01-01T00:00:00Z", 0),
+				Repository.of("org/repo"));
+		assertThat(comments).isEmpty();
+		this.server.verify();
+	}
+
+	@Test
+	void getCommentsForIssueWhenIssueHasBeenUpdatedFetchesCommentsAgain() {
+		expectGet(ISSUE_URL + "/28/comments").andRespond(withJsonFrom("comments-for-issue-page-1.json"));
+		expectGet(ISSUE_URL + "/28/comments").andRespond(withJsonOf("[]"));
+		Repository repository = Repository.of("org/repo");
+		List<Comment> first = this.service.getCommentsForIssue(commentedIssue("28", "2026-01-01T00:00:00Z", 30),
+				repository);
+		List<Comment> cached = this.service.getCommentsForIssue(commentedIssue("28", "2026-01-01T00:00:00Z", 30),
+				repository);
+		List<Comment> updated = this.service.getCommentsForIssue(commentedIssue("28", "2026-01-02T00:00:00Z", 31),
+				repository);
+		assertThat(cached).isSameAs(first);
+		assertThat(updated).isEmpty();
+		this.server.verify();
+	}
+
+	@Test
+	void getStatisticsRecordsRequestsAndDuplicates() {
+		RequestStatistics statistics = this.service.getStatistics();
+		Map<String, Long> before = statistics.getThreadRequestsByEndpoint();
+		long bytesBefore = statistics.getBytesReceived();
+		expectGet(MILESTONES_URL).andRespond(withJsonFrom("milestones.json"));
+		expectGet(MILESTONES_URL).andRespond(withJsonFrom("milestones.json"));
+		this.service.getMilestones(Repository.of("org/repo"));
+		this.service.getMilestones(Repository.of("org/repo"));
+		String endpoint = "/repos/{owner}/{name}/milestones?state=all&sort=due_on&direction=desc&per_page=50";
+		assertThat(statistics.getThreadRequestsByEndpoint().get(endpoint) - before.getOrDefault(endpoint, 0L))
+			.isEqualTo(2);
+		assertThat(statistics.getDuplicateRequests().entrySet()).anySatisfy((entry) -> {
+			assertThat(entry.getKey()).endsWith(MILESTONES_URL);
+			assertThat(entry.getValue()).isGreaterThanOrEqualTo(2);
+		});
+		assertThat(statistics.getBytesReceived()).isGreaterThan(bytesBefore);
+	}
+
+	@Test
+	void isModifiedUsesConditionalRequests() {
+		String milestoneUrl = "/repos/org/repo/milestones/71";
+		String issuesUrl = ISSUES_URL + "71&state=closed&sort=updated&direction=desc&per_page=1";
+		expectGet(milestoneUrl).andRespond(withJsonOf("{}").headers(entityTag("\"m1\"")));
+		expectGet(issuesUrl).andRespond(withJsonOf("[]").headers(entityTag("\"i1\"")));
+		expectGet(milestoneUrl).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"m1\""))
+			.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		expectGet(issuesUrl).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"i1\""))
+			.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		expectGet(milestoneUrl).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"m1\""))
+			.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		expectGet(issuesUrl).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"i1\""))
+			.andRespond(withJsonOf("[]").headers(entityTag("\"i2\"")));
+		Repository repository = Repository.of("org/repo");
+		assertThat(this.service.isModified(71, repository)).isTrue();
+		assertThat(this.service.isModified(71, repository)).isFalse();
+		assertThat(this.service.isModified(71, repository)).isTrue();
+		this.server.verify();
+	}
+
+	@Test
+	void getIssuesForMilestoneWhenCachedIssueHasBeenUpdatedReplacesCachedIssue() {
+		expectGet(ISSUE_URL + "/12733").andRespond(withJsonFrom("issue.json"));
+		expectGet(ISSUES_URL + "72&state=closed").andRespond(
+				withJsonOf("[{\"number\": 12733, \"title\": \"Updated\", \"updated_at\": \"2026-01-01T00:00:00Z\"}]"));
+		Repository repository = Repository.of("org/repo");
+		this.service.getIssue(12733, repository);
+		this.service.getIssuesForMilestone(72, repository);
+		assertThat(this.service.getIssue(12733, repository).getTitle()).isEqualTo("Updated");
+		this.server.verify();
+	}
+
+	@Test
+	void searchIssuesForMilestoneExcludesLabelsInQuery() {
+		expectGet("/repos/org/repo/milestones/73").andRespond(withJsonOf("{\"number\": 73, \"title\": \"2.1.1\"}"));
+		expectGet("/search/issues?q=repo:org/repo%20milestone:%222.1.1%22%20is:closed%20is:pr%20-label:%22wontfix%22"
+				+ "&per_page=100")
+			.andRespond(withJsonOf("{\"total_count\": 1, \"incomplete_results\": false, \"items\": "
+					+ "[{\"number\": 12738, \"title\": \"Found\", \"pull_request\": {\"url\": \"pr-url\"}}]}"));
+		List<Issue> issues = this.service.searchIssuesForMilestone(73, Repository.of("org/repo"), List.of("wontfix"),
+				"pr");
+		assertThat(issues).singleElement().satisfies((issue) -> {
+			assertThat(issue.getNumber()).isEqualTo("12738");
+			assertThat(issue.getPullRequest()).isNotNull();
+		});
+		this.server.verify();
+	}
+
+	@Test
+	void searchIssuesForMilestoneWhenResultsAreIncompleteListsIssues() {
+		expectGet("/repos/org/repo/milestones/74").andRespond(withJsonOf("{\"number\": 74, \"title\": \"2.1.2\"}"));
+		expectGet("/search/issues?q=repo:org/repo%20milestone:%222.1.2%22%20is:closed&per_page=100")
+			.andRespond(withJsonOf("{\"total_count\": 1001, \"incomplete_results\": false, \"items\": []}"));
+		expectGet(ISSUES_URL + "74&state=closed").andRespond(withJsonFrom("closed-issues-for-milestone-page-1.json"));
+		List<Issue> issues = this.service.searchIssuesForMilestone(74, Repository.of("org/repo"), List.of(), null);
+		assertThat(issues).hasSize(30);
+		this.server.verify();
+	}
+
+	@Test
+	void getIssuesForMilestoneWithoutBodiesQueriesIssuesAndPullRequests() {
+		this.server.expect(requestTo("/graphql"))
+			.andExpect(method(HttpMethod.POST))
+			.andExpect(jsonPath("$.variables.milestone").value(75))
+			.andRespond(withJsonOf(milestonePage("{\"__typename\": \"Issue\", \"number\": 12739, "
+					+ "\"title\": \"Bug\", \"state\": \"CLOSED\", \"labels\": {\"nodes\": []}}")));
+		this.server.expect(requestTo("/graphql"))
+			.andExpect(method(HttpMethod.POST))
+			.andRespond(withJsonOf(milestonePage("{\"__typename\": \"PullRequest\", \"number\": 12740, "
+					+ "\"title\": \"Fix\", \"state\": \"MERGED\", \"labels\": {\"nodes\": []}}")));
+		List<Issue> issues = this.service.getIssuesForMilestoneWithoutBodies(75, Repository.of("org/repo"));
+		assertThat(issues).extracting(Issue::getNumber).containsExactly("12740", "12739");
+		assertThat(issues).extracting(Issue::getBody).containsOnlyNulls();
+		assertThat(issues.get(0).getPullRequest()).isNotNull();
+		this.server.verify();
+	}
+
+	@Test
+	void getIssuesForMilestoneWithoutBodiesWhenAuthorIsBotAddsBotSuffix() {
+		this.server.expect(requestTo("/graphql"))
+			.andRespond(withJsonOf(milestonePage("{\"__typename\": \"Issue\", \"number\": 12739, "
+					+ "\"author\": {\"__typename\": \"Bot\", \"login\": \"dependabot\"}}")));
+		this.server.expect(requestTo("/graphql"))
+			.andRespond(withJsonOf(milestonePage("{\"__typename\": \"PullRequest\", \"number\": 12740, "
+					+ "\"author\": {\"__typename\": \"User\", \"login\": \"contributor1\"}}")));
+		List<Issue> issues = this.service.getIssuesForMilestoneWithoutBodies(75, Repository.of("org/repo"));
+		assertThat(issues).extracting((issue) -> issue.getUser().getName())
+			.containsExactly("contributor1", "dependabot[bot]");
+		this.server.verify();
+	}
+
+	@Test
+	void getIssuesForMilestoneWithoutBodiesWhenAuthorIsNullUsesGhost() {
+		this.server.expect(requestTo("/graphql"))
+			.andRespond(withJsonOf(
+					milestonePage("{\"__typename\": \"Issue\", \"number\": 12739, \"author\": null}")));
+		this.server.expect(requestTo("/graphql"))
+			.andRespond(withJsonOf("{\"data\": {\"repository\": {\"milestone\": {\"page\": "
+					+ "{\"pageInfo\": {\"hasNextPage\": false}, \"nodes\": []}}}}}"));
+		List<Issue> issues = this.service.getIssuesForMilestoneWithoutBodies(75, Repository.of("org/repo"));
+		assertThat(issues).extracting((issue) -> issue.getUser().getName()).containsExactly("ghost");
+		this.server.verify();
+	}
+
+	@Test
+	void getIssuesForMilestoneWithoutBodiesWhenQueryIsForbiddenListsIssues() {
+		this.server.expect(requestTo("/graphql")).andRespond(withStatus(HttpStatus.FORBIDDEN));
+		expectGet(ISSUES_URL + "75&state=closed").andRespond(withJsonOf("[{\"number\": 12739, \"title\": \"Bug\"}]"));
+		List<Issue> issues = this.service.getIssuesForMilestoneWithoutBodies(75, Repository.of("org/repo"));
+		assertThat(issues).extracting(Issue::getNumber).containsExactly("12739");
+		this.server.verify();
+	}
+
+	@Test
+	void getIssuesWhenQueryFailsWithServerErrorThrowsException() {
+		this.server.expect(requestTo("/graphql")).andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+		assertThatExceptionOfType(HttpServerErrorException.class)
+			.isThrownBy(() -> this.service.getIssues(List.of(12735), Repository.of("org/repo")));
+		assertThat(this.service.getStatistics().getRequestsByEndpoint()).containsEntry("/graphql", 1L);
+	}
+
+	private String milestonePage(String node) {
+		return "{\"data\": {\"repository\": {\"milestone\": {\"page\": {\"pageInfo\": {\"hasNextPage\": false}, "
+				+ "\"nodes\": [" + node + "]}}}}}";
+	}
+
+	private Issue commentedIssue(String number, String updatedAt, int commentCount) {
+		return new Issue(number, "Issue " + number, null, List.of(), null, null, null, null, updatedAt, "closed", null,
+				commentCount);
+	}
+
+	private HttpHeaders entityTag(String entityTag) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag(entityTag);
+		return headers;
+	}
+
 	private ResponseActions expectGet(String expectedUri) {
 		return this.server.expect(requestTo(expectedUri))
 			.andExpect(method(HttpMethod.GET))
@@ -164,7 +475,8 @@ class GitHubServiceTests {
 
 		@Bean
 		GitHubProperties gitHubProperties() {
-			return new GitHubProperties("https://api.github.com", "the-bearer-token");
+			return new GitHubProperties("https://api.github.com", "the-bearer-token", null, null, Duration.ofHours(1),
+					Duration.ofDays(7), 1, Duration.ZERO, false, null, null);
 		}
 
 	}
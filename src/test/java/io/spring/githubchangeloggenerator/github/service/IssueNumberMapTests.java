@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link IssueNumberMap}.
+ *
+ * @author agent
+ */
+class IssueNumberMapTests {
+
+	private final IssueNumberMap<String> map = new IssueNumberMap<>();
+
+	@Test
+	void getWhenAbsentReturnsNull() {
+		assertThat(this.map.get(12345)).isNull();
+		assertThat(this.map.containsKey(12345)).isFalse();
+	}
+
+	@Test
+	void putReplacesAndReturnsPreviousValue() {
+		assertThat(this.map.put(1, "one")).isNull();
+		assertThat(this.map.put(1, "uno")).isEqualTo("one");
+		assertThat(this.map.get(1)).isEqualTo("uno");
+		assertThat(this.map.size()).isOne();
+	}
+
+	@Test
+	void putIfAbsentKeepsExistingValue() {
+		this.map.put(1, "one");
+		assertThat(this.map.putIfAbsent(1, "uno")).isEqualTo("one");
+		assertThat(this.map.putIfAbsent(2, "two")).isNull();
+		assertThat(this.map.get(1)).isEqualTo("one");
+		assertThat(this.map.get(2)).isEqualTo("two");
+	}
+
+	@Test
+	void computeIfPresentWhenPresentReplacesValue() {
+		this.map.put(1, "one");
+		assertThat(this.map.computeIfPresent(1, (value) -> value + "!")).isEqualTo("one!");
+		assertThat(this.map.computeIfPresent(2, (value) -> value + "!")).isNull();
+		assertThat(this.map.get(1)).isEqualTo("one!");
+		assertThat(this.map.containsKey(2)).isFalse();
+	}
+
+	@Test
+	void computeIfPresentWhenRemappedToNullRemovesValue() {
+		this.map.put(1, "one");
+		assertThat(this.map.computeIfPresent(1, (value) -> null)).isNull();
+		assertThat(this.map.containsKey(1)).isFalse();
+	}
+
+	@Test
+	void behavesLikeMapAcrossResizesAndRemovals() {
+		Map<Integer, String> expected = new HashMap<>();
+		Random random = new Random(0);
+		for (int i = 0; i < 20000; i++) {
+			int key = random.nextInt(2000);
+			if (random.nextInt(3) == 0) {
+				assertThat(this.map.remove(key)).isEqualTo(expected.remove(key));
+			}
+			else {
+				assertThat(this.map.put(key, "v" + i)).isEqualTo(expected.put(key, "v" + i));
+			}
+		}
+		assertThat(this.map.size()).isEqualTo(expected.size());
+		for (int key = 0; key < 2000; key++) {
+			assertThat(this.map.get(key)).isEqualTo(expected.get(key));
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import io.spring.githubchangeloggenerator.github.payload.Comment.AuthorAssociation;
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.payload.PullRequest;
+import io.spring.githubchangeloggenerator.github.payload.User;
+import io.spring.githubchangeloggenerator.github.service.IssueStore.StoredIssue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link IssueStore}.
+ *
+ * @author agent
+ */
+class IssueStoreTests {
+
+	private static final Repository REPO = Repository.of("org/repo");
+
+	private static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+
+	private static final Duration CLOSED_TIME_TO_LIVE = Duration.ofDays(7);
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	@TempDir
+	File directory;
+
+	@Test
+	void findWhenClosedIssueHasBeenStoredReturnsIssueUntilClosedTimeToLive() {
+		store(NOW).store(REPO, 1, issue(1, "closed"));
+		StoredIssue stored = store(NOW.plus(Duration.ofDays(3))).find(REPO, 1);
+		assertThat(stored).isNotNull();
+		assertThat(stored.getIssue().getNumber()).isEqualTo("1");
+		assertThat(stored.getIssue().getTitle()).isEqualTo("Issue 1");
+		assertThat(store(NOW.plus(Duration.ofDays(8))).find(REPO, 1)).isNull();
+	}
+
+	@Test
+	void findDeletesEntriesOlderThanClosedTimeToLive() {
+		store(NOW).store(REPO, 8, issue(8, "closed"));
+		store(NOW.plus(Duration.ofDays(6))).store(REPO, 9, issue(9, "closed"));
+		File repositoryDirectory = new File(new File(new File(this.directory, "issues"), "org"), "repo");
+		assertThat(repositoryDirectory.list()).containsExactlyInAnyOrder("8.json", "9.json");
+		store(NOW.plus(Duration.ofDays(8))).find(REPO, 9);
+		assertThat(repositoryDirectory.list()).containsExactly("9.json");
+	}
+
+	@Test
+	void findDoesNotDeleteFilesThatAreNotEntries() throws IOException {
+		File other = new File(this.directory, "other.json");
+		Files.writeString(other.toPath(), "{}");
+		File misplaced = new File(new File(this.directory, "issues"), "1.json");
+		misplaced.getParentFile().mkdirs();
+		Files.writeString(misplaced.toPath(), "{}");
+		other.setLastModified(NOW.toEpochMilli());
+		misplaced.setLastModified(NOW.toEpochMilli());
+		store(NOW.plus(Duration.ofDays(8))).find(REPO, 1);
+		assertThat(other).exists();
+		assertThat(misplaced).exists();
+	}
+
+	@Test
+	void storeWhenEntryCannotBeWrittenReturnsIssue() throws IOException {
+		Files.writeString(new File(this.directory, "issues").toPath(), "");
+		Issue issue = store(NOW).store(REPO, 10, issue(10, "closed"));
+		assertThat(issue.getNumber()).isEqualTo("10");
+		assertThat(store(NOW).find(REPO, 10)).isNull();
+	}
+
+	@Test
+	void findWhenOpenIssueHasBeenStoredReturnsIssueUntilTimeToLive() {
+		store(NOW).store(REPO, 2, issue(2, "open"));
+		assertThat(store(NOW.plus(Duration.ofMinutes(30))).find(REPO, 2).getIssue().getState()).isEqualTo("open");
+		assertThat(store(NOW.plus(Duration.ofMinutes(90))).find(REPO, 2)).isNull();
+	}
+
+	@Test
+	void findWhenIssueWasNotFoundReturnsMissingIssueUntilTimeToLive() {
+		store(NOW).storeNotFound(REPO, 3);
+		StoredIssue stored = store(NOW.plus(Duration.ofMinutes(30))).find(REPO, 3);
+		assertThat(stored).isNotNull();
+		assertThat(stored.getIssue()).isNull();
+		assertThat(store(NOW.plus(Duration.ofMinutes(90))).find(REPO, 3)).isNull();
+	}
+
+	@Test
+	void findWhenIssueObjectHasBeenStoredReturnsEquivalentIssue() {
+		Issue issue = new Issue("7", "Issue 7", new User("contributor1"), List.of(new Label("type: bug")),
+				"issue-7-url", new PullRequest("pull-7-url"), "Body", AuthorAssociation.MEMBER, "2026-01-01T00:00:00Z",
+				"closed", null, 3);
+		store(NOW).store(REPO, issue);
+		Issue stored = store(NOW).find(REPO, 7).getIssue();
+		assertThat(stored.getTitle()).isEqualTo("Issue 7");
+		assertThat(stored.getUser().getName()).isEqualTo("contributor1");
+		assertThat(stored.getLabels()).extracting(Label::getName).containsExactly("type: bug");
+		assertThat(stored.getUrl()).isEqualTo("issue-7-url");
+		assertThat(stored.getPullRequest().getUrl()).isEqualTo("pull-7-url");
+		assertThat(stored.getBody()).isEqualTo("Body");
+		assertThat(stored.getAuthorAssociation()).isEqualTo(AuthorAssociation.MEMBER);
+		assertThat(stored.getUpdatedAt()).isEqualTo("2026-01-01T00:00:00Z");
+		assertThat(stored.getCommentCount()).isEqualTo(3);
+	}
+
+	@Test
+	void findWhenIssueHasBeenRemovedReturnsNull() {
+		IssueStore store = store(NOW);
+		store.store(REPO, 4, issue(4, "closed"));
+		store.remove(REPO, 4);
+		assertThat(store.find(REPO, 4)).isNull();
+	}
+
+	@Test
+	void findWhenIssueIsInAnotherRepositoryReturnsNull() {
+		IssueStore store = store(NOW);
+		store.store(REPO, 5, issue(5, "closed"));
+		assertThat(store.find(Repository.of("org/other"), 5)).isNull();
+	}
+
+	@Test
+	void storeWhenStoreHasNoDirectoryReturnsIssueWithoutStoringIt() {
+		IssueStore store = new IssueStore(null, TIME_TO_LIVE, CLOSED_TIME_TO_LIVE);
+		Issue issue = store.store(REPO, 6, issue(6, "closed"));
+		assertThat(issue.getNumber()).isEqualTo("6");
+		assertThat(store.find(REPO, 6)).isNull();
+	}
+
+	private IssueStore store(Instant now) {
+		return new IssueStore(this.directory, TIME_TO_LIVE, CLOSED_TIME_TO_LIVE, Clock.fixed(now, ZoneOffset.UTC));
+	}
+
+	private JsonNode issue(int number, String state) {
+		return JsonMapper.builder()
+			.build()
+			.readTree("{\"number\": " + number + ", \"title\": \"Issue " + number + "\", \"state\": \"" + state
+					+ "\", \"comments\": 0}");
+	}
+
+}
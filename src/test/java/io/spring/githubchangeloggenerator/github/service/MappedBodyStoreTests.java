@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.spring.githubchangeloggenerator.github.payload.Issue;
+import io.spring.githubchangeloggenerator.github.payload.Label;
+import io.spring.githubchangeloggenerator.github.payload.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MappedBodyStore}.
+ *
+ * @author agent
+ */
+class MappedBodyStoreTests {
+
+	@TempDir
+	File directory;
+
+	@Test
+	void storeWhenNoDirectoryReturnsIssue() {
+		MappedBodyStore store = new MappedBodyStore(null);
+		Issue issue = issue("1", "Body");
+		assertThat(store.store(issue)).isSameAs(issue);
+	}
+
+	@Test
+	void storeWhenIssueHasNoBodyReturnsIssue() {
+		MappedBodyStore store = new MappedBodyStore(this.directory);
+		Issue issue = issue("1", null);
+		assertThat(store.store(issue)).isSameAs(issue);
+		assertThat(this.directory.listFiles()).isEmpty();
+	}
+
+	@Test
+	void storeReturnsIssueThatReadsBodyFromStore() {
+		MappedBodyStore store = new MappedBodyStore(this.directory);
+		Issue issue = issue("1", "Body with non-ASCII characters: \u00e9\u00e8 \u2713");
+		Issue stored = store.store(issue);
+		assertThat(stored).isNotSameAs(issue);
+		assertThat(stored.getBody()).isEqualTo(issue.getBody());
+		assertThat(stored.getNumber()).isEqualTo("1");
+		assertThat(stored.getTitle()).isEqualTo("Issue 1");
+		assertThat(stored.getUser()).isSameAs(issue.getUser());
+		assertThat(stored.getLabels()).isSameAs(issue.getLabels());
+		assertThat(stored.getCommentCount()).isEqualTo(3);
+		assertThat(this.directory.listFiles()).hasSize(1);
+	}
+
+	@Test
+	void storeWhenSegmentIsFullMapsAnotherSegment() {
+		MappedBodyStore store = new MappedBodyStore(this.directory, 16);
+		Issue first = store.store(issue("1", "0123456789"));
+		Issue second = store.store(issue("2", "abcdefghij"));
+		Issue large = store.store(issue("3", "A body that is larger than a segment"));
+		Issue empty = store.store(issue("4", ""));
+		assertThat(first.getBody()).isEqualTo("0123456789");
+		assertThat(second.getBody()).isEqualTo("abcdefghij");
+		assertThat(large.getBody()).isEqualTo("A body that is larger than a segment");
+		assertThat(empty.getBody()).isEmpty();
+	}
+
+	@Test
+	void storeWhenIssueHasNotBeenUpdatedReusesStoredBody() {
+		MappedBodyStore store = new MappedBodyStore(this.directory, 16);
+		store.store(issue("1", "0123456789", "2026-01-01T00:00:00Z"));
+		Issue unchanged = store.store(issue("1", "0123456789", "2026-01-01T00:00:00Z"));
+		store.store(issue("2", "abcdef", "2026-01-01T00:00:00Z"));
+		assertThat(unchanged.getBody()).isEqualTo("0123456789");
+		assertThat(this.directory.listFiles()).singleElement().satisfies((file) -> assertThat(file).hasSize(16));
+		Issue updated = store.store(issue("1", "Updated", "2026-01-02T00:00:00Z"));
+		assertThat(updated.getBody()).isEqualTo("Updated");
+		assertThat(unchanged.getBody()).isEqualTo("0123456789");
+	}
+
+	private Issue issue(String number, String body) {
+		return issue(number, body, null);
+	}
+
+	private Issue issue(String number, String body, String updatedAt) {
+		return new Issue(number, "Issue " + number, new User("user"), List.of(new Label("type: bug")),
+				"url-" + number, null, body, null, updatedAt, "closed", null, 3);
+	}
+
+}
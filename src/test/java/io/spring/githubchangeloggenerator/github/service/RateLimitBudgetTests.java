@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RateLimitBudget}.
+ *
+ * @author agent
+ */
+class RateLimitBudgetTests {
+
+	private static final Instant NOW = Instant.ofEpochSecond(1_000_000);
+
+	private final RateLimitBudget budget = new RateLimitBudget(Clock.fixed(NOW, ZoneOffset.UTC));
+
+	@Test
+	void acquireDecrementsRemaining() throws Exception {
+		this.budget.update(headers(10, NOW.plusSeconds(60)));
+		this.budget.acquire();
+		this.budget.acquire();
+		assertThat(this.budget.getRemaining()).isEqualTo(8);
+	}
+
+	@Test
+	void acquireWhenExhaustedAndResetHasPassedDoesNotWait() throws Exception {
+		this.budget.update(headers(0, NOW.minusSeconds(1)));
+		this.budget.acquire();
+		assertThat(this.budget.getRemaining()).isEqualTo(Long.MAX_VALUE - 1);
+	}
+
+	@Test
+	void updateWhenOlderResetIsIgnored() {
+		this.budget.update(headers(100, NOW.plusSeconds(60)));
+		this.budget.update(headers(4000, NOW.minusSeconds(60)));
+		assertThat(this.budget.getRemaining()).isEqualTo(100);
+	}
+
+	@Test
+	void updateWhenSameResetAndMoreRemainingRefundsAcquiredRequests() throws Exception {
+		this.budget.update(headers(100, NOW.plusSeconds(60)));
+		this.budget.acquire();
+		this.budget.acquire();
+		this.budget.update(headers(100, NOW.plusSeconds(60)));
+		assertThat(this.budget.getRemaining()).isEqualTo(99);
+	}
+
+	@Test
+	void releaseRefundsRequestThatWasNotMade() throws Exception {
+		this.budget.update(headers(10, NOW.plusSeconds(60)));
+		this.budget.acquire(RateLimitBudget.CORE);
+		this.budget.acquire(RateLimitBudget.CORE);
+		this.budget.release(RateLimitBudget.CORE);
+		this.budget.update(headers(10, NOW.plusSeconds(60)));
+		assertThat(this.budget.getRemaining()).isEqualTo(10);
+	}
+
+	@Test
+	void tryAcquireWhenExhaustedReturnsFalse() {
+		this.budget.update(headers(0, NOW.plusSeconds(60)));
+		assertThat(this.budget.tryAcquire(RateLimitBudget.CORE)).isFalse();
+		assertThat(this.budget.getRemaining()).isZero();
+	}
+
+	@Test
+	void updateWhenHeadersMissingIsIgnored() {
+		this.budget.update(new HttpHeaders());
+		assertThat(this.budget.getRemaining()).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	void updateWhenResponseNamesResourceUpdatesThatResource() {
+		this.budget.update(headers(4000, NOW.plusSeconds(3600)));
+		HttpHeaders headers = headers(0, NOW.plusSeconds(60));
+		headers.set(RateLimitBudget.RESOURCE_HEADER, RateLimitBudget.SEARCH);
+		this.budget.update(RateLimitBudget.CORE, headers);
+		assertThat(this.budget.getRemaining()).isEqualTo(4000);
+		assertThat(this.budget.getRemaining(RateLimitBudget.SEARCH)).isZero();
+		assertThat(this.budget.getReset(RateLimitBudget.SEARCH)).isEqualTo(NOW.plusSeconds(60));
+	}
+
+	@Test
+	void getResourceReturnsResourceOfRequest() {
+		assertThat(RateLimitBudget.getResource(URI.create("https://api.github.com/search/issues?q=milestone")))
+			.isEqualTo(RateLimitBudget.SEARCH);
+		assertThat(RateLimitBudget.getResource(URI.create("https://github.example.com/api/v3/search/issues")))
+			.isEqualTo(RateLimitBudget.SEARCH);
+		assertThat(RateLimitBudget.getResource(URI.create("https://api.github.com/graphql")))
+			.isEqualTo(RateLimitBudget.GRAPHQL);
+		assertThat(RateLimitBudget.getResource(URI.create("https://api.github.com/repos/org/search/issues")))
+			.isEqualTo(RateLimitBudget.CORE);
+	}
+
+	private HttpHeaders headers(long remaining, Instant reset) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(RateLimitBudget.REMAINING_HEADER, Long.toString(remaining));
+		headers.set(RateLimitBudget.RESET_HEADER, Long.toString(reset.getEpochSecond()));
+		return headers;
+	}
+
+}
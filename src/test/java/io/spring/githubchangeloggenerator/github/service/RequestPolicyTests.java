@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link RequestPolicy}.
+ *
+ * @author agent
+ */
+class RequestPolicyTests {
+
+	private static final String ENDPOINT = "/endpoint";
+
+	private final RateLimitBudget budget = new RateLimitBudget();
+
+	private final RequestStatistics statistics = new RequestStatistics();
+
+	@Test
+	void getWhenServerErrorRetriesUntilSuccessful() {
+		RequestPolicy policy = policy(3, false);
+		AtomicInteger attempts = new AtomicInteger();
+		String response = policy.get(ENDPOINT, failing(attempts, 2, "response"));
+		assertThat(response).isEqualTo("response");
+		assertThat(attempts).hasValue(3);
+		assertThat(this.statistics.getRequestsByEndpoint()).containsEntry(ENDPOINT, 3L);
+		assertThat(this.statistics.getRetries()).containsEntry(ENDPOINT, 2L);
+	}
+
+	@Test
+	void getWhenConnectionErrorRetries() {
+		RequestPolicy policy = policy(2, false);
+		AtomicInteger attempts = new AtomicInteger();
+		String response = policy.get(ENDPOINT, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new ResourceAccessException("Connection reset");
+			}
+			return "response";
+		});
+		assertThat(response).isEqualTo("response");
+	}
+
+	@Test
+	void getWhenAttemptsAreExhaustedThrowsLastFailure() {
+		RequestPolicy policy = policy(3, false);
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(HttpServerErrorException.class)
+			.isThrownBy(() -> policy.get(ENDPOINT, failing(attempts, 5, "response")));
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void getWhenClientErrorDoesNotRetry() {
+		RequestPolicy policy = policy(3, false);
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(HttpClientErrorException.class).isThrownBy(() -> policy.get(ENDPOINT, () -> {
+			attempts.incrementAndGet();
+			throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+		}));
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void getWhenRateLimitBudgetIsLowDoesNotRetry() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(RateLimitBudget.REMAINING_HEADER, Long.toString(RequestPolicy.RESERVED_BUDGET));
+		headers.set(RateLimitBudget.RESET_HEADER, Long.toString(Instant.now().plusSeconds(600).getEpochSecond()));
+		this.budget.update(headers);
+		RequestPolicy policy = policy(3, false);
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(HttpServerErrorException.class)
+			.isThrownBy(() -> policy.get(ENDPOINT, failing(attempts, 1, "response")));
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void getWhenHedgingAndResponseIsSlowUsesHedgedResponse() {
+		RequestPolicy policy = policy(1, true);
+		for (int i = 0; i < 20; i++) {
+			policy.get(ENDPOINT, () -> "fast");
+		}
+		CountDownLatch slow = new CountDownLatch(1);
+		AtomicInteger attempts = new AtomicInteger();
+		String response = policy.get(ENDPOINT, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				await(slow);
+				return "slow";
+			}
+			return "hedged";
+		});
+		slow.countDown();
+		assertThat(response).isEqualTo("hedged");
+		assertThat(this.statistics.getHedgedRequests()).containsEntry(ENDPOINT, 1L);
+	}
+
+	@Test
+	void getWhenHedgedResponseArrivesFirstCancelsSlowRequest() throws Exception {
+		RequestPolicy policy = policy(1, true);
+		for (int i = 0; i < 20; i++) {
+			policy.get(ENDPOINT, () -> "fast");
+		}
+		CountDownLatch slow = new CountDownLatch(1);
+		CountDownLatch cancelled = new CountDownLatch(1);
+		AtomicInteger attempts = new AtomicInteger();
+		String response = policy.get(ENDPOINT, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				try {
+					slow.await();
+				}
+				catch (InterruptedException ex) {
+					cancelled.countDown();
+				}
+				return "slow";
+			}
+			return "hedged";
+		});
+		assertThat(response).isEqualTo("hedged");
+		assertThat(cancelled.await(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void getWhenNotHedgingDoesNotMakeDuplicateRequests() {
+		RequestPolicy policy = policy(1, false);
+		for (int i = 0; i < 20; i++) {
+			policy.get(ENDPOINT, () -> "fast");
+		}
+		AtomicInteger attempts = new AtomicInteger();
+		policy.get(ENDPOINT, () -> {
+			attempts.incrementAndGet();
+			sleep(Duration.ofMillis(100));
+			return "slow";
+		});
+		assertThat(attempts).hasValue(1);
+		assertThat(this.statistics.getHedgedRequests()).isEmpty();
+	}
+
+	private RequestPolicy policy(int maxAttempts, boolean hedge) {
+		return new RequestPolicy(maxAttempts, Duration.ZERO, hedge, this.budget::getRemaining, this.statistics);
+	}
+
+	private Supplier<String> failing(AtomicInteger attempts, int failures, String response) {
+		return () -> {
+			if (attempts.incrementAndGet() <= failures) {
+				throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+			}
+			return response;
+		};
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
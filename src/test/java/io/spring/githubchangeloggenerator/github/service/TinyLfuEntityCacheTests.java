@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TinyLfuEntityCache}.
+ *
+ * @author agent
+ */
+class TinyLfuEntityCacheTests {
+
+	private static final Repository REPO = Repository.of("org/repo");
+
+	private final AtomicInteger evictions = new AtomicInteger();
+
+	private final AtomicLong time = new AtomicLong();
+
+	@Test
+	void putAndGetReturnsValue() {
+		TinyLfuEntityCache<String> cache = cache(100, null);
+		assertThat(cache.put(REPO, 1, "one")).isNull();
+		assertThat(cache.put(REPO, 1, "uno")).isEqualTo("one");
+		assertThat(cache.putIfAbsent(REPO, 1, "ein")).isEqualTo("uno");
+		assertThat(cache.get(REPO, 1)).isEqualTo("uno");
+		assertThat(cache.get(Repository.of("org/other"), 1)).isNull();
+	}
+
+	@Test
+	void putWhenMaximumWeightIsExceededEvictsEntries() {
+		TinyLfuEntityCache<String> cache = cache(100, null);
+		for (int i = 0; i < 150; i++) {
+			cache.put(REPO, i, "x".repeat(5));
+		}
+		assertThat(cache.getWeight()).isLessThanOrEqualTo(100);
+		assertThat(this.evictions).hasValue(130);
+	}
+
+	@Test
+	void putWhenScanningRetainsFrequentlyUsedEntries() {
+		TinyLfuEntityCache<String> cache = cache(100, null);
+		for (int i = 0; i < 100; i++) {
+			cache.put(REPO, i, "x");
+		}
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 10; i++) {
+				cache.get(REPO, i);
+			}
+		}
+		for (int i = 1000; i < 2000; i++) {
+			cache.put(REPO, i, "x");
+		}
+		for (int i = 0; i < 10; i++) {
+			assertThat(cache.containsKey(REPO, i)).isTrue();
+		}
+		assertThat(this.evictions).hasValue(1000);
+	}
+
+	@Test
+	void getWhenTimeToLiveHasPassedReturnsNull() {
+		TinyLfuEntityCache<String> cache = cache(100, Duration.ofMinutes(1));
+		cache.put(REPO, 1, "one");
+		this.time.addAndGet(Duration.ofSeconds(59).toNanos());
+		assertThat(cache.get(REPO, 1)).isEqualTo("one");
+		this.time.addAndGet(Duration.ofSeconds(1).toNanos());
+		assertThat(cache.get(REPO, 1)).isNull();
+		assertThat(cache.getWeight()).isZero();
+		assertThat(this.evictions).hasValue(0);
+	}
+
+	@Test
+	void getWhenTimeToLiveIsNullNeverExpires() {
+		TinyLfuEntityCache<String> cache = cache(100, null);
+		cache.put(REPO, 1, "one");
+		this.time.addAndGet(Duration.ofDays(365).toNanos());
+		assertThat(cache.get(REPO, 1)).isEqualTo("one");
+	}
+
+	@Test
+	void computeIfPresentReweighsAndRemovesValue() {
+		TinyLfuEntityCache<String> cache = cache(100, null);
+		cache.put(REPO, 1, "one");
+		assertThat(cache.computeIfPresent(REPO, 1, (value) -> value + "!")).isEqualTo("one!");
+		assertThat(cache.getWeight()).isEqualTo(4);
+		assertThat(cache.computeIfPresent(REPO, 2, (value) -> value + "!")).isNull();
+		assertThat(cache.computeIfPresent(REPO, 1, (value) -> null)).isNull();
+		assertThat(cache.containsKey(REPO, 1)).isFalse();
+		assertThat(cache.getWeight()).isZero();
+	}
+
+	@Test
+	void removeRemovesValue() {
+		TinyLfuEntityCache<String> cache = cache(100, null);
+		cache.put(REPO, 1, "one");
+		cache.remove(REPO, 1);
+		assertThat(cache.get(REPO, 1)).isNull();
+		assertThat(cache.getWeight()).isZero();
+	}
+
+	private TinyLfuEntityCache<String> cache(long maximumWeight, Duration timeToLive) {
+		return new TinyLfuEntityCache<>(maximumWeight, String::length, (value) -> timeToLive,
+				this.evictions::incrementAndGet, this.time::get);
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.githubchangeloggenerator.github.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import io.spring.githubchangeloggenerator.github.service.TokenPool.Token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TokenPool}.
+ *
+ * @author agent
+ */
+class TokenPoolTests {
+
+	private static final Instant NOW = Instant.ofEpochSecond(1_000_000);
+
+	private final TokenPool pool = new TokenPool(List.of("one", "two", "three"),
+			() -> new RateLimitBudget(Clock.fixed(NOW, ZoneOffset.UTC)));
+
+	@Test
+	void acquireUsesTokenWithMostRequestsRemaining() throws Exception {
+		Token one = this.pool.acquire();
+		one.getBudget().update(headers(4000, NOW.plusSeconds(60)));
+		Token two = this.pool.acquire();
+		two.getBudget().update(headers(4500, NOW.plusSeconds(60)));
+		Token three = this.pool.acquire();
+		three.getBudget().update(headers(100, NOW.plusSeconds(60)));
+		assertThat(one.getValue()).isEqualTo("one");
+		assertThat(two.getValue()).isEqualTo("two");
+		assertThat(three.getValue()).isEqualTo("three");
+		assertThat(this.pool.acquire().getValue()).isEqualTo("two");
+	}
+
+	@Test
+	void acquireWhenAllTokensAreExhaustedUsesTokenThatIsResetFirst() throws Exception {
+		this.pool.acquire().getBudget().update(headers(0, NOW.plusSeconds(60)));
+		this.pool.acquire().getBudget().update(headers(0, NOW.minusSeconds(1)));
+		this.pool.acquire().getBudget().update(headers(0, NOW.plusSeconds(30)));
+		assertThat(this.pool.acquire().getValue()).isEqualTo("two");
+	}
+
+	@Test
+	void acquireWhenOtherTokensAreExhaustedUsesTokenWithRequestsRemaining() throws Exception {
+		this.pool.acquire().getBudget().update(headers(1, NOW.plusSeconds(60)));
+		this.pool.acquire().getBudget().update(headers(0, NOW.plusSeconds(60)));
+		this.pool.acquire().getBudget().update(headers(0, NOW.plusSeconds(60)));
+		Token token = this.pool.acquire();
+		assertThat(token.getValue()).isEqualTo("one");
+		assertThat(token.getBudget().getRemaining()).isZero();
+	}
+
+	@Test
+	void getRemainingReturnsTotalOfAllTokens() throws Exception {
+		this.pool.acquire().getBudget().update(headers(10, NOW.plusSeconds(60)));
+		this.pool.acquire().getBudget().update(headers(20, NOW.plusSeconds(60)));
+		this.pool.acquire().getBudget().update(headers(30, NOW.plusSeconds(60)));
+		assertThat(this.pool.getRemaining()).isEqualTo(60);
+	}
+
+	@Test
+	void getRemainingWhenBudgetIsUnknownDoesNotOverflow() {
+		assertThat(this.pool.getRemaining()).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	void acquireWhenNoTokensReturnsUnauthenticatedToken() throws Exception {
+		TokenPool pool = new TokenPool(Collections.emptyList());
+		assertThat(pool.isAuthenticated()).isFalse();
+		assertThat(pool.acquire().getValue()).isNull();
+	}
+
+	@Test
+	void createIgnoresDuplicateAndEmptyTokens() throws Exception {
+		TokenPool pool = new TokenPool(List.of("one", "", "one"));
+		assertThat(pool.isAuthenticated()).isTrue();
+		pool.acquire().getBudget().update(headers(0, Instant.now().plusSeconds(60)));
+		assertThat(pool.getRemaining()).isZero();
+	}
+
+	private HttpHeaders headers(long remaining, Instant reset) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(RateLimitBudget.REMAINING_HEADER, Long.toString(remaining));
+		headers.set(RateLimitBudget.RESET_HEADER, Long.toString(reset.getEpochSecond()));
+		return headers;
+	}
+
+}